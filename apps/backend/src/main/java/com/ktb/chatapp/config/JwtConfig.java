@@ -1,6 +1,8 @@
 package com.ktb.chatapp.config;
 
+import com.ktb.chatapp.security.CachingJwtDecoder;
 import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.nio.charset.StandardCharsets;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
@@ -36,9 +38,12 @@ public class JwtConfig {
     /**
      * NimbusJwtDecoder 빈 생성
      * Spring Security 6의 표준 JWT 디코더 사용
+     * 검증된 Jwt는 CachingJwtDecoder가 토큰 만료 시각까지 재사용 (REST 인증, 소켓 핸드셰이크, JwtService 공통)
      */
     @Bean
-    public JwtDecoder jwtDecoder() {
+    public JwtDecoder jwtDecoder(
+            MeterRegistry meterRegistry,
+            @Value("${app.jwt.cache.max-entries:10000}") int cacheMaxEntries) {
         SecretKeySpec secretKey = new SecretKeySpec(
             jwtSecret.getBytes(StandardCharsets.UTF_8),
             "HmacSHA256"
@@ -55,7 +60,7 @@ public class JwtConfig {
         // 기본 검증기와 커스텀 검증기를 조합
         decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(defaultValidators, validator));
 
-        return decoder;
+        return new CachingJwtDecoder(decoder, cacheMaxEntries, meterRegistry);
     }
 
     /**
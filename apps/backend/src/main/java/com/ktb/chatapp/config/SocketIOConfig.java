@@ -1,48 +1,64 @@
 package com.ktb.chatapp.config;
 
 import com.corundumstudio.socketio.AuthTokenListener;
+import com.corundumstudio.socketio.BroadcastOperations;
 import com.corundumstudio.socketio.SocketConfig;
 import com.corundumstudio.socketio.SocketIOServer;
-import com.corundumstudio.socketio.annotation.SpringAnnotationScanner;
 import com.corundumstudio.socketio.namespace.Namespace;
 import com.corundumstudio.socketio.protocol.JacksonJsonSupport;
 import com.corundumstudio.socketio.store.MemoryStoreFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ktb.chatapp.pubsub.RedisStoreFactory;
+import com.ktb.chatapp.websocket.socketio.EventLoopMonitor;
+import com.ktb.chatapp.websocket.socketio.MonitoredChannelInitializer;
+import com.ktb.chatapp.websocket.socketio.PreEncodedBroadcastOperations;
+import com.ktb.chatapp.websocket.socketio.SlowConsumerGuard;
+import com.ktb.chatapp.websocket.socketio.SocketEventDispatcher;
+import com.ktb.chatapp.websocket.socketio.SocketEventScanner;
+import com.ktb.chatapp.websocket.socketio.WebSocketCompression;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Role;
+import org.springframework.util.unit.DataSize;
 
 import static org.springframework.beans.factory.config.BeanDefinition.ROLE_INFRASTRUCTURE;
 
 @Slf4j
 @Configuration
+@EnableConfigurationProperties(SocketIOProperties.class)
 @ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
 public class SocketIOConfig {
 
-    @Value("${socketio.server.host:localhost}")
-    private String host;
-
-    @Value("${socketio.server.port:5002}")
-    private Integer port;
-
     @Bean(initMethod = "start", destroyMethod = "stop")
-    public SocketIOServer socketIOServer(AuthTokenListener authTokenListener) {
+    public SocketIOServer socketIOServer(AuthTokenListener authTokenListener,
+                                         EventLoopMonitor eventLoopMonitor,
+                                         SlowConsumerGuard slowConsumerGuard,
+                                         ObjectProvider<RedissonClient> redissonClient,
+                                         MeterRegistry meterRegistry,
+                                         SocketIOProperties properties) {
         com.corundumstudio.socketio.Configuration config = new com.corundumstudio.socketio.Configuration();
-        config.setHostname(host);
-        config.setPort(port);
-        
-        var socketConfig = new SocketConfig();
-        socketConfig.setReuseAddress(true);
-        socketConfig.setTcpNoDelay(false);
-        socketConfig.setAcceptBackLog(500); // 대기열 크기 증가
-        socketConfig.setTcpSendBufferSize(4096);
-        socketConfig.setTcpReceiveBufferSize(4096);
-        config.setSocketConfig(socketConfig);
+        config.setHostname(properties.host());
+        config.setPort(properties.port());
+        config.setBossThreads(properties.bossThreads());
+        config.setWorkerThreads(properties.workerThreads());
+        config.setSocketConfig(socketConfig(properties));
+        config.setPreferDirectBuffer(properties.buffer().preferDirect());
+        // 기본 압축 핸들러(임계값 없음) 대신 WebSocketCompression이 파이프라인에 설치
+        config.setWebsocketCompression(false);
 
         config.setOrigin("*");
 
@@ -52,32 +68,101 @@ public class SocketIOConfig {
         config.setUpgradeTimeout(10000);
 
         config.setJsonSupport(new JacksonJsonSupport(new JavaTimeModule()));
-        config.setStoreFactory(new MemoryStoreFactory()); // 단일노드 전용
+        // 방 브로드캐스트를 Redis로 다른 노드에 전달 (Redis가 없으면 단일 노드용 메모리 스토어)
+        RedissonClient redisson = redissonClient.getIfAvailable();
+        config.setStoreFactory(redisson != null
+                ? new RedisStoreFactory(redisson, meterRegistry)
+                : new MemoryStoreFactory());
 
-        // Linux 환경일 경우 native epoll 사용
-        if (System.getProperty("os.name").toLowerCase().contains("linux")) {
-            config.setUseLinuxNativeEpoll(true);
-            log.info("Using Linux native epoll for Socket.IO");
+        // Linux native epoll 사용 (네이티브 라이브러리를 못 쓰면 NIO)
+        if (properties.epoll().enabled()) {
+            if (Epoll.isAvailable()) {
+                config.setUseLinuxNativeEpoll(true);
+                log.info("Using Linux native epoll for Socket.IO");
+            } else {
+                log.warn("Native epoll unavailable, falling back to NIO: {}", Epoll.unavailabilityCause().getMessage());
+            }
         }
 
-        log.info("Socket.IO server configured on {}:{} with {} boss threads and {} worker threads",
-                 host, port, config.getBossThreads(), config.getWorkerThreads());
-        var socketIOServer = new SocketIOServer(config);
+        log.info("Socket.IO server configured on {}:{} with {} boss threads and {} worker threads, tcpNoDelay: {}, compression: {}",
+                 properties.host(), properties.port(), config.getBossThreads(), config.getWorkerThreads(),
+                 properties.tcp().noDelay(), properties.compression().enabled());
+        var socketIOServer = new SocketIOServer(config) {
+            @Override
+            protected void applyConnectionOptions(ServerBootstrap bootstrap) {
+                super.applyConnectionOptions(bootstrap);
+                applyTransportOptions(bootstrap, properties, config.isUseLinuxNativeEpoll());
+            }
+
+            // 방 브로드캐스트는 수신자 수와 관계없이 한 번만 직렬화
+            @Override
+            public BroadcastOperations getRoomOperations(String... rooms) {
+                return new PreEncodedBroadcastOperations(super.getRoomOperations(rooms));
+            }
+        };
+        // 채널이 배정된 워커 이벤트 루프를 지연 감지기에 등록하고, 느린 소비자 보호 핸들러 추가
+        socketIOServer.setPipelineFactory(new MonitoredChannelInitializer(
+                eventLoopMonitor, slowConsumerGuard, webSocketCompression(properties, meterRegistry)));
         socketIOServer.getNamespace(Namespace.DEFAULT_NAME).addAuthTokenListener(authTokenListener);
         
         return socketIOServer;
     }
     
     /**
-     * SpringAnnotationScanner는 BeanPostProcessor로서
+     * netty-socketio SocketConfig 변환 (0인 크기 값은 지정하지 않음)
+     */
+    static SocketConfig socketConfig(SocketIOProperties properties) {
+        SocketIOProperties.Tcp tcp = properties.tcp();
+        SocketIOProperties.Buffer buffer = properties.buffer();
+        var socketConfig = new SocketConfig();
+        socketConfig.setTcpNoDelay(tcp.noDelay());
+        socketConfig.setTcpSendBufferSize(orUnset(tcp.sendBufferSize()));
+        socketConfig.setTcpReceiveBufferSize(orUnset(tcp.receiveBufferSize()));
+        socketConfig.setAcceptBackLog(tcp.acceptBacklog());
+        socketConfig.setReuseAddress(tcp.reuseAddress());
+        socketConfig.setTcpKeepAlive(tcp.keepAlive());
+        socketConfig.setSoLinger(tcp.soLinger());
+        socketConfig.setWriteBufferWaterMarkLow(orUnset(buffer.writeLowWaterMark()));
+        socketConfig.setWriteBufferWaterMarkHigh(orUnset(buffer.writeHighWaterMark()));
+        return socketConfig;
+    }
+
+    // netty-socketio는 -1을 미지정으로 취급한다
+    private static int orUnset(DataSize size) {
+        return size.toBytes() > 0 ? Math.toIntExact(size.toBytes()) : -1;
+    }
+
+    static WebSocketCompression webSocketCompression(SocketIOProperties properties, MeterRegistry meterRegistry) {
+        SocketIOProperties.Compression compression = properties.compression();
+        return new WebSocketCompression(compression.enabled(), compression.level(), compression.minSize().toBytes(),
+                compression.clientMaxWindowBits(), compression.clientNoContextTakeover(), meterRegistry);
+    }
+
+    /**
+     * SocketConfig로 지정할 수 없는 채널 옵션 (버퍼 할당자, epoll 전용 옵션)
+     */
+    static void applyTransportOptions(ServerBootstrap bootstrap, SocketIOProperties properties, boolean epoll) {
+        SocketIOProperties.Buffer buffer = properties.buffer();
+        bootstrap.childOption(ChannelOption.ALLOCATOR, buffer.pooledAllocator()
+                ? new PooledByteBufAllocator(buffer.preferDirect())
+                : new UnpooledByteBufAllocator(buffer.preferDirect()));
+        if (epoll && properties.epoll().tcpQuickAck()) {
+            bootstrap.childOption(EpollChannelOption.TCP_QUICKACK, true);
+        }
+    }
+
+    /**
+     * SocketEventScanner는 BeanPostProcessor로서
      * ApplicationContext 초기화 초기에 등록되고,
-     * 내부에서 사용하는 SocketIOServer는 Lazy로 지연되어
+     * 내부에서 사용하는 SocketIOServer와 디스패처는 Lazy로 지연되어
      * 다른 Bean들의 초기화 과정에 간섭하지 않게 한다.
+     * (SpringAnnotationScanner 대신 사용: 핸들러를 이벤트 루프 밖 가상 스레드에서 실행)
      */
     @Bean
     @Role(ROLE_INFRASTRUCTURE)
-    public static BeanPostProcessor springAnnotationScanner(@Lazy SocketIOServer socketIOServer) {
-        return new SpringAnnotationScanner(socketIOServer);
+    public static BeanPostProcessor socketEventScanner(@Lazy SocketIOServer socketIOServer,
+                                                      @Lazy SocketEventDispatcher socketEventDispatcher) {
+        return new SocketEventScanner(socketIOServer, socketEventDispatcher);
     }
     
     // RedisChatDataStore가 @ConditionalOnBean(RedissonClient.class)로 자동 등록됨
@@ -0,0 +1,74 @@
+package com.ktb.chatapp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Socket.IO 서버 Netty 소켓/전송 설정 (socketio.server.*)
+ * 크기 값이 0이면 해당 옵션을 지정하지 않고 OS/Netty 기본값(자동 튜닝)을 사용한다.
+ * 권장값과 벤치마크 방법은 docs/SOCKETIO_TUNING.md 참고.
+ */
+@ConfigurationProperties(prefix = "socketio.server")
+public record SocketIOProperties(
+        @DefaultValue("localhost") String host,
+        @DefaultValue("5002") int port,
+        // 0이면 Netty 기본값 (CPU 코어 x 2), 리스닝 소켓이 하나이므로 boss는 1개로 충분
+        @DefaultValue("1") int bossThreads,
+        @DefaultValue("0") int workerThreads,
+        @DefaultValue Tcp tcp,
+        @DefaultValue Buffer buffer,
+        @DefaultValue Epoll epoll,
+        @DefaultValue Compression compression
+) {
+
+    /**
+     * TCP 소켓 옵션
+     */
+    public record Tcp(
+            // 작은 이벤트 프레임이 Nagle 알고리즘에 묶여 지연되지 않도록 기본 활성화
+            @DefaultValue("true") boolean noDelay,
+            @DefaultValue("0") DataSize sendBufferSize,
+            // 지정하면 netty-socketio가 읽기 버퍼를 이 크기로 고정하므로 0(적응형) 권장
+            @DefaultValue("0") DataSize receiveBufferSize,
+            @DefaultValue("1024") int acceptBacklog,
+            @DefaultValue("true") boolean reuseAddress,
+            @DefaultValue("false") boolean keepAlive,
+            @DefaultValue("-1") int soLinger
+    ) { }
+
+    /**
+     * Netty 버퍼 할당과 채널 쓰기 버퍼 워터마크
+     * 쓰기 대기량이 high를 넘으면 채널이 unwritable이 되고, low 아래로 내려가면 다시 writable이 된다.
+     */
+    public record Buffer(
+            @DefaultValue("true") boolean pooledAllocator,
+            @DefaultValue("true") boolean preferDirect,
+            @DefaultValue("32KB") DataSize writeLowWaterMark,
+            @DefaultValue("128KB") DataSize writeHighWaterMark
+    ) { }
+
+    /**
+     * Linux native epoll 전송 (네이티브 라이브러리를 쓸 수 없으면 NIO로 동작)
+     */
+    public record Epoll(
+            @DefaultValue("true") boolean enabled,
+            // 지연 ACK를 끄고 즉시 ACK (요청-응답형 짧은 프레임 지연 감소)
+            @DefaultValue("false") boolean tcpQuickAck
+    ) { }
+
+    /**
+     * WebSocket permessage-deflate 압축
+     * 압축 문맥(슬라이딩 윈도)은 연결마다 하나씩 유지되어 연속된 메시지의 반복되는 JSON 키를 참조한다.
+     */
+    public record Compression(
+            @DefaultValue("true") boolean enabled,
+            // 1(빠름) ~ 9(높은 압축률)
+            @DefaultValue("6") int level,
+            // 이보다 작은 프레임은 압축하지 않음 (작은 JSON은 압축 이득보다 CPU 비용이 큼)
+            @DefaultValue("1KB") DataSize minSize,
+            // 클라이언트 → 서버 방향 압축 윈도 크기와 문맥 유지 여부 (클라이언트가 제안한 경우에만 적용)
+            @DefaultValue("15") int clientMaxWindowBits,
+            @DefaultValue("false") boolean clientNoContextTakeover
+    ) { }
+}
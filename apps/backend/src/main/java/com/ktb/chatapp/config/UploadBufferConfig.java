@@ -0,0 +1,23 @@
+package com.ktb.chatapp.config;
+
+import com.ktb.chatapp.util.DirectBufferPool;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class UploadBufferConfig {
+
+    /**
+     * 로컬 디스크 업로드용 Direct 버퍼 풀 (업로드 하나당 버퍼 하나, 동시 업로드 수만큼 필요)
+     */
+    @Bean
+    public DirectBufferPool localUploadBufferPool(
+            @Value("${file.stream.buffer-size-kb:64}") int bufferSizeKb,
+            @Value("${file.stream.max-buffers:64}") int maxBuffers,
+            @Value("${file.stream.acquire-timeout-ms:5000}") long acquireTimeoutMs,
+            MeterRegistry meterRegistry) {
+        return new DirectBufferPool("local-upload", bufferSizeKb * 1024, maxBuffers, acquireTimeoutMs, meterRegistry);
+    }
+}
@@ -9,6 +9,7 @@ import com.ktb.chatapp.service.JwtService;
 import com.ktb.chatapp.service.SessionCreationResult;
 import com.ktb.chatapp.service.SessionMetadata;
 import com.ktb.chatapp.service.SessionService;
+import com.ktb.chatapp.service.TokenClaims;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -19,6 +20,7 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.time.Instant;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +37,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
@@ -289,14 +292,19 @@ public class AuthController {
                         .body(new TokenVerifyResponse(false, "토큰 또는 세션 ID가 필요합니다.", null));
             }
 
-            // 토큰 유효성 검증
-            if (!jwtService.validateToken(token)) {
+            // 토큰 유효성 검증과 사용자 정보 추출 (한 번만 디코딩)
+            TokenClaims claims;
+            try {
+                claims = jwtService.extractClaims(token);
+            } catch (JwtException e) {
+                claims = null;
+            }
+            if (claims == null || claims.isExpired(Instant.now())) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(new TokenVerifyResponse(false, "유효하지 않은 토큰입니다.", null));
             }
 
-            // 토큰에서 사용자 정보 추출
-            String userId = jwtService.extractUserId(token);
+            String userId = claims.userId();
 			
 			var validationResult = sessionService.validateSession(userId, sessionId);
 
@@ -1,12 +1,20 @@
 package com.ktb.chatapp.controller;
 
+import com.ktb.chatapp.dto.ConfirmUploadRequest;
+import com.ktb.chatapp.dto.PresignedDownloadResponse;
+import com.ktb.chatapp.dto.PresignedUploadRequest;
+import com.ktb.chatapp.dto.PresignedUploadResponse;
 import com.ktb.chatapp.dto.StandardResponse;
 import com.ktb.chatapp.model.File;
 import com.ktb.chatapp.model.User;
-import com.ktb.chatapp.repository.FileRepository;
 import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.DownloadableFile;
 import com.ktb.chatapp.service.FileService;
 import com.ktb.chatapp.service.FileUploadResult;
+import com.ktb.chatapp.service.s3.S3PresignService;
+import com.ktb.chatapp.service.thumbnail.ImageVariant;
+import com.ktb.chatapp.service.thumbnail.ThumbnailPipeline;
+import com.ktb.chatapp.util.FileUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,20 +23,24 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import java.io.PushbackInputStream;
+import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.security.Principal;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.exception.SdkException;
 
 @Tag(name = "파일 (Files)", description = "파일 업로드 및 다운로드 API")
 @Slf4j
@@ -38,8 +50,10 @@ import org.springframework.web.multipart.MultipartFile;
 public class FileController {
 
     private final FileService fileService;
-    private final FileRepository fileRepository;
     private final UserRepository userRepository;
+    private final FileRangeResponder fileRangeResponder;
+    private final S3PresignService s3PresignService;
+    private final ThumbnailPipeline thumbnailPipeline;
 
     /**
      * 파일 업로드
@@ -67,20 +81,13 @@ public class FileController {
             FileUploadResult result = fileService.uploadFile(file, user.getId());
 
             if (result.isSuccess()) {
+                thumbnailPipeline.enqueue(result.getFile());
+
                 Map<String, Object> response = new HashMap<>();
                 response.put("success", true);
                 response.put("message", "파일 업로드 성공");
                 
-                Map<String, Object> fileData = new HashMap<>();
-                fileData.put("_id", result.getFile().getId());
-                fileData.put("filename", result.getFile().getFilename());
-                fileData.put("originalname", result.getFile().getOriginalname());
-                fileData.put("mimetype", result.getFile().getMimetype());
-                fileData.put("size", result.getFile().getSize());
-                fileData.put("uploadDate", result.getFile().getUploadDate());
-                fileData.put("url", result.getFile().getUrl());  // S3 Public URL
-
-                response.put("file", fileData);
+                response.put("file", toFileData(result.getFile()));
 
                 return ResponseEntity.ok(response);
             } else {
@@ -100,12 +107,190 @@ public class FileController {
         }
     }
 
+    /**
+     * 요청 본문 스트리밍 업로드 (multipart 파싱/임시 파일 없이 본문을 바로 저장소로 전달)
+     */
+    @Operation(summary = "파일 스트리밍 업로드", description = "요청 본문 전체를 파일 내용으로 업로드합니다. Content-Type은 파일 MIME 타입, Content-Length는 필수이며 파일명은 URL 인코딩하여 X-File-Name 헤더로 전달합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "파일 업로드 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 파일",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "401", description = "인증 실패",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "411", description = "Content-Length 누락",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "503", description = "업로드 버퍼 부족, 잠시 후 재시도",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class)))
+    })
+    @PutMapping("/stream")
+    public ResponseEntity<?> uploadStream(
+            @Parameter(description = "URL 인코딩된 원본 파일명") @RequestHeader("X-File-Name") String encodedFilename,
+            HttpServletRequest request,
+            Principal principal) {
+        long size = request.getContentLengthLong();
+        if (size < 0) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "Content-Length 헤더가 필요합니다.");
+            return ResponseEntity.status(411).body(errorResponse);
+        }
+
+        try {
+            User user = userRepository.findByEmail(principal.getName())
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found: " + principal.getName()));
+
+            String originalFilename = URLDecoder.decode(encodedFilename, StandardCharsets.UTF_8);
+            // charset 등 파라미터는 제외하고 MIME 타입만 사용
+            String contentType = request.getContentType() != null
+                    ? request.getContentType().split(";")[0].trim().toLowerCase()
+                    : null;
+            FileUtil.validateFileMetadata(originalFilename, contentType, size);
+
+            // 본문을 받기 전에 앞부분만 읽어 실제 내용이 선언된 형식인지 확인
+            PushbackInputStream body = new PushbackInputStream(request.getInputStream(), FileUtil.SIGNATURE_PEEK_BYTES);
+            byte[] head = body.readNBytes((int) Math.min(FileUtil.SIGNATURE_PEEK_BYTES, size));
+            FileUtil.validateSignature(contentType, head, head.length);
+            body.unread(head);
+
+            FileUploadResult result = fileService.uploadStream(originalFilename, contentType, size, body, user.getId());
+            thumbnailPipeline.enqueue(result.getFile());
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "파일 업로드 성공");
+            response.put("file", toFileData(result.getFile()));
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("파일 스트리밍 업로드 중 에러 발생", e);
+            return handleFileError(e);
+        }
+    }
+
+    /**
+     * S3 직접 업로드용 Presigned URL 발급
+     */
+    @Operation(summary = "직접 업로드 URL 발급", description = "저장소에 직접 업로드할 수 있는 서명된 PUT URL을 발급합니다. 응답의 headers를 그대로 포함해 업로드해야 합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "발급 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 파일",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "401", description = "인증 실패",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "500", description = "서버 내부 오류",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class)))
+    })
+    @PostMapping("/presign")
+    public ResponseEntity<?> presignUpload(
+            @Valid @RequestBody PresignedUploadRequest request,
+            Principal principal) {
+        try {
+            User user = userRepository.findByEmail(principal.getName())
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found: " + principal.getName()));
+
+            PresignedUploadResponse presigned = s3PresignService.presignUpload(
+                    request.filename(), request.contentType(), request.size(), user.getId());
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("upload", presigned);
+            return ResponseEntity.ok(response);
+
+        } catch (SdkException e) {
+            log.error("Presigned 업로드 URL 발급 중 에러 발생", e);
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "업로드 URL 발급 중 오류가 발생했습니다.");
+            return ResponseEntity.status(500).body(errorResponse);
+        } catch (RuntimeException e) {
+            // 파일 검증 실패 (형식/확장자/크기)
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+            return ResponseEntity.status(400).body(errorResponse);
+        }
+    }
+
+    /**
+     * S3 직접 업로드 완료 확인
+     */
+    @Operation(summary = "직접 업로드 완료 확인", description = "Presigned URL로 업로드한 객체를 확인하고 파일 정보를 등록합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "파일 업로드 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 파일",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "403", description = "권한 없음",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "404", description = "업로드된 파일을 찾을 수 없음",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class)))
+    })
+    @PostMapping("/confirm")
+    public ResponseEntity<?> confirmUpload(
+            @Valid @RequestBody ConfirmUploadRequest request,
+            Principal principal) {
+        try {
+            User user = userRepository.findByEmail(principal.getName())
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found: " + principal.getName()));
+
+            File file = s3PresignService.confirmUpload(request.key(), user.getId());
+            thumbnailPipeline.enqueue(file);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "파일 업로드 성공");
+            response.put("file", toFileData(file));
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("파일 업로드 확인 중 에러 발생: {}", request.key(), e);
+            return handleFileError(e);
+        }
+    }
+
+    /**
+     * 권한 확인 후 짧은 만료 시간의 Presigned 다운로드 URL 발급
+     */
+    @Operation(summary = "다운로드 URL 발급", description = "방 참가자 권한 확인 후 저장소에서 직접 내려받을 수 있는 서명된 GET URL을 발급합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "발급 성공"),
+        @ApiResponse(responseCode = "403", description = "권한 없음",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "404", description = "파일을 찾을 수 없음",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class)))
+    })
+    @GetMapping("/presign/{filename:.+}")
+    public ResponseEntity<?> presignDownload(
+            @Parameter(description = "다운로드할 파일명") @PathVariable String filename,
+            @Parameter(description = "브라우저 미리보기(inline) 여부") @RequestParam(defaultValue = "false") boolean inline,
+            Principal principal) {
+        try {
+            User user = userRepository.findByEmail(principal.getName())
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found: " + principal.getName()));
+
+            PresignedDownloadResponse presigned = s3PresignService.presignDownload(filename, user.getId(), inline);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("url", presigned.url());
+            response.put("expiresAt", presigned.expiresAt());
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noStore())
+                    .body(response);
+
+        } catch (Exception e) {
+            log.error("다운로드 URL 발급 중 에러 발생: {}", filename, e);
+            return handleFileError(e);
+        }
+    }
+
     /**
      * 보안이 강화된 파일 다운로드
      */
-    @Operation(summary = "파일 다운로드", description = "업로드된 파일을 다운로드합니다. 본인이 업로드한 파일만 다운로드 가능합니다.")
+    @Operation(summary = "파일 다운로드", description = "업로드된 파일을 다운로드합니다. 본인이 업로드한 파일만 다운로드 가능합니다. Range/If-Range 요청을 지원합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "파일 다운로드 성공"),
+        @ApiResponse(responseCode = "206", description = "요청한 구간 다운로드 성공"),
+        @ApiResponse(responseCode = "416", description = "요청한 구간이 파일 범위를 벗어남"),
         @ApiResponse(responseCode = "401", description = "인증 실패",
             content = @Content(schema = @Schema(implementation = StandardResponse.class))),
         @ApiResponse(responseCode = "403", description = "권한 없음",
@@ -119,41 +304,49 @@ public class FileController {
     public ResponseEntity<?> downloadFile(
             @Parameter(description = "다운로드할 파일명") @PathVariable String filename,
             HttpServletRequest request,
+            HttpServletResponse response,
             Principal principal) {
         try {
             User user = userRepository.findByEmail(principal.getName())
                     .orElseThrow(() -> new UsernameNotFoundException("User not found: " + principal.getName()));
 
-            Resource resource = fileService.loadFileAsResource(filename, user.getId());
-
-            File fileEntity = fileRepository.findByFilename(filename)
-                    .orElse(null);
-
-            String originalFilename = fileEntity != null ? fileEntity.getOriginalname() : filename;
-            String encodedFilename = URLEncoder.encode(originalFilename, StandardCharsets.UTF_8)
-                    .replaceAll("\\+", "%20");
+            DownloadableFile download = fileService.openDownload(filename, user.getId());
 
             String contentDisposition = String.format(
                     "attachment; filename*=UTF-8''%s",
-                    encodedFilename
+                    encodeFilename(download.file().getOriginalname())
             );
 
-            long contentLength = fileEntity != null ? fileEntity.getSize() : resource.contentLength();
-
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(fileEntity.getMimetype()))
-                    .contentLength(contentLength)
-                    .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
-                    .header(HttpHeaders.CACHE_CONTROL, "private, no-cache, no-store, must-revalidate")
-                    .header(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, "Content-Disposition")
-                    .body(resource);
+            fileRangeResponder.respond(request, response, download, contentDisposition,
+                    "private, no-cache, no-store, must-revalidate");
+            return null;
 
         } catch (Exception e) {
             log.error("파일 다운로드 중 에러 발생: {}", filename, e);
+            if (response.isCommitted()) {
+                return null;
+            }
             return handleFileError(e);
         }
     }
 
+    private Map<String, Object> toFileData(File file) {
+        Map<String, Object> fileData = new HashMap<>();
+        fileData.put("_id", file.getId());
+        fileData.put("filename", file.getFilename());
+        fileData.put("originalname", file.getOriginalname());
+        fileData.put("mimetype", file.getMimetype());
+        fileData.put("size", file.getSize());
+        fileData.put("uploadDate", file.getUploadDate());
+        fileData.put("url", file.getUrl());  // S3 Public URL
+        return fileData;
+    }
+
+    private String encodeFilename(String originalFilename) {
+        return URLEncoder.encode(originalFilename, StandardCharsets.UTF_8)
+                .replaceAll("\\+", "%20");
+    }
+
     private ResponseEntity<?> handleFileError(Exception e) {
         String errorMessage = e.getMessage();
         int statusCode = 500;
@@ -178,6 +371,14 @@ public class FileController {
             } else if (errorMessage.contains("권한") || errorMessage.contains("Unauthorized")) {
                 statusCode = 403;
                 responseMessage = "파일에 접근할 권한이 없습니다.";
+            } else if (errorMessage.contains("형식") || errorMessage.contains("확장자")
+                    || errorMessage.contains("초과할 수 없습니다") || errorMessage.contains("비어있습니다")
+                    || errorMessage.contains("파일명이") || errorMessage.contains("선언된 크기")) {
+                statusCode = 400;
+                responseMessage = errorMessage;
+            } else if (errorMessage.contains("잠시 후")) {
+                statusCode = 503;
+                responseMessage = "업로드가 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
             }
         }
 
@@ -191,16 +392,17 @@ public class FileController {
     @GetMapping("/view/{filename:.+}")
     public ResponseEntity<?> viewFile(
             @PathVariable String filename,
+            @Parameter(description = "이미지 크기 (thumb, preview, 생략 시 원본)")
+            @RequestParam(required = false) String size,
             HttpServletRequest request,
+            HttpServletResponse response,
             Principal principal) {
         try {
             User user = userRepository.findByEmail(principal.getName())
                     .orElseThrow(() -> new UsernameNotFoundException("User not found: " + principal.getName()));
 
-            Resource resource = fileService.loadFileAsResource(filename, user.getId());
-
-            File fileEntity = fileRepository.findByFilename(filename)
-                    .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다."));
+            DownloadableFile download = fileService.openDownload(filename, user.getId());
+            File fileEntity = download.file();
 
             if (!fileEntity.isPreviewable()) {
                 Map<String, Object> errorResponse = new HashMap<>();
@@ -209,27 +411,32 @@ public class FileController {
                 return ResponseEntity.status(415).body(errorResponse);
             }
 
-
-            String originalFilename = fileEntity.getOriginalname();
-            String encodedFilename = URLEncoder.encode(originalFilename, StandardCharsets.UTF_8)
-                    .replaceAll("\\+", "%20");
-
             String contentDisposition = String.format(
                     "inline; filename*=UTF-8''%s",
-                    encodedFilename
+                    encodeFilename(fileEntity.getOriginalname())
             );
 
-            long contentLength = fileEntity.getSize();
+            String cacheControl = "public, max-age=31536000, immutable";
+            ImageVariant variant = ImageVariant.fromKey(size).orElse(null);
+            if (variant != null && fileEntity.getMimetype().startsWith("image/")) {
+                Optional<DownloadableFile> derivative = fileService.openDerivative(fileEntity, variant);
+                if (derivative.isPresent()) {
+                    download = derivative.get();
+                } else {
+                    // 파생본 생성 전(또는 원본이 이미 작음)이면 원본 제공, 이후 파생본으로 바뀔 수 있으니 장기 캐시 금지
+                    cacheControl = "private, no-cache";
+                }
+            }
 
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(fileEntity.getMimetype()))
-                    .contentLength(contentLength)
-                    .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
-                    .header(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable")
-                    .body(resource);
+            // 동영상/대용량 미리보기는 Range 요청으로 필요한 구간만 전송
+            fileRangeResponder.respond(request, response, download, contentDisposition, cacheControl);
+            return null;
 
         } catch (Exception e) {
             log.error("파일 미리보기 중 에러 발생: {}", filename, e);
+            if (response.isCommitted()) {
+                return null;
+            }
             return handleFileError(e);
         }
     }
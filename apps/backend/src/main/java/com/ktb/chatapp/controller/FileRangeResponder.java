@@ -0,0 +1,171 @@
+package com.ktb.chatapp.controller;
+
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.service.DownloadableFile;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파일 구간 다운로드 응답 처리
+ * Range/If-Range 헤더를 해석해 200/206/416 응답을 만들고,
+ * 로컬 파일은 Tomcat sendfile(커널에서 직접 전송)로, 원격 파일과 sendfile을 쓸 수 없는 경우는 구간 스트리밍으로 전송한다.
+ * 스트리밍 경로는 대상이 서블릿 출력 스트림이므로 로컬 파일도 버퍼를 거쳐 복사된다 (zero-copy 아님).
+ */
+@Slf4j
+@Component
+public class FileRangeResponder {
+
+    private static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    // 작은 파일은 sendfile 전환 비용보다 버퍼 복사가 저렴함 (Tomcat DefaultServlet 기본값과 동일)
+    private static final long SENDFILE_MIN_BYTES = 48 * 1024;
+
+    private final Counter sendfileBytes;
+    private final Counter streamedBytes;
+    private final Counter partialResponses;
+
+    public FileRangeResponder(MeterRegistry meterRegistry) {
+        this.sendfileBytes = bytesCounter(meterRegistry, "sendfile");
+        this.streamedBytes = bytesCounter(meterRegistry, "stream");
+        this.partialResponses = Counter.builder("files.download.partial")
+                .description("Range requests answered with 206 Partial Content")
+                .register(meterRegistry);
+    }
+
+    public void respond(HttpServletRequest request,
+                        HttpServletResponse response,
+                        DownloadableFile download,
+                        String contentDisposition,
+                        String cacheControl) throws IOException {
+        File file = download.file();
+        long length = download.length();
+        String etag = buildEtag(file, length);
+        long lastModified = file.getUploadDate() != null
+                ? file.getUploadDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1;
+
+        response.setContentType(file.getMimetype());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.ETAG, etag);
+        if (lastModified >= 0) {
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        }
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, contentDisposition);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.setHeader(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS,
+                "Content-Disposition, Content-Range, Accept-Ranges");
+
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && ifRangeMatches(request, etag, lastModified)) {
+            List<HttpRange> ranges = parseRanges(rangeHeader);
+            // 다중 구간은 지원하지 않고 전체 응답 (RFC 9110에서 Range 무시 허용)
+            if (ranges.size() == 1) {
+                HttpRange range = ranges.get(0);
+                try {
+                    start = range.getRangeStart(length);
+                    end = range.getRangeEnd(length);
+                } catch (IllegalArgumentException e) {
+                    start = length;
+                }
+                if (start >= length || start > end) {
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.setContentLengthLong(0);
+                    return;
+                }
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+                partialResponses.increment();
+            }
+        }
+
+        long count = Math.max(0, end - start + 1);
+        response.setContentLengthLong(count);
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || count == 0) {
+            return;
+        }
+
+        Optional<Path> localPath = download.localPath();
+        if (localPath.isPresent() && count >= SENDFILE_MIN_BYTES
+                && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR))) {
+            // 응답 커밋 시 커넥터가 커널 sendfile로 직접 전송
+            request.setAttribute(SENDFILE_FILENAME_ATTR, localPath.get().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, end + 1);
+            sendfileBytes.increment(count);
+            return;
+        }
+
+        try {
+            download.transferTo(start, count, response.getOutputStream());
+        } catch (IOException | RuntimeException e) {
+            // 본문 전송 전 실패(원격 저장소 오류 등)면 다운로드 헤더를 지워 오류 응답이 나갈 수 있게 함
+            if (!response.isCommitted()) {
+                response.reset();
+            }
+            throw e;
+        }
+        streamedBytes.increment(count);
+    }
+
+    /**
+     * 저장된 파일은 덮어쓰지 않으므로 파일명 + 크기로 강한 ETag 생성
+     */
+    static String buildEtag(File file, long length) {
+        return "\"" + file.getFilename() + "-" + length + "\"";
+    }
+
+    /**
+     * If-Range가 없거나 현재 표현과 일치할 때만 Range 적용
+     */
+    static boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // 약한 ETag는 If-Range에서 일치로 보지 않음
+            return ifRange.equals(etag);
+        }
+        try {
+            long since = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return lastModified >= 0 && since >= 0 && lastModified / 1000 == since / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private List<HttpRange> parseRanges(String rangeHeader) {
+        try {
+            return HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            log.debug("Ignoring malformed Range header: {}", rangeHeader);
+            return List.of();
+        }
+    }
+
+    private Counter bytesCounter(MeterRegistry meterRegistry, String mode) {
+        return Counter.builder("files.download.bytes")
+                .description("Bytes sent by file downloads")
+                .baseUnit("bytes")
+                .tag("mode", mode)
+                .register(meterRegistry);
+    }
+}
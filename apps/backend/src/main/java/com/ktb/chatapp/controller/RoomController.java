@@ -6,6 +6,7 @@ import com.ktb.chatapp.model.Room;
 import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.RoomListSnapshotCache;
 import com.ktb.chatapp.service.RoomService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -27,7 +28,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -41,6 +44,7 @@ public class RoomController {
     private final UserRepository userRepository;
     private final MessageRepository messageRepository;
     private final RoomService roomService;
+    private final RoomListSnapshotCache roomListSnapshotCache;
 
     @Value("${spring.profiles.active:production}")
     private String activeProfile;
@@ -84,6 +88,7 @@ public class RoomController {
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "채팅방 목록 조회 성공",
             content = @Content(schema = @Schema(implementation = RoomsResponse.class))),
+        @ApiResponse(responseCode = "304", description = "목록 변경 없음 (If-None-Match 일치)"),
         @ApiResponse(responseCode = "401", description = "인증 실패",
             content = @Content(schema = @Schema(implementation = StandardResponse.class))),
         @ApiResponse(responseCode = "429", description = "요청 한도 초과",
@@ -99,7 +104,8 @@ public class RoomController {
             @Parameter(description = "페이지 크기 (최대 50)", example = "10") @RequestParam(defaultValue = "10") int pageSize,
             @Parameter(description = "정렬 필드", example = "createdAt") @RequestParam(defaultValue = "createdAt") String sortField,
             @Parameter(description = "정렬 순서 (asc/desc)", example = "desc") @RequestParam(defaultValue = "desc") String sortOrder,
-            @Parameter(description = "검색어 (채팅방 이름)", example = "프로젝트") @RequestParam(required = false) String search) {
+            @Parameter(description = "검색어 (채팅방 이름)", example = "프로젝트") @RequestParam(required = false) String search,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
         try {
             // PageRequest DTO 생성
@@ -111,14 +117,25 @@ public class RoomController {
                 search
             );
 
-            // 서비스에서 페이지네이션 처리
-            RoomsResponse response = roomService.getAllRoomsWithPagination(pageRequest);
+            // 스냅샷 캐시 우선 조회 (없으면 서비스에서 페이지네이션 처리)
+            RoomListSnapshotCache.Snapshot snapshot = roomListSnapshotCache.get(
+                pageRequest, () -> roomService.getAllRoomsWithPagination(pageRequest));
 
-            // 캐시 설정
+            // 변경 없는 페이지는 바디 없이 304 응답
+            if (roomListSnapshotCache.isNotModified(ifNoneMatch, snapshot)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.etag())
+                    .cacheControl(CacheControl.maxAge(Duration.ofSeconds(10)))
+                    .build();
+            }
+
+            // 캐시 설정 (이미 직렬화된 바디를 그대로 전송)
             return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(snapshot.etag())
                 .cacheControl(CacheControl.maxAge(Duration.ofSeconds(10)))
-                .header("Last-Modified", java.time.Instant.now().toString())
-                .body(response);
+                .lastModified(snapshot.createdAt())
+                .body(snapshot.body());
 
         } catch (Exception e) {
             log.error("방 목록 조회 에러", e);
@@ -0,0 +1,9 @@
+package com.ktb.chatapp.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record ConfirmUploadRequest(
+        @NotBlank
+        String key
+) {
+}
@@ -1,6 +1,7 @@
 package com.ktb.chatapp.dto;
 
 import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.model.FileSnapshot;
 
 public record FileResponse (
 		String filename,
@@ -17,4 +18,14 @@ public record FileResponse (
 				file.getSize()
 		);
     }
+
+    // 메시지에 내장된 파일 스냅샷에서 변환
+    public static FileResponse from(FileSnapshot snapshot) {
+        return new FileResponse(
+				snapshot.getFilename(),
+				snapshot.getOriginalname(),
+				snapshot.getMimetype(),
+				snapshot.getSize()
+		);
+    }
 }
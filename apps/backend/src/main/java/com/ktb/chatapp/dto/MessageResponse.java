@@ -20,5 +20,7 @@ public record MessageResponse(
         FileResponse file,
         long timestamp,
         Map<String, Set<String>> reactions,
-        List<Message.MessageReader> readers
+        List<Message.MessageReader> readers,
+        // 방별 전송 순번 (채팅 메시지에만 부여, 재연결 시 resumeMessages 기준)
+        Long seq
 ) { }
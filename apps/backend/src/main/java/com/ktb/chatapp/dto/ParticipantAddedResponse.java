@@ -0,0 +1,11 @@
+package com.ktb.chatapp.dto;
+
+/**
+ * participantAdded 이벤트 응답 DTO.
+ * version은 방 참여자 목록 버전이며, 클라이언트는 version이 건너뛰면 전체 목록을 다시 요청한다.
+ */
+public record ParticipantAddedResponse(
+        String roomId,
+        long version,
+        UserResponse participant
+) { }
@@ -0,0 +1,10 @@
+package com.ktb.chatapp.dto;
+
+/**
+ * participantRemoved 이벤트 응답 DTO.
+ */
+public record ParticipantRemovedResponse(
+        String roomId,
+        long version,
+        String userId
+) { }
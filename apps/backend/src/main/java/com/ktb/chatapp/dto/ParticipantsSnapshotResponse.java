@@ -0,0 +1,12 @@
+package com.ktb.chatapp.dto;
+
+import java.util.List;
+
+/**
+ * participantsSnapshot 이벤트 응답 DTO (입장 시 또는 버전 불일치 재동기화 시 전송).
+ */
+public record ParticipantsSnapshotResponse(
+        String roomId,
+        long version,
+        List<UserResponse> participants
+) { }
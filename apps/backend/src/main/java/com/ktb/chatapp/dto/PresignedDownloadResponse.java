@@ -0,0 +1,9 @@
+package com.ktb.chatapp.dto;
+
+import java.time.Instant;
+
+public record PresignedDownloadResponse(
+        String url,
+        Instant expiresAt
+) {
+}
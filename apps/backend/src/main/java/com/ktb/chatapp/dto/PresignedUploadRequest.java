@@ -0,0 +1,16 @@
+package com.ktb.chatapp.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+public record PresignedUploadRequest(
+        @NotBlank
+        String filename,
+
+        @NotBlank
+        String contentType,
+
+        @Positive
+        long size
+) {
+}
@@ -0,0 +1,17 @@
+package com.ktb.chatapp.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 클라이언트 직접 업로드용 Presigned PUT 정보
+ * 업로드 시 headers를 그대로 포함해야 서명이 일치한다.
+ */
+public record PresignedUploadResponse(
+        String key,
+        String uploadUrl,
+        String method,
+        Map<String, String> headers,
+        Instant expiresAt
+) {
+}
@@ -0,0 +1,11 @@
+package com.ktb.chatapp.dto;
+
+/**
+ * resumeMessages 이벤트 요청 DTO (lastSeq: 클라이언트가 마지막으로 받은 메시지 순번).
+ */
+public record ResumeMessagesRequest(String roomId, Long lastSeq) {
+
+    public long lastSeqOrZero() {
+        return lastSeq != null && lastSeq > 0 ? lastSeq : 0;
+    }
+}
@@ -0,0 +1,14 @@
+package com.ktb.chatapp.dto;
+
+import java.util.List;
+
+/**
+ * messagesResumed 이벤트 응답 DTO.
+ * complete가 false면 놓친 구간이 캐시 범위를 벗어난 것이므로 fetchPreviousMessages로 다시 불러와야 한다.
+ */
+public record ResumeMessagesResponse(
+        String roomId,
+        List<MessageResponse> messages,
+        long lastSeq,
+        boolean complete
+) { }
@@ -0,0 +1,6 @@
+package com.ktb.chatapp.dto;
+
+/**
+ * typing 이벤트 요청 DTO (isTyping: 입력 시작 true, 입력 중단 false).
+ */
+public record TypingRequest(String roomId, boolean isTyping) { }
@@ -0,0 +1,12 @@
+package com.ktb.chatapp.dto;
+
+/**
+ * userTyping 이벤트 응답 DTO.
+ * 저장하지 않는 일시 신호로, 노드 간에도 이 형태 그대로 전달된다.
+ */
+public record TypingSignal(
+        String roomId,
+        String userId,
+        String name,
+        boolean isTyping
+) { }
@@ -15,13 +15,15 @@ public class AiMessageSavedEvent extends ApplicationEvent {
     private final AiType aiType;
     private final long startTime;
     private final String savedMessageId;
+    private final Long seq;
     
-    public AiMessageSavedEvent(Object source, AiMessageCompleteEvent event, String savedMessageId) {
+    public AiMessageSavedEvent(Object source, AiMessageCompleteEvent event, String savedMessageId, Long seq) {
         super(source);
         this.roomId = event.getRoomId();
         this.content = event.getContent();
         this.aiType = event.getAiType();
         this.startTime = event.getStartTime();
         this.savedMessageId = savedMessageId;
+        this.seq = seq;
     }
 }
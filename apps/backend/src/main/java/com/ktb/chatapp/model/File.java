@@ -3,6 +3,7 @@ package com.ktb.chatapp.model;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -32,12 +33,27 @@ public class File {
 
     private long size;
 
+    /**
+     * 저장소 내 실제 위치 (동일 내용 파일은 같은 경로를 공유)
+     */
+    @Indexed
     private String path;
 
+    /**
+     * 내용 SHA-256 해시 (중복 업로드 탐지용)
+     */
+    @Indexed
+    private String contentHash;
+
     @Field("user")
     @Indexed
     private String user;
 
+    /**
+     * 파일 메시지가 전송된 방 (권한 검증 시 메시지 조회 생략용, 전송 전이면 null)
+     */
+    private String roomId;
+
     @Field("uploadDate")
     @CreatedDate
     @Indexed
@@ -48,6 +64,18 @@ public class File {
      */
     private String url;
 
+    /**
+     * 생성된 이미지 파생본 크기 (variant key → bytes, 조회 시 저장소 확인 생략용)
+     */
+    private Map<String, Long> derivatives;
+
+    /**
+     * 기록된 파생본 크기 (생성되지 않았거나 원본이 이미 작으면 null)
+     */
+    public Long derivativeSize(String variantKey) {
+        return derivatives != null ? derivatives.get(variantKey) : null;
+    }
+
     /**
      * 미리보기 지원 여부 확인
      */
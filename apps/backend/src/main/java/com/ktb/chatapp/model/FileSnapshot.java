@@ -0,0 +1,34 @@
+package com.ktb.chatapp.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 메시지에 내장되는 파일 정보 스냅샷.
+ * 파일 메시지 전송 시 한 번 기록하며, 메시지 조회 시 files 컬렉션을 다시 읽지 않도록 한다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileSnapshot {
+
+    private String filename;
+
+    private String originalname;
+
+    private String mimetype;
+
+    private long size;
+
+    public static FileSnapshot of(File file) {
+        return FileSnapshot.builder()
+                .filename(file.getFilename())
+                .originalname(file.getOriginalname())
+                .mimetype(file.getMimetype())
+                .size(file.getSize())
+                .build();
+    }
+}
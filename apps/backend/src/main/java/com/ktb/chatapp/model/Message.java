@@ -56,8 +56,14 @@ public class Message {
     @Field("file")
     private String fileId;
 
+    // 전송 시점의 파일 정보 (조회 시 files 컬렉션 접근 생략)
+    private FileSnapshot fileSnapshot;
+
     private AiType aiType;
 
+    // 방별 전송 순번 (ChatMessageHandler가 부여, 시스템/AI 메시지는 null)
+    private Long seq;
+
     @Builder.Default
     private List<String> mentions = new ArrayList<>();
 
@@ -135,16 +141,20 @@ public class Message {
     }
     
     /**
-     * 파일 메타데이터를 메시지에 첨부한다.
+     * 파일 정보를 메시지에 첨부한다.
+     * 타입이 있는 스냅샷을 기록하고, 이전 버전 서버와의 호환을 위해 metadata 맵에도 같은 값을 남긴다.
      *
      * @param file 파일 객체
      */
     public void attachFileMetadata(File file) {
-        if (this.fileId != null && this.metadata == null) {
+        this.fileId = file.getId();
+        this.fileSnapshot = FileSnapshot.of(file);
+        if (this.metadata == null) {
             this.metadata = new HashMap<>();
-            this.metadata.put("fileType", file.getMimetype());
-            this.metadata.put("fileSize", file.getSize());
-            this.metadata.put("originalName", file.getOriginalname());
         }
+        this.metadata.put("fileType", file.getMimetype());
+        this.metadata.put("fileSize", file.getSize());
+        this.metadata.put("originalName", file.getOriginalname());
+        this.metadata.put("fileName", file.getFilename());
     }
 }
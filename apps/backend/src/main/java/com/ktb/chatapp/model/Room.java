@@ -1,8 +1,11 @@
 package com.ktb.chatapp.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.ktb.chatapp.util.NgramTokenizer;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -33,6 +36,15 @@ public class Room {
     // 복합 인덱스(name_createdAt_idx)의 첫 번째 필드이므로 단일 인덱스 불필요
     private String name;
 
+    // 이름 검색용 정규화 값 (n-gram 후보에 대한 최종 부분 문자열 확인용)
+    @JsonIgnore
+    private String nameNormalized;
+
+    // 이름 검색용 n-gram 토큰 (multikey 인덱스)
+    @JsonIgnore
+    @Indexed(name = "nameNgrams_idx")
+    private List<String> nameNgrams;
+
     private String creator;
 
     private boolean hasPassword;
@@ -47,6 +59,20 @@ public class Room {
     @Field("participantIds")
     @Builder.Default
     private Set<String> participantIds = new HashSet<>();
+
+    // 참여자 목록 버전 (참여자 추가/제거 시마다 1 증가, 클라이언트 diff 동기화용)
+    private long participantsVersion;
+    
+    /**
+     * 방 이름을 설정하고 검색용 정규화 값과 n-gram 토큰을 함께 갱신한다.
+     *
+     * @param name 방 이름
+     */
+    public void updateName(String name) {
+        this.name = name;
+        this.nameNormalized = NgramTokenizer.normalize(name);
+        this.nameNgrams = new ArrayList<>(NgramTokenizer.indexTokens(name));
+    }
     
     /**
      * 방에 참가자를 추가한다.
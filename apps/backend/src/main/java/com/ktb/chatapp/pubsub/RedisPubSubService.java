@@ -19,12 +19,13 @@ import java.util.Set;
 
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 
-import static com.ktb.chatapp.pubsub.RedisBroadcastMessage.*;
-import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+import static com.ktb.chatapp.pubsub.RedisBroadcastMessage.EVENT_MESSAGES_READ;
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.MESSAGES_READ;
 
 /**
  * Redis Pub/Sub 서비스
- * WebSocket 서버 간 메시지 동기화를 담당
+ * 방 전체 브로드캐스트는 RedisStoreFactory가 노드 간에 전달하고,
+ * 여기서는 방 안의 일부 사용자에게만 보내는 타겟 메시지(읽음 상태 등)를 동기화한다.
  */
 @Slf4j
 @Service
@@ -79,29 +80,6 @@ public class RedisPubSubService {
         }
     }
 
-    /**
-     * 메시지를 Redis로 발행
-     * 다른 모든 WebSocket 서버에 브로드캐스트됨
-     */
-    public void publish(String eventType, String roomId, Object data) {
-        try {
-            String payload = objectMapper.writeValueAsString(data);
-            RedisBroadcastMessage message = new RedisBroadcastMessage(
-                serverId, eventType, roomId, payload
-            );
-
-            // String으로 직렬화하여 발행 (StringCodec 사용)
-            // 동기 발행으로 변경하여 메시지 전파 보장
-            String messageJson = objectMapper.writeValueAsString(message);
-            topic.publish(messageJson);
-            log.debug("Published to Redis - eventType: {}, roomId: {}, serverId: {}",
-                eventType, roomId, serverId);
-        } catch (JsonProcessingException e) {
-            log.error("Failed to serialize message for Redis publish - eventType: {}, roomId: {}",
-                eventType, roomId, e);
-        }
-    }
-
     /**
      * 특정 사용자들에게만 메시지 발행 (Selective Unicast)
      * O(N²) 브로드캐스트 대신 O(N) 타겟팅으로 성능 개선
@@ -147,31 +125,13 @@ public class RedisPubSubService {
         log.debug("Received from Redis - eventType: {}, roomId: {}, originServerId: {}",
             message.eventType(), message.roomId(), message.originServerId());
 
-        try {
-            String socketEvent = mapToSocketEvent(message.eventType());
-
-            // 특수 케이스: ROOM_CREATED는 room-list에 브로드캐스트
-            if (EVENT_ROOM_CREATED.equals(message.eventType())) {
-                Object payload = deserializePayload(message.payload());
-                socketIOServer.getRoomOperations("room-list")
-                    .sendEvent(socketEvent, payload);
-            }
-            // Selective Unicast: MESSAGES_READ는 타겟 사용자에게만 전송
-            else if (EVENT_MESSAGES_READ.equals(message.eventType())) {
-                handleTargetedMessage(message, socketEvent);
-            }
-            else {
-                Object payload = deserializePayload(message.payload());
-                socketIOServer.getRoomOperations(message.roomId())
-                    .sendEvent(socketEvent, payload);
-            }
-
-            log.debug("Broadcasted to local clients - event: {}, roomId: {}",
-                socketEvent, message.roomId());
-        } catch (Exception e) {
-            log.error("Failed to handle Redis message - eventType: {}, roomId: {}",
-                message.eventType(), message.roomId(), e);
+        // 방 전체 브로드캐스트는 RedisStoreFactory가 전달하므로 타겟 메시지만 처리
+        if (!EVENT_MESSAGES_READ.equals(message.eventType())) {
+            log.warn("Unsupported event type on {} - eventType: {}", TOPIC_NAME, message.eventType());
+            return;
         }
+
+        handleTargetedMessage(message, MESSAGES_READ);
     }
 
     /**
@@ -205,10 +165,8 @@ public class RedisPubSubService {
                 log.debug("Sent targeted message to {} users in room {}",
                     targetUserIds.size(), message.roomId());
             } else {
-                // targetUserIds가 없으면 일반 브로드캐스트
-                Object payload = deserializePayload(message.payload());
-                socketIOServer.getRoomOperations(message.roomId())
-                    .sendEvent(socketEvent, payload);
+                log.warn("Targeted message without target users - eventType: {}, roomId: {}",
+                    message.eventType(), message.roomId());
             }
         } catch (Exception e) {
             log.error("Failed to handle targeted message - eventType: {}, roomId: {}",
@@ -216,50 +174,6 @@ public class RedisPubSubService {
         }
     }
 
-    /**
-     * Redis 이벤트 타입을 Socket.IO 이벤트로 매핑
-     */
-    private String mapToSocketEvent(String eventType) {
-        return switch (eventType) {
-            case EVENT_MESSAGE -> MESSAGE;
-            case EVENT_AI_START -> AI_MESSAGE_START;
-            case EVENT_AI_CHUNK -> AI_MESSAGE_CHUNK;
-            case EVENT_AI_COMPLETE -> AI_MESSAGE_COMPLETE;
-            case EVENT_AI_ERROR -> AI_MESSAGE_ERROR;
-            case EVENT_ROOM_JOIN -> MESSAGE;  // 입장 메시지는 MESSAGE 이벤트로
-            case EVENT_ROOM_LEAVE -> MESSAGE;  // 퇴장 메시지는 MESSAGE 이벤트로
-            case EVENT_USER_LEFT -> USER_LEFT;
-            case EVENT_PARTICIPANTS_UPDATE -> PARTICIPANTS_UPDATE;
-            case EVENT_ROOM_CREATED -> ROOM_CREATED;
-            case EVENT_ROOM_UPDATE -> ROOM_UPDATE;
-            case EVENT_MESSAGE_REACTION_UPDATE -> MESSAGE_REACTION_UPDATE;
-            case EVENT_MESSAGES_READ -> MESSAGES_READ;
-            default -> {
-                log.warn("Unknown event type: {}", eventType);
-                yield eventType;
-            }
-        };
-    }
-
-    /**
-     * JSON payload를 역직렬화 (Map 또는 List)
-     */
-    private Object deserializePayload(String payload) throws JsonProcessingException {
-        if (payload == null || payload.isBlank()) {
-            log.warn("Empty or null payload received, returning empty map");
-            return Map.of();
-        }
-
-        String trimmed = payload.trim();
-        if (trimmed.startsWith("[")) {
-            // List 타입 (예: participants)
-            return objectMapper.readValue(trimmed, new TypeReference<java.util.List<Map<String, Object>>>() {});
-        } else {
-            // Map 타입 (예: message)
-            return objectMapper.readValue(trimmed, new TypeReference<Map<String, Object>>() {});
-        }
-    }
-
     /**
      * 현재 서버 ID 반환
      */
@@ -0,0 +1,164 @@
+package com.ktb.chatapp.pubsub;
+
+import com.corundumstudio.socketio.protocol.EngineIOVersion;
+import com.corundumstudio.socketio.protocol.Packet;
+import com.corundumstudio.socketio.protocol.PacketType;
+import com.corundumstudio.socketio.store.pubsub.DispatchMessage;
+import com.corundumstudio.socketio.store.pubsub.PubSubListener;
+import com.corundumstudio.socketio.store.pubsub.PubSubMessage;
+import com.corundumstudio.socketio.store.pubsub.PubSubStore;
+import com.corundumstudio.socketio.store.pubsub.PubSubType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.websocket.socketio.PreEncodedPayload;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+/**
+ * Redisson 기반 netty-socketio PubSubStore
+ * 방 브로드캐스트(DISPATCH)만 다른 노드로 전달한다. 방 참여/퇴장(JOIN/LEAVE)과 연결 정보는
+ * 소켓이 붙어 있는 노드에서만 의미가 있으므로 노드 간에 전파하지 않는다.
+ */
+@Slf4j
+public class RedisPubSubStore implements PubSubStore {
+
+    public static final String TOPIC_NAME = "socketio:dispatch";
+
+    private final RTopic topic;
+    private final ObjectMapper objectMapper;
+    private final long nodeId;
+    private final Counter publishedCounter;
+    private final Counter receivedCounter;
+    private final Counter failedCounter;
+    private final DistributionSummary bytesSummary;
+    private final Timer publishTimer;
+
+    private volatile int listenerId = -1;
+
+    public RedisPubSubStore(RedissonClient redissonClient, ObjectMapper objectMapper,
+                            long nodeId, MeterRegistry meterRegistry) {
+        // StringCodec 사용하여 @class 타입 정보 문제 우회
+        this.topic = redissonClient.getTopic(TOPIC_NAME, StringCodec.INSTANCE);
+        this.objectMapper = objectMapper;
+        this.nodeId = nodeId;
+        this.publishedCounter = Counter.builder("socketio.cluster.dispatch")
+                .description("Room broadcasts relayed between Socket.IO nodes")
+                .tag("direction", "out")
+                .register(meterRegistry);
+        this.receivedCounter = Counter.builder("socketio.cluster.dispatch")
+                .description("Room broadcasts relayed between Socket.IO nodes")
+                .tag("direction", "in")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("socketio.cluster.dispatch.failed")
+                .description("Room broadcasts that could not be encoded, published or decoded")
+                .register(meterRegistry);
+        this.bytesSummary = DistributionSummary.builder("socketio.cluster.dispatch.bytes")
+                .description("Encoded size of relayed room broadcasts")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.publishTimer = Timer.builder("socketio.cluster.dispatch.publish")
+                .description("Time spent publishing a room broadcast to Redis")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(PubSubType type, PubSubMessage message) {
+        if (type != PubSubType.DISPATCH) {
+            return;
+        }
+        DispatchMessage dispatch = (DispatchMessage) message;
+        Packet packet = dispatch.getPacket();
+        if (packet.getType() != PacketType.MESSAGE || packet.getSubType() != PacketType.EVENT) {
+            log.debug("Skipping non-event broadcast - room: {}, type: {}", dispatch.getRoom(), packet.getType());
+            return;
+        }
+
+        String json;
+        try {
+            List<Object> args = packet.getData();
+            json = objectMapper.writeValueAsString(new SocketDispatchEnvelope(
+                    nodeId, dispatch.getNamespace(), dispatch.getRoom(), packet.getName(), args));
+        } catch (JsonProcessingException e) {
+            failedCounter.increment();
+            log.error("Failed to encode room broadcast - room: {}, event: {}", dispatch.getRoom(), packet.getName(), e);
+            return;
+        }
+
+        try {
+            // 동기 발행: 같은 스레드에서 보낸 이벤트의 순서를 노드 간에도 유지
+            publishTimer.record(() -> topic.publish(json));
+            publishedCounter.increment();
+            bytesSummary.record(json.getBytes(StandardCharsets.UTF_8).length);
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.error("Failed to publish room broadcast - room: {}, event: {}", dispatch.getRoom(), packet.getName(), e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends PubSubMessage> void subscribe(PubSubType type, PubSubListener<T> listener, Class<T> clazz) {
+        if (type != PubSubType.DISPATCH) {
+            return;
+        }
+        PubSubListener<DispatchMessage> dispatchListener = (PubSubListener<DispatchMessage>) listener;
+        listenerId = topic.addListener(String.class, (channel, json) -> {
+            DispatchMessage message = decode(json);
+            if (message != null) {
+                receivedCounter.increment();
+                dispatchListener.onMessage(message);
+            }
+        });
+        log.info("Socket.IO cluster dispatch subscribed - nodeId: {}, topic: {}", nodeId, TOPIC_NAME);
+    }
+
+    /**
+     * 수신한 브로드캐스트를 DispatchMessage로 복원 (자기 노드가 보낸 메시지는 null)
+     */
+    DispatchMessage decode(String json) {
+        try {
+            SocketDispatchEnvelope envelope = objectMapper.readValue(json, SocketDispatchEnvelope.class);
+            if (envelope.nodeId() == nodeId) {
+                return null;
+            }
+            Packet packet = new Packet(PacketType.MESSAGE, EngineIOVersion.UNKNOWN);
+            packet.setSubType(PacketType.EVENT);
+            packet.setName(envelope.event());
+            // 이 노드의 수신자들도 인자를 한 번만 다시 인코딩하도록 감싼다
+            packet.setData(envelope.args() != null
+                    ? Arrays.asList(PreEncodedPayload.wrap(envelope.args().toArray()))
+                    : List.of());
+            packet.setNsp(envelope.namespace());
+            DispatchMessage message = new DispatchMessage(envelope.room(), packet, envelope.namespace());
+            message.setNodeId(envelope.nodeId());
+            return message;
+        } catch (JsonProcessingException e) {
+            failedCounter.increment();
+            log.error("Failed to decode room broadcast: {}", json, e);
+            return null;
+        }
+    }
+
+    @Override
+    public void unsubscribe(PubSubType type) {
+        if (type == PubSubType.DISPATCH && listenerId != -1) {
+            topic.removeListener(listenerId);
+            listenerId = -1;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        unsubscribe(PubSubType.DISPATCH);
+    }
+}
@@ -0,0 +1,68 @@
+package com.ktb.chatapp.pubsub;
+
+import com.corundumstudio.socketio.store.MemoryStore;
+import com.corundumstudio.socketio.store.Store;
+import com.corundumstudio.socketio.store.pubsub.BaseStoreFactory;
+import com.corundumstudio.socketio.store.pubsub.PubSubStore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.redisson.api.RedissonClient;
+
+/**
+ * 멀티 노드용 netty-socketio StoreFactory
+ * getRoomOperations(room).sendEvent(...)는 로컬 클라이언트에 보낸 뒤 PubSubStore로 DISPATCH를 발행하므로,
+ * 핸들러가 따로 Redis 발행을 하지 않아도 모든 방 브로드캐스트가 다른 노드의 같은 방 클라이언트에 전달된다.
+ * 소켓 세션 데이터(client.set/get)는 해당 노드에서만 쓰이므로 Redis 왕복 없이 메모리에 둔다.
+ */
+public class RedisStoreFactory extends BaseStoreFactory {
+
+    private final RedisPubSubStore pubSubStore;
+
+    public RedisStoreFactory(RedissonClient redissonClient, MeterRegistry meterRegistry) {
+        this.pubSubStore = new RedisPubSubStore(redissonClient, socketJsonMapper(), getNodeId(), meterRegistry);
+    }
+
+    /**
+     * netty-socketio JacksonJsonSupport와 같은 규칙으로 직렬화해야
+     * 로컬 클라이언트와 다른 노드 클라이언트가 같은 JSON을 받는다. (PreEncodedPayload도 이 규칙으로 인코딩)
+     */
+    public static ObjectMapper socketJsonMapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .configure(SerializationFeature.WRITE_BIGDECIMAL_AS_PLAIN, true);
+    }
+
+    @Override
+    public PubSubStore pubSubStore() {
+        return pubSubStore;
+    }
+
+    @Override
+    public Store createStore(UUID sessionId) {
+        return new MemoryStore();
+    }
+
+    @Override
+    public <K, V> Map<K, V> createMap(String name) {
+        return new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void shutdown() {
+        pubSubStore.shutdown();
+    }
+
+    @Override
+    public String toString() {
+        return "Redis store factory (node " + getNodeId() + ")";
+    }
+}
@@ -0,0 +1,16 @@
+package com.ktb.chatapp.pubsub;
+
+import java.util.List;
+
+/**
+ * 노드 간 전달되는 Socket.IO 방 브로드캐스트
+ * 이벤트 인자를 그대로 담아 한 번만 직렬화한다. (payload 문자열 이중 인코딩 없음)
+ */
+public record SocketDispatchEnvelope(
+    long nodeId,          // 발행 노드 ID (자기 메시지 무시용)
+    String namespace,     // Socket.IO 네임스페이스
+    String room,          // 대상 방
+    String event,         // 이벤트 이름
+    List<Object> args     // 이벤트 인자
+) {
+}
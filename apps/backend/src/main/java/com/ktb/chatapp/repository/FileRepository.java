@@ -2,11 +2,22 @@ package com.ktb.chatapp.repository;
 
 import com.ktb.chatapp.model.File;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
-public interface FileRepository extends MongoRepository<File, String> {
+public interface FileRepository extends MongoRepository<File, String>, FileRepositoryCustom {
     Optional<File> findByFilename(String filename);
+
+    Optional<File> findFirstByContentHashAndSize(String contentHash, long size);
+
+    long countByPath(String path);
+
+    // 파일 메시지 전송 시 소속 방 기록 (처음 전송된 방만 유지)
+    @Query("{ '_id': ?0, 'roomId': null }")
+    @Update("{ '$set': { 'roomId': ?1 } }")
+    long assignRoomIfAbsent(String fileId, String roomId);
 }
@@ -0,0 +1,31 @@
+package com.ktb.chatapp.repository;
+
+/**
+ * 저장 경로를 공유하는 File 문서 일괄 갱신 및 저장소 삭제 예고 연산
+ */
+public interface FileRepositoryCustom {
+
+    /**
+     * 같은 저장 경로를 쓰는 모든 File 문서에 파생본 크기를 기록한다.
+     * 중복 제거된 파일끼리는 파생본도 공유하므로 경로 기준으로 갱신한다.
+     *
+     * @return 갱신된 문서 수
+     */
+    long recordDerivative(String path, String variantKey, long size);
+
+    /**
+     * 저장 경로 삭제 예고 등록 (같은 경로를 동시에 지우는 요청마다 1씩 증가)
+     * 예고가 남아 있는 동안 중복 업로드는 이 경로를 공유하지 않고 자기 사본을 쓴다.
+     */
+    void claimBlobRelease(String path);
+
+    /**
+     * 저장 경로 삭제 예고 해제 (마지막 해제 시 예고 문서 제거)
+     */
+    void finishBlobRelease(String path);
+
+    /**
+     * 저장 경로에 진행 중인 삭제 예고가 있는지
+     */
+    boolean isBlobReleaseClaimed(String path);
+}
@@ -0,0 +1,43 @@
+package com.ktb.chatapp.repository;
+
+import com.ktb.chatapp.model.File;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@RequiredArgsConstructor
+class FileRepositoryCustomImpl implements FileRepositoryCustom {
+
+    private static final String DERIVATIVES = "derivatives";
+    private static final String BLOB_RELEASES = "file_blob_releases";
+    private static final String CLAIMS = "claims";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public long recordDerivative(String path, String variantKey, long size) {
+        Query query = new Query(where("path").is(path));
+        Update update = new Update().set(DERIVATIVES + "." + variantKey, size);
+        return mongoTemplate.updateMulti(query, update, File.class).getModifiedCount();
+    }
+
+    @Override
+    public void claimBlobRelease(String path) {
+        mongoTemplate.upsert(new Query(where("_id").is(path)), new Update().inc(CLAIMS, 1), BLOB_RELEASES);
+    }
+
+    @Override
+    public void finishBlobRelease(String path) {
+        mongoTemplate.updateFirst(new Query(where("_id").is(path)), new Update().inc(CLAIMS, -1), BLOB_RELEASES);
+        // 다른 삭제가 그 사이 다시 예고했으면(claims > 0) 남겨 둠
+        mongoTemplate.remove(new Query(where("_id").is(path).and(CLAIMS).lte(0)), BLOB_RELEASES);
+    }
+
+    @Override
+    public boolean isBlobReleaseClaimed(String path) {
+        return mongoTemplate.exists(new Query(where("_id").is(path).and(CLAIMS).gt(0)), BLOB_RELEASES);
+    }
+}
@@ -1,18 +1,33 @@
 package com.ktb.chatapp.repository;
 
+import com.ktb.chatapp.model.FileSnapshot;
 import com.ktb.chatapp.model.Message;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
 import java.util.stream.Stream;
 
 @Repository
 public interface MessageRepository extends MongoRepository<Message, String> {
-    Page<Message> findByRoomIdAndIsDeletedAndTimestampBefore(String roomId, Boolean isDeleted, LocalDateTime timestamp, Pageable pageable);
+
+    /**
+     * 메시지 목록 응답(MessageResponse)에 필요한 필드만 포함하는 projection
+     * 읽음 처리자는 userId만 읽고, metadata/mentions 등 화면에 쓰지 않는 필드는 제외한다.
+     */
+    String HISTORY_FIELDS = "{ 'content': 1, 'sender': 1, 'type': 1, 'file': 1, 'fileSnapshot': 1,"
+            + " 'timestamp': 1, 'reactions': 1, 'readers.userId': 1, 'seq': 1 }";
+
+    /**
+     * 채팅 기록 페이지 조회 (필요한 필드만 조회, 전체 count 없이 다음 페이지 존재 여부만 확인)
+     */
+    @Query(value = "{ 'room': ?0, 'isDeleted': false, 'timestamp': { $lt: ?1 } }", fields = HISTORY_FIELDS)
+    Slice<Message> findHistoryPage(String roomId, LocalDateTime before, Pageable pageable);
     /**
      * 특정 시간 이후의 메시지 수 카운트 (삭제되지 않은 메시지만)
      * 최근 N분간 메시지 수를 조회할 때 사용
@@ -25,6 +40,20 @@ public interface MessageRepository extends MongoRepository<Message, String> {
      */
     Optional<Message> findByFileId(String fileId);
 
+    /**
+     * 파일 스냅샷이 없는 기존 파일 메시지 조회 (백필용)
+     */
+    @Query(value = "{ 'file': { $ne: null }, 'fileSnapshot': { $exists: false } }",
+            fields = "{ '_id': 1, 'file': 1, 'metadata': 1 }")
+    List<Message> findFileMessagesWithoutSnapshot(Pageable pageable);
+
+    /**
+     * 다른 필드를 덮어쓰지 않고 파일 스냅샷만 기록 (백필용, 원본 파일이 삭제됐으면 null 기록)
+     */
+    @Query("{ '_id': ?0 }")
+    @Update("{ '$set': { 'fileSnapshot': ?1 } }")
+    void updateFileSnapshot(String messageId, FileSnapshot fileSnapshot);
+
     /**
      * 대량의 메시지 데이터 조회 시 메모리 절약을 위해 Stream 사용
      * (주의: 사용 시 트랜잭션 내에서 실행하거나 Stream을 닫아주어야 함)
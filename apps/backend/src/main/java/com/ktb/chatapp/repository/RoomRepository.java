@@ -8,16 +8,23 @@ import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface RoomRepository extends MongoRepository<Room, String> {
+public interface RoomRepository extends MongoRepository<Room, String>, RoomRepositoryCustom {
 
     // 페이지네이션과 함께 모든 방 조회
     Page<Room> findAll(Pageable pageable);
 
-    // 검색어와 함께 페이지네이션 조회
-    Page<Room> findByNameContainingIgnoreCase(String name, Pageable pageable);
+    // 이름 검색: n-gram 인덱스($all)로 후보를 좁힌 뒤 정규화된 이름으로 부분 문자열 확인
+    @Query("{ 'nameNgrams': { $all: ?0 }, 'nameNormalized': { $regex: ?1 } }")
+    Page<Room> searchByNameNgrams(List<String> ngrams, String normalizedPattern, Pageable pageable);
+
+    // 검색 토큰이 없는 기존 방 조회 (백필용)
+    @Query("{ 'nameNgrams': { $exists: false } }")
+    List<Room> findWithoutNameNgrams(Pageable pageable);
 
     // 가장 최근에 생성된 방 조회 (Health Check용)
     @Query(value = "{}", sort = "{ 'createdAt': -1 }")
@@ -27,6 +34,14 @@ public interface RoomRepository extends MongoRepository<Room, String> {
     @Query(value = "{}", fields = "{ '_id': 1 }")
     Optional<Room> findOneForHealthCheck();
 
+    // 재접속 시 여러 방의 참여 여부를 한 번에 확인 (_id만 반환)
+    @Query(value = "{ '_id': { $in: ?0 }, 'participantIds': ?1 }", fields = "{ '_id': 1 }")
+    List<Room> findParticipatingRoomIds(Collection<String> roomIds, String userId);
+
+    // 단일 방 참여 여부 확인 (참여자 목록을 읽지 않음, 파일 접근 권한 검증용)
+    @Query(value = "{ '_id': ?0, 'participantIds': ?1 }", exists = true)
+    boolean isParticipant(String roomId, String userId);
+
     @Query("{'_id': ?0}")
     @Update("{'$addToSet': {'participantIds': ?1}}")
     void addParticipant(String roomId, String userId);
@@ -34,4 +49,9 @@ public interface RoomRepository extends MongoRepository<Room, String> {
     @Query("{'_id': ?0}")
     @Update("{'$pull': {'participantIds': ?1}}")
     void removeParticipant(String roomId, String userId);
+
+    // 참여자 목록을 덮어쓰지 않도록 검색 필드만 갱신 (백필용)
+    @Query("{'_id': ?0}")
+    @Update("{'$set': {'nameNormalized': ?1, 'nameNgrams': ?2}}")
+    void updateNameSearchFields(String roomId, String nameNormalized, List<String> nameNgrams);
 }
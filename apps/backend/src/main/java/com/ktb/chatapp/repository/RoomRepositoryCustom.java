@@ -0,0 +1,24 @@
+package com.ktb.chatapp.repository;
+
+import com.ktb.chatapp.model.Room;
+import java.util.Optional;
+
+/**
+ * 참여자 목록 버전을 함께 갱신하는 원자적 참여자 변경 연산
+ */
+public interface RoomRepositoryCustom {
+
+    /**
+     * 참여자를 추가하고 participantsVersion을 1 증가시킨다.
+     *
+     * @return 실제로 추가된 경우 participantIds/participantsVersion이 채워진 갱신 후 방, 이미 참여 중이거나 방이 없으면 empty
+     */
+    Optional<Room> addParticipantWithVersion(String roomId, String userId);
+
+    /**
+     * 참여자를 제거하고 participantsVersion을 1 증가시킨다.
+     *
+     * @return 실제로 제거된 경우 갱신 후 방, 참여자가 아니거나 방이 없으면 empty
+     */
+    Optional<Room> removeParticipantWithVersion(String roomId, String userId);
+}
@@ -0,0 +1,41 @@
+package com.ktb.chatapp.repository;
+
+import com.ktb.chatapp.model.Room;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@RequiredArgsConstructor
+class RoomRepositoryCustomImpl implements RoomRepositoryCustom {
+
+    private static final String PARTICIPANT_IDS = "participantIds";
+    private static final String PARTICIPANTS_VERSION = "participantsVersion";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<Room> addParticipantWithVersion(String roomId, String userId) {
+        Query query = new Query(where("_id").is(roomId).and(PARTICIPANT_IDS).ne(userId));
+        Update update = new Update().addToSet(PARTICIPANT_IDS, userId).inc(PARTICIPANTS_VERSION, 1);
+        return findAndModify(query, update);
+    }
+
+    @Override
+    public Optional<Room> removeParticipantWithVersion(String roomId, String userId) {
+        Query query = new Query(where("_id").is(roomId).and(PARTICIPANT_IDS).is(userId));
+        Update update = new Update().pull(PARTICIPANT_IDS, userId).inc(PARTICIPANTS_VERSION, 1);
+        return findAndModify(query, update);
+    }
+
+    private Optional<Room> findAndModify(Query query, Update update) {
+        // 참여자 목록과 버전만 반환받아 전송량 최소화
+        query.fields().include(PARTICIPANT_IDS, PARTICIPANTS_VERSION);
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query, update, FindAndModifyOptions.options().returnNew(true), Room.class));
+    }
+}
@@ -0,0 +1,132 @@
+package com.ktb.chatapp.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * 검증이 끝난 Jwt를 토큰 만료 시각까지 재사용하는 JwtDecoder
+ * REST 요청마다, 소켓 핸드셰이크마다 반복되는 서명 검증(HMAC)과 클레임 JSON 파싱을 토큰당 한 번으로 줄인다.
+ * 원문 토큰 대신 SHA-256 해시를 키로 보관하고, 검증에 실패한 토큰은 캐싱하지 않는다.
+ * 세션 폐기는 JWT가 아니라 SessionService 검증으로 반영되므로 만료 전 Jwt를 재사용해도 로그아웃이 늦어지지 않는다.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final int maxEntries;
+
+    private final Map<String, Jwt> verified = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter fullCounter;
+    private final Timer hitTimer;
+    private final Timer missTimer;
+    private final Timer failedTimer;
+
+    public CachingJwtDecoder(JwtDecoder delegate, int maxEntries, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxEntries = maxEntries;
+        this.hitCounter = cacheCounter(meterRegistry, "hit");
+        this.missCounter = cacheCounter(meterRegistry, "miss");
+        this.fullCounter = cacheCounter(meterRegistry, "full");
+        this.hitTimer = decodeTimer(meterRegistry, "hit");
+        this.missTimer = decodeTimer(meterRegistry, "miss");
+        this.failedTimer = decodeTimer(meterRegistry, "failed");
+        Gauge.builder("auth.jwt.cache.size", verified, Map::size)
+                .description("Verified JWTs cached until expiry")
+                .register(meterRegistry);
+    }
+
+    private static Counter cacheCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("auth.jwt.cache")
+                .description("Verified JWT cache lookups and rejected stores")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // 서명 검증과 파싱은 요청 스레드에서 동기로 실행되는 CPU 작업이라 경과 시간이 곧 요청당 인증 CPU 비용
+    private static Timer decodeTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("auth.jwt.decode")
+                .description("Time spent decoding and verifying a JWT per request")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        long start = System.nanoTime();
+        String key = tokenHash(token);
+        Jwt cached = verified.get(key);
+        if (cached != null) {
+            if (!isExpired(cached, Instant.now())) {
+                hitCounter.increment();
+                hitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return cached;
+            }
+            verified.remove(key, cached);
+        }
+
+        missCounter.increment();
+        Jwt jwt;
+        try {
+            jwt = delegate.decode(token);
+        } catch (JwtException e) {
+            failedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        if (jwt.getExpiresAt() != null && !isExpired(jwt, Instant.now()) && hasRoomFor(key)) {
+            verified.put(key, jwt);
+        }
+        missTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return jwt;
+    }
+
+    /**
+     * 만료된 Jwt 정리 (같은 토큰이 다시 오지 않아도 제거)
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.cache.eviction-interval-ms:60000}")
+    public void evictExpired() {
+        Instant now = Instant.now();
+        verified.values().removeIf(jwt -> isExpired(jwt, now));
+    }
+
+    int size() {
+        return verified.size();
+    }
+
+    private boolean hasRoomFor(String key) {
+        if (verified.size() < maxEntries || verified.containsKey(key)) {
+            return true;
+        }
+        // 정리 주기 사이에 가득 차면 저장하지 않고 매번 검증 (스케줄러가 만료 항목을 정리)
+        fullCounter.increment();
+        return false;
+    }
+
+    private static boolean isExpired(Jwt jwt, Instant now) {
+        return !jwt.getExpiresAt().isAfter(now);
+    }
+
+    static String tokenHash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
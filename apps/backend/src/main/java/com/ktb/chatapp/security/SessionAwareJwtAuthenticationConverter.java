@@ -3,7 +3,8 @@ package com.ktb.chatapp.security;
 import com.ktb.chatapp.exception.SessionExpiredException;
 import com.ktb.chatapp.service.SessionService;
 import com.ktb.chatapp.service.SessionValidationResult;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
@@ -18,15 +19,27 @@ import java.util.HashMap;
 import java.util.Map;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class SessionAwareJwtAuthenticationConverter implements Converter<Jwt, AbstractAuthenticationToken> {
     
     private final SessionService sessionService;
     private final JwtGrantedAuthoritiesConverter jwtGrantedAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
+    private final Timer convertTimer;
+
+    public SessionAwareJwtAuthenticationConverter(SessionService sessionService, MeterRegistry meterRegistry) {
+        this.sessionService = sessionService;
+        // JWT 디코딩(auth.jwt.decode) 이후 요청당 인증 비용 (세션 검증 포함)
+        this.convertTimer = Timer.builder("auth.jwt.convert")
+                .description("Time spent building the authentication from a verified JWT")
+                .register(meterRegistry);
+    }
     
     @Override
     public AbstractAuthenticationToken convert(Jwt jwt) {
+        return convertTimer.record(() -> authenticate(jwt));
+    }
+
+    private AbstractAuthenticationToken authenticate(Jwt jwt) {
         // 1. JWT에서 사용자 이메일 및 ID 추출
         String email = jwt.getSubject();  // subject는 이메일
         String userId = jwt.getClaimAsString("userId");  // userId는 별도 claim
@@ -0,0 +1,33 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * 권한 검증이 끝난 다운로드 대상 파일
+ * 전체를 Resource로 읽지 않고 요청된 바이트 구간만 출력 스트림으로 전송한다.
+ */
+public interface DownloadableFile {
+
+    File file();
+
+    /**
+     * 전체 바이트 길이
+     */
+    long length();
+
+    /**
+     * 로컬 디스크 파일이면 경로 (sendfile 전송용), 원격 저장소면 empty
+     */
+    default Optional<Path> localPath() {
+        return Optional.empty();
+    }
+
+    /**
+     * [start, start + count) 구간을 출력 스트림으로 전송
+     */
+    void transferTo(long start, long count, OutputStream out) throws IOException;
+}
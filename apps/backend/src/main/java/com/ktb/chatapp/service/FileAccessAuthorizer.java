@@ -0,0 +1,123 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.repository.FileRepository;
+import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.repository.RoomRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 파일 접근 권한 검증 (방 참가자만 접근 가능)
+ * 허용된 (파일명, 사용자) 조합을 짧게 캐싱해 이미지가 많은 방에서 반복되는 조회를 없앤다.
+ * 거부 결과는 캐싱하지 않으므로 방에 막 참여한 사용자가 잘못 거부되는 일은 없고,
+ * 참여자가 빠질 때는 evictRoom으로 해당 방 항목을 즉시 제거한다.
+ */
+@Slf4j
+@Service
+public class FileAccessAuthorizer {
+
+    private final FileRepository fileRepository;
+    private final MessageRepository messageRepository;
+    private final RoomRepository roomRepository;
+    private final MeterRegistry meterRegistry;
+    private final long ttlMs;
+    private final int maxEntries;
+
+    private final Map<AccessKey, AccessEntry> grants = new ConcurrentHashMap<>();
+
+    public FileAccessAuthorizer(FileRepository fileRepository,
+                                MessageRepository messageRepository,
+                                RoomRepository roomRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${file.access-cache.ttl-seconds:60}") long ttlSeconds,
+                                @Value("${file.access-cache.max-entries:10000}") int maxEntries) {
+        this.fileRepository = fileRepository;
+        this.messageRepository = messageRepository;
+        this.roomRepository = roomRepository;
+        this.meterRegistry = meterRegistry;
+        this.ttlMs = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        this.maxEntries = maxEntries;
+        meterRegistry.gaugeMapSize("files.access.cache.size", Tags.empty(), grants);
+    }
+
+    /**
+     * 파일 조회 및 방 참가자 권한 검증
+     */
+    public File authorize(String fileName, String requesterId) {
+        AccessKey key = new AccessKey(fileName, requesterId);
+        AccessEntry cached = grants.get(key);
+        if (cached != null && !cached.isExpired()) {
+            lookup("hit");
+            return cached.file();
+        }
+        lookup("miss");
+
+        // 1. 파일 조회
+        File fileEntity = fileRepository.findByFilename(fileName)
+                .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다: " + fileName));
+
+        // 2. 소속 방 확인 (전송 시 기록된 roomId 우선, 이전 데이터는 메시지에서 찾아 기록)
+        String roomId = fileEntity.getRoomId();
+        if (roomId == null) {
+            Message message = messageRepository.findByFileId(fileEntity.getId())
+                    .orElseThrow(() -> new RuntimeException("파일과 연결된 메시지를 찾을 수 없습니다"));
+            roomId = message.getRoomId();
+            fileRepository.assignRoomIfAbsent(fileEntity.getId(), roomId);
+            fileEntity.setRoomId(roomId);
+        }
+
+        // 3. 권한 검증 - 방 참가자만 파일 접근 가능
+        if (!roomRepository.isParticipant(roomId, requesterId)) {
+            if (!roomRepository.existsById(roomId)) {
+                throw new RuntimeException("방을 찾을 수 없습니다");
+            }
+            log.warn("파일 접근 권한 없음: {} (사용자: {})", fileName, requesterId);
+            throw new RuntimeException("파일에 접근할 권한이 없습니다");
+        }
+
+        if (grants.size() >= maxEntries) {
+            grants.values().removeIf(AccessEntry::isExpired);
+        }
+        if (grants.size() < maxEntries) {
+            grants.put(key, new AccessEntry(fileEntity, roomId, System.currentTimeMillis() + ttlMs));
+        }
+        return fileEntity;
+    }
+
+    /**
+     * 방 참여자 변경 시 해당 방 파일 권한 캐시 무효화
+     */
+    public void evictRoom(String roomId) {
+        if (roomId != null) {
+            grants.values().removeIf(entry -> roomId.equals(entry.roomId()));
+        }
+    }
+
+    /**
+     * 파일 삭제 시 캐시 무효화
+     */
+    public void evictFile(String fileName) {
+        grants.keySet().removeIf(key -> key.fileName().equals(fileName));
+    }
+
+    private void lookup(String result) {
+        meterRegistry.counter("files.access.cache", "result", result).increment();
+    }
+
+    private record AccessKey(String fileName, String userId) {
+    }
+
+    private record AccessEntry(File file, String roomId, long expiresAt) {
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
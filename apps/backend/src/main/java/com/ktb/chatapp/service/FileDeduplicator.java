@@ -0,0 +1,114 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.repository.FileRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 내용 해시 기반 파일 중복 제거
+ * 같은 내용이 다시 업로드되면 File 문서는 새로 만들되(파일명/권한은 업로드별로 유지)
+ * 저장소 경로는 기존 사본을 가리키게 하고 방금 저장한 사본은 지운다.
+ * 참조 수는 같은 path를 가진 File 문서 수이며, 0이 될 때만 저장소에서 삭제한다.
+ * 삭제는 먼저 경로에 삭제 예고를 남긴 뒤 참조 수를 다시 세고, 저장은 문서를 저장한 뒤 예고와 사본 존재를
+ * 확인한 다음에야 자기 사본을 지우므로, 둘이 겹치면 삭제를 포기하거나 저장이 자기 사본을 유지한다.
+ */
+@Slf4j
+@Component
+public class FileDeduplicator {
+
+    private final FileRepository fileRepository;
+    private final Counter dedupHits;
+    private final Counter dedupMisses;
+    private final Counter blobsReleased;
+
+    public FileDeduplicator(FileRepository fileRepository, MeterRegistry meterRegistry) {
+        this.fileRepository = fileRepository;
+        this.dedupHits = Counter.builder("files.dedup")
+                .description("Uploads checked for duplicate content")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.dedupMisses = Counter.builder("files.dedup")
+                .description("Uploads checked for duplicate content")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.blobsReleased = Counter.builder("files.dedup.released")
+                .description("Stored objects deleted after their last File reference was removed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 새로 저장한 파일의 File 문서 저장 (동일 내용이 이미 있으면 기존 경로 공유)
+     * 문서를 먼저 저장한 뒤 삭제 예고와 기존 사본 존재를 확인한다. 삭제 쪽은 예고를 남긴 뒤에 참조 수를 세고
+     * 사본을 지운 뒤에야 예고를 해제하므로, 이 확인을 통과하면 삭제가 이 문서를 보고 포기했거나 아직 시작 전이다.
+     * 겹친 삭제가 결국 포기하면 기존 사본이 참조 없이 남을 수 있지만(저장소 누수), 참조가 끊긴 문서는 생기지 않는다.
+     *
+     * @param uploaded   방금 저장한 경로/URL과 contentHash가 채워진 File
+     * @param blobExists 저장소 경로 존재 확인
+     * @param deleteBlob 저장소 경로 삭제
+     */
+    public File save(File uploaded, Predicate<String> blobExists, Consumer<String> deleteBlob) {
+        String uploadedPath = uploaded.getPath();
+        String uploadedUrl = uploaded.getUrl();
+
+        Optional<File> existing = uploaded.getContentHash() == null
+                ? Optional.empty()
+                : fileRepository.findFirstByContentHashAndSize(uploaded.getContentHash(), uploaded.getSize());
+        if (existing.isEmpty() || uploadedPath.equals(existing.get().getPath())) {
+            dedupMisses.increment();
+            return fileRepository.save(uploaded);
+        }
+
+        uploaded.setPath(existing.get().getPath());
+        uploaded.setUrl(existing.get().getUrl());
+        uploaded.setDerivatives(existing.get().getDerivatives());
+        File saved = fileRepository.save(uploaded);
+
+        if (!fileRepository.isBlobReleaseClaimed(saved.getPath()) && blobExists.test(saved.getPath())) {
+            deleteBlob.accept(uploadedPath);
+            dedupHits.increment();
+            log.info("중복 파일 내용 재사용: {} -> {}", saved.getFilename(), saved.getPath());
+            return saved;
+        }
+
+        // 기존 사본이 삭제 중이거나 그 사이 삭제됨 - 방금 저장한 사본 사용
+        saved.setPath(uploadedPath);
+        saved.setUrl(uploadedUrl);
+        saved.setDerivatives(null);
+        dedupMisses.increment();
+        return fileRepository.save(saved);
+    }
+
+    /**
+     * File 문서 삭제 후 같은 경로를 참조하는 문서가 더 없으면 저장소에서도 삭제
+     *
+     * @return 저장소 경로까지 삭제했으면 true
+     */
+    public boolean delete(File file, Consumer<String> deleteBlob) {
+        fileRepository.delete(file);
+        String path = file.getPath();
+        if (path == null || fileRepository.countByPath(path) > 0) {
+            log.debug("다른 파일이 참조 중이라 저장소 유지: {}", path);
+            return false;
+        }
+
+        // 삭제 예고 후 다시 세어, 첫 확인 이후 이 경로를 공유한 저장이 있으면 삭제 포기
+        fileRepository.claimBlobRelease(path);
+        try {
+            if (fileRepository.countByPath(path) > 0) {
+                log.debug("삭제 도중 중복 업로드가 경로를 공유해 저장소 유지: {}", path);
+                return false;
+            }
+            deleteBlob.accept(path);
+            blobsReleased.increment();
+            return true;
+        } finally {
+            fileRepository.finishBlobRelease(path);
+        }
+    }
+}
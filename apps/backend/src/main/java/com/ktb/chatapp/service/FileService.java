@@ -1,15 +1,43 @@
 package com.ktb.chatapp.service;
 
-import org.springframework.core.io.Resource;
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.service.thumbnail.ImageVariant;
+import java.io.InputStream;
+import java.util.Optional;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface FileService {
 
     FileUploadResult uploadFile(MultipartFile file, String uploaderId);
 
+    /**
+     * 요청 본문 스트림을 그대로 저장 (메타데이터는 호출 측에서 검증, 본문 전체를 힙에 올리지 않음)
+     */
+    FileUploadResult uploadStream(String originalFilename, String contentType, long size,
+                                  InputStream in, String uploaderId);
+
     String storeFile(MultipartFile file, String subDirectory);
 
-    Resource loadFileAsResource(String fileName, String requesterId);
+    /**
+     * 방 참가자 권한을 검증한 뒤 구간 전송이 가능한 다운로드 대상 반환
+     */
+    DownloadableFile openDownload(String fileName, String requesterId);
+
+    /**
+     * 내부 처리용 원본 열기 (권한 검증 없음, 파생본 생성 등 서버 작업 전용)
+     */
+    DownloadableFile openStored(File file);
+
+    /**
+     * 원본 옆(원본 경로 + 접미사)에 이미지 파생본 저장
+     */
+    void storeDerivative(File file, ImageVariant variant, String contentType, byte[] content);
+
+    /**
+     * 저장된 파생본 열기 (아직 생성되지 않았으면 empty)
+     * 생성 여부는 File 문서의 derivatives 기록을 기준으로 한다.
+     */
+    Optional<DownloadableFile> openDerivative(File file, ImageVariant variant);
 
     boolean deleteFile(String fileId, String requesterId);
 }
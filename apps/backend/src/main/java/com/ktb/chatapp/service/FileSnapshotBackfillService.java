@@ -0,0 +1,100 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.model.FileSnapshot;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.repository.FileRepository;
+import com.ktb.chatapp.repository.MessageRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+/**
+ * 기존 파일 메시지에 파일 스냅샷 백필
+ * 스냅샷 도입 이전 메시지는 조회 때마다 files 컬렉션을 읽으므로, 기동 후 배치 단위로 채워 넣는다.
+ * 처리한 메시지는 조회 조건에서 빠지므로 _id 순으로 매번 첫 페이지를 읽고, 진행 확인용으로 직전 배치 id만 보관한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileSnapshotBackfillService {
+
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final MessageRepository messageRepository;
+    private final FileRepository fileRepository;
+
+    /**
+     * 기동 후 비동기 수행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        CompletableFuture.runAsync(this::backfill);
+    }
+
+    int backfill() {
+        int updated = 0;
+        Set<String> previousBatch = Set.of();
+        PageRequest firstPage = PageRequest.of(0, BACKFILL_BATCH_SIZE, Sort.by(Sort.Direction.ASC, "id"));
+        try {
+            while (true) {
+                List<Message> messages = messageRepository.findFileMessagesWithoutSnapshot(firstPage);
+                if (messages.isEmpty()) {
+                    break;
+                }
+                // 갱신이 반영되지 않아 직전 배치의 메시지가 다시 조회되면 중단
+                Set<String> batchIds = messages.stream().map(Message::getId).collect(Collectors.toSet());
+                if (batchIds.stream().anyMatch(previousBatch::contains)) {
+                    log.warn("File snapshot backfill stopped: batch made no progress");
+                    break;
+                }
+                previousBatch = batchIds;
+
+                // 배치당 files 조회 한 번
+                Set<String> fileIds = messages.stream().map(Message::getFileId).collect(Collectors.toSet());
+                Map<String, File> files = fileRepository.findAllById(fileIds).stream()
+                        .collect(Collectors.toMap(File::getId, Function.identity()));
+
+                for (Message message : messages) {
+                    File file = files.get(message.getFileId());
+                    messageRepository.updateFileSnapshot(message.getId(),
+                            file != null ? FileSnapshot.of(file) : fromLegacyMetadata(message.getMetadata()));
+                }
+                updated += messages.size();
+            }
+            if (updated > 0) {
+                log.info("Message file snapshots backfilled: {} messages", updated);
+            }
+        } catch (Exception e) {
+            log.error("Message file snapshot backfill failed after {} messages", updated, e);
+        }
+        return updated;
+    }
+
+    /**
+     * 원본 파일이 삭제된 경우 전송 당시 metadata로 복원 (정보가 없으면 null)
+     */
+    private FileSnapshot fromLegacyMetadata(Map<String, Object> metadata) {
+        if (metadata == null
+                || !(metadata.get("fileName") instanceof String filename)
+                || !(metadata.get("fileSize") instanceof Number size)) {
+            return null;
+        }
+        return FileSnapshot.builder()
+                .filename(filename)
+                .originalname(metadata.get("originalName") instanceof String name ? name : filename)
+                .mimetype(metadata.get("fileType") instanceof String type ? type : null)
+                .size(size.longValue())
+                .build();
+    }
+}
@@ -83,6 +83,19 @@ public class JwtService {
         }
     }
 
+    /**
+     * 토큰을 한 번 디코딩해 사용자 ID, 세션 ID, 이메일, 만료 시간을 함께 추출
+     * 여러 클레임이 필요하면 extract* 메서드를 각각 호출하지 말고 이 메서드를 사용
+     */
+    public TokenClaims extractClaims(String token) {
+        try {
+            return TokenClaims.from(jwtDecoder.decode(token));
+        } catch (JwtException e) {
+            log.debug("Failed to extract claims from token: {}", e.getMessage());
+            throw e;
+        }
+    }
+
     /**
      * 토큰에서 이메일(subject) 추출
      */
@@ -1,24 +1,32 @@
 package com.ktb.chatapp.service;
 
 import com.ktb.chatapp.model.File;
-import com.ktb.chatapp.model.Message;
-import com.ktb.chatapp.model.Room;
 import com.ktb.chatapp.repository.FileRepository;
-import com.ktb.chatapp.repository.MessageRepository;
-import com.ktb.chatapp.repository.RoomRepository;
+import com.ktb.chatapp.service.thumbnail.ImageVariant;
+import com.ktb.chatapp.util.DirectBufferPool;
 import com.ktb.chatapp.util.FileUtil;
 import jakarta.annotation.PostConstruct;
+import java.io.EOFException;
 import java.io.IOException;
-import java.net.MalformedURLException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
 import java.time.LocalDateTime;
+import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
@@ -29,16 +37,19 @@ public class LocalFileService implements FileService {
 
     private final Path fileStorageLocation;
     private final FileRepository fileRepository;
-    private final MessageRepository messageRepository;
-    private final RoomRepository roomRepository;
+    private final FileAccessAuthorizer fileAccessAuthorizer;
+    private final FileDeduplicator fileDeduplicator;
+    private final DirectBufferPool uploadBuffers;
 
     public LocalFileService(@Value("${file.upload-dir:uploads}") String uploadDir,
                       FileRepository fileRepository,
-                      MessageRepository messageRepository,
-                      RoomRepository roomRepository) {
+                      FileAccessAuthorizer fileAccessAuthorizer,
+                      FileDeduplicator fileDeduplicator,
+                      @Qualifier("localUploadBufferPool") DirectBufferPool uploadBuffers) {
+        this.uploadBuffers = uploadBuffers;
         this.fileRepository = fileRepository;
-        this.messageRepository = messageRepository;
-        this.roomRepository = roomRepository;
+        this.fileDeduplicator = fileDeduplicator;
+        this.fileAccessAuthorizer = fileAccessAuthorizer;
         this.fileStorageLocation = Paths.get(uploadDir).toAbsolutePath().normalize();
     }
     
@@ -53,12 +64,21 @@ public class LocalFileService implements FileService {
 
     @Override
     public FileUploadResult uploadFile(MultipartFile file, String uploaderId) {
-        try {
-            // 파일 보안 검증
-            FileUtil.validateFile(file);
+        // 파일 보안 검증
+        FileUtil.validateFile(file);
+        try (InputStream in = file.getInputStream()) {
+            return uploadStream(file.getOriginalFilename(), file.getContentType(), file.getSize(), in, uploaderId);
+        } catch (IOException e) {
+            log.error("파일 읽기 실패: {}", e.getMessage(), e);
+            throw new RuntimeException("파일 업로드에 실패했습니다: " + e.getMessage(), e);
+        }
+    }
 
+    @Override
+    public FileUploadResult uploadStream(String originalFilename, String contentType, long size,
+                                         InputStream in, String uploaderId) {
+        try {
             // 안전한 파일명 생성
-            String originalFilename = file.getOriginalFilename();
             if (originalFilename == null) {
                 originalFilename = "file";
             }
@@ -69,8 +89,9 @@ public class LocalFileService implements FileService {
             Path filePath = fileStorageLocation.resolve(safeFileName);
             FileUtil.validatePath(filePath, fileStorageLocation);
 
-            // 파일 저장
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+            // 파일 저장 (Direct 버퍼로 옮겨 쓰면서 해시)
+            MessageDigest digest = FileUtil.newContentDigest();
+            writeThroughDirectBuffer(in, filePath, size, digest);
 
             log.info("파일 저장 완료: {}", safeFileName);
 
@@ -81,14 +102,15 @@ public class LocalFileService implements FileService {
             File fileEntity = File.builder()
                     .filename(safeFileName)
                     .originalname(normalizedOriginalname)
-                    .mimetype(file.getContentType())
-                    .size(file.getSize())
+                    .mimetype(contentType)
+                    .size(size)
                     .path(filePath.toString())
+                    .contentHash(FileUtil.toContentHash(digest))
                     .user(uploaderId)
                     .uploadDate(LocalDateTime.now())
                     .build();
 
-            File savedFile = fileRepository.save(fileEntity);
+            File savedFile = fileDeduplicator.save(fileEntity, path -> Files.exists(Paths.get(path)), this::deleteStoredFile);
 
             return FileUploadResult.builder()
                     .success(true)
@@ -101,6 +123,35 @@ public class LocalFileService implements FileService {
         }
     }
 
+    /**
+     * 풀에서 빌린 Direct 버퍼 하나로 스트림을 파일에 옮겨 씀 (선언된 크기와 다르면 저장한 파일 삭제)
+     */
+    private void writeThroughDirectBuffer(InputStream in, Path filePath, long size, MessageDigest digest)
+            throws IOException, InterruptedException {
+        ByteBuffer buffer = uploadBuffers.acquire();
+        long written = 0;
+        try (FileChannel out = FileChannel.open(filePath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ReadableByteChannel source = Channels.newChannel(in);
+            while (source.read(buffer.clear()) >= 0) {
+                buffer.flip();
+                digest.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    written += out.write(buffer);
+                }
+                if (written > size) {
+                    break;
+                }
+            }
+        } finally {
+            uploadBuffers.release(buffer);
+        }
+        if (written != size) {
+            Files.deleteIfExists(filePath);
+            throw new IOException("업로드 크기가 선언된 크기와 다릅니다.");
+        }
+    }
+
     @Override
     public String storeFile(MultipartFile file, String subDirectory) {
         try {
@@ -145,43 +196,64 @@ public class LocalFileService implements FileService {
     }
 
     @Override
-    public Resource loadFileAsResource(String fileName, String requesterId) {
-        try {
-            // 1. 파일 조회
-            File fileEntity = fileRepository.findByFilename(fileName)
-                    .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다: " + fileName));
-
-            // 2. 메시지 조회 (파일과 메시지 연결 확인) - 효율적인 쿼리 메서드 사용
-            Message message = messageRepository.findByFileId(fileEntity.getId())
-                    .orElseThrow(() -> new RuntimeException("파일과 연결된 메시지를 찾을 수 없습니다"));
-
-            // 3. 방 조회 (사용자가 방 참가자인지 확인)
-            Room room = roomRepository.findById(message.getRoomId())
-                    .orElseThrow(() -> new RuntimeException("방을 찾을 수 없습니다"));
-
-            // 4. 권한 검증
-            if (!room.getParticipantIds().contains(requesterId)) {
-                log.warn("파일 접근 권한 없음: {} (사용자: {})", fileName, requesterId);
-                throw new RuntimeException("파일에 접근할 권한이 없습니다");
-            }
+    public DownloadableFile openDownload(String fileName, String requesterId) {
+        // 1. 파일 조회 및 방 참가자 권한 검증
+        File fileEntity = fileAccessAuthorizer.authorize(fileName, requesterId);
 
-            // 5. 파일 경로 검증 및 로드
-            Path filePath = this.fileStorageLocation.resolve(fileName).normalize();
-            FileUtil.validatePath(filePath, this.fileStorageLocation);
+        // 2. 파일 경로 검증 (중복 제거된 파일은 다른 파일명의 저장 경로를 공유)
+        Path filePath = storedPath(fileEntity);
+        FileUtil.validatePath(filePath, this.fileStorageLocation);
 
-            Resource resource = new UrlResource(filePath.toUri());
-            if (resource.exists()) {
-                log.info("파일 로드 성공: {} (사용자: {})", fileName, requesterId);
-                return resource;
-            } else {
-                throw new RuntimeException("파일을 찾을 수 없습니다: " + fileName);
-            }
-        } catch (MalformedURLException ex) {
+        try {
+            long length = Files.size(filePath);
+            log.info("파일 로드 성공: {} (사용자: {})", fileName, requesterId);
+            return new LocalDownloadableFile(fileEntity, filePath, length);
+        } catch (IOException ex) {
             log.error("파일 로드 실패: {}", ex.getMessage(), ex);
             throw new RuntimeException("파일을 찾을 수 없습니다: " + fileName, ex);
         }
     }
 
+    @Override
+    public DownloadableFile openStored(File file) {
+        Path filePath = storedPath(file);
+        FileUtil.validatePath(filePath, this.fileStorageLocation);
+        try {
+            return new LocalDownloadableFile(file, filePath, Files.size(filePath));
+        } catch (IOException ex) {
+            throw new RuntimeException("파일을 찾을 수 없습니다: " + file.getFilename(), ex);
+        }
+    }
+
+    @Override
+    public void storeDerivative(File file, ImageVariant variant, String contentType, byte[] content) {
+        Path target = Paths.get(variant.pathOf(storedPath(file).toString()));
+        FileUtil.validatePath(target, this.fileStorageLocation);
+        try {
+            // 임시 파일에 쓴 뒤 이동해 읽는 쪽이 쓰다 만 파일을 보지 않게 함
+            Path temp = Files.createTempFile(this.fileStorageLocation, ".derivative", ".tmp");
+            Files.write(temp, content);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            throw new RuntimeException("파생본 저장에 실패했습니다: " + ex.getMessage(), ex);
+        }
+    }
+
+    @Override
+    public Optional<DownloadableFile> openDerivative(File file, ImageVariant variant) {
+        if (file.derivativeSize(variant.key()) == null) {
+            return Optional.empty();
+        }
+        Path derivative = Paths.get(variant.pathOf(storedPath(file).toString()));
+        FileUtil.validatePath(derivative, this.fileStorageLocation);
+        try {
+            long length = Files.size(derivative);
+            return Optional.of(new LocalDownloadableFile(variant.describe(file, length), derivative, length));
+        } catch (IOException ex) {
+            return Optional.empty();
+        }
+    }
+
     @Override
     public boolean deleteFile(String fileId, String requesterId) {
         try {
@@ -193,12 +265,9 @@ public class LocalFileService implements FileService {
                 throw new RuntimeException("파일을 삭제할 권한이 없습니다.");
             }
 
-            // 물리적 파일 삭제
-            Path filePath = this.fileStorageLocation.resolve(fileEntity.getFilename());
-            Files.deleteIfExists(filePath);
-
-            // 데이터베이스에서 제거
-            fileRepository.delete(fileEntity);
+            // 데이터베이스에서 제거 후 더 이상 참조가 없으면 물리적 파일 삭제
+            fileDeduplicator.delete(fileEntity, this::deleteStoredFile);
+            fileAccessAuthorizer.evictFile(fileEntity.getFilename());
 
             log.info("파일 삭제 완료: {} (사용자: {})", fileId, requesterId);
             return true;
@@ -208,4 +277,54 @@ public class LocalFileService implements FileService {
             throw new RuntimeException("파일 삭제 중 오류가 발생했습니다.", e);
         }
     }
+
+    private Path storedPath(File fileEntity) {
+        if (fileEntity.getPath() == null) {
+            return this.fileStorageLocation.resolve(fileEntity.getFilename()).normalize();
+        }
+        return Paths.get(fileEntity.getPath()).toAbsolutePath().normalize();
+    }
+
+    private void deleteStoredFile(String path) {
+        Path filePath = Paths.get(path).toAbsolutePath().normalize();
+        FileUtil.validatePath(filePath, this.fileStorageLocation);
+        try {
+            Files.deleteIfExists(filePath);
+            for (ImageVariant variant : ImageVariant.values()) {
+                Files.deleteIfExists(Paths.get(variant.pathOf(filePath.toString())));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 로컬 디스크 파일 다운로드 (sendfile을 쓸 수 없을 때의 스트림 전송)
+     * 대상이 서블릿 출력 스트림을 감싼 채널이라 transferTo도 JDK 내부 버퍼를 거쳐 복사된다.
+     */
+    private record LocalDownloadableFile(File file, Path path, long length) implements DownloadableFile {
+
+        @Override
+        public Optional<Path> localPath() {
+            return Optional.of(path);
+        }
+
+        @Override
+        public void transferTo(long start, long count, OutputStream out) throws IOException {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                WritableByteChannel target = Channels.newChannel(out);
+                long position = start;
+                long remaining = count;
+                while (remaining > 0) {
+                    long transferred = channel.transferTo(position, remaining, target);
+                    if (transferred <= 0) {
+                        // 길이를 확인한 뒤 파일이 줄어든 경우: Content-Length보다 짧은 본문을 정상 종료로 보내지 않음
+                        throw new EOFException("파일이 예상보다 짧습니다: " + path + " (" + position + "/" + (start + count) + ")");
+                    }
+                    position += transferred;
+                    remaining -= transferred;
+                }
+            }
+        }
+    }
 }
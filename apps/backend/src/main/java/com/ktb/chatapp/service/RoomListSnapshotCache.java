@@ -0,0 +1,170 @@
+package com.ktb.chatapp.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.dto.PageRequest;
+import com.ktb.chatapp.dto.RoomsResponse;
+import com.ktb.chatapp.event.RoomCreatedEvent;
+import com.ktb.chatapp.event.RoomUpdatedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 채팅방 목록(GET /api/rooms) 스냅샷 캐시
+ * (sort, order, page, size, search) 단위로 직렬화가 끝난 응답 바디와 ETag를 보관한다.
+ * RoomCreatedEvent/RoomUpdatedEvent 수신 시 전체 무효화하고,
+ * 이벤트가 발행되지 않는 변경(소켓 입장/퇴장, 최근 메시지 수)은 TTL로 반영한다.
+ */
+@Slf4j
+@Service
+public class RoomListSnapshotCache {
+
+    private final ObjectMapper objectMapper;
+    private final long ttlMs;
+    private final int maxEntries;
+
+    private final Map<Key, Snapshot> snapshots = new ConcurrentHashMap<>();
+    // 무효화 세대: 조회 중 무효화가 일어나면 오래된 스냅샷을 저장하지 않기 위해 사용
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter notModifiedCounter;
+
+    public RoomListSnapshotCache(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${rooms.list-cache.ttl-ms:10000}") long ttlMs,
+            @Value("${rooms.list-cache.max-entries:512}") int maxEntries) {
+        this.objectMapper = objectMapper;
+        this.ttlMs = ttlMs;
+        this.maxEntries = maxEntries;
+        this.hitCounter = createCounter(meterRegistry, "hit");
+        this.missCounter = createCounter(meterRegistry, "miss");
+        this.notModifiedCounter = createCounter(meterRegistry, "not_modified");
+    }
+
+    /**
+     * 스냅샷 조회 (없거나 만료되었으면 loader로 생성)
+     * 실패 응답(success=false)은 캐싱하지 않는다.
+     */
+    public Snapshot get(PageRequest pageRequest, Supplier<RoomsResponse> loader) {
+        Key key = Key.from(pageRequest);
+        long now = System.currentTimeMillis();
+
+        Snapshot cached = snapshots.get(key);
+        if (cached != null && !cached.isExpired(now, ttlMs)) {
+            hitCounter.increment();
+            return cached;
+        }
+
+        missCounter.increment();
+        long loadGeneration = generation.get();
+        RoomsResponse response = loader.get();
+        Snapshot snapshot = toSnapshot(response, now);
+
+        if (response.success() && loadGeneration == generation.get() && hasRoomFor(key, now)) {
+            snapshots.put(key, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * If-None-Match 헤더가 스냅샷 ETag와 일치하는지 확인
+     */
+    public boolean isNotModified(String ifNoneMatch, Snapshot snapshot) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if ("*".equals(tag) || snapshot.etag().equals(tag)) {
+                notModifiedCounter.increment();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @EventListener
+    public void handleRoomCreatedEvent(RoomCreatedEvent event) {
+        invalidateAll();
+    }
+
+    @EventListener
+    public void handleRoomUpdatedEvent(RoomUpdatedEvent event) {
+        invalidateAll();
+    }
+
+    /**
+     * 전체 스냅샷 무효화
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        snapshots.clear();
+        log.debug("Room list snapshots invalidated");
+    }
+
+    private boolean hasRoomFor(Key key, long now) {
+        if (snapshots.size() < maxEntries || snapshots.containsKey(key)) {
+            return true;
+        }
+        // 검색어 조합으로 키가 무한히 늘어나지 않도록 만료 항목 정리 후에도 가득 차면 저장하지 않음
+        snapshots.values().removeIf(snapshot -> snapshot.isExpired(now, ttlMs));
+        return snapshots.size() < maxEntries;
+    }
+
+    private Snapshot toSnapshot(RoomsResponse response, long now) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(response);
+            String etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+            return new Snapshot(body, etag, now);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("채팅방 목록 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private static Counter createCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("rooms.list.cache")
+                .description("Room list snapshot cache lookups")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 직렬화된 목록 응답과 ETag
+     */
+    public record Snapshot(byte[] body, String etag, long createdAt) {
+        boolean isExpired(long now, long ttlMs) {
+            return now - createdAt > ttlMs;
+        }
+    }
+
+    /**
+     * 캐시 키 - 유효하지 않은 정렬값은 서비스와 동일하게 기본값으로 정규화
+     */
+    private record Key(String sortField, String sortOrder, int page, int pageSize, String search) {
+        static Key from(PageRequest pageRequest) {
+            String search = pageRequest.search() != null ? pageRequest.search().trim() : "";
+            return new Key(
+                    pageRequest.isValidSortField() ? pageRequest.sortField() : "createdAt",
+                    pageRequest.isValidSortOrder() ? pageRequest.sortOrder() : "desc",
+                    pageRequest.page(),
+                    pageRequest.pageSize(),
+                    search
+            );
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.repository.RoomRepository;
+import com.ktb.chatapp.util.NgramTokenizer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+/**
+ * 채팅방 이름 검색 서비스
+ * 대소문자 무시 정규식 전체 스캔 대신 n-gram 토큰 인덱스(nameNgrams_idx)로 후보를 좁혀
+ * rooms 컬렉션 크기와 무관하게 검색 지연 시간을 유지한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoomSearchService {
+
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final RoomRepository roomRepository;
+
+    /**
+     * 이름에 검색어가 포함된 방 조회
+     */
+    public Page<Room> search(String term, Pageable pageable) {
+        List<String> tokens = NgramTokenizer.queryTokens(term);
+        if (tokens.isEmpty()) {
+            return roomRepository.findAll(pageable);
+        }
+        String pattern = Pattern.quote(NgramTokenizer.normalize(term));
+        return roomRepository.searchByNameNgrams(tokens, pattern, pageable);
+    }
+
+    /**
+     * 검색 토큰이 없는 기존 방 백필 (기동 후 비동기 수행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        CompletableFuture.runAsync(this::backfill);
+    }
+
+    int backfill() {
+        int indexed = 0;
+        try {
+            while (true) {
+                List<Room> rooms = roomRepository.findWithoutNameNgrams(PageRequest.of(0, BACKFILL_BATCH_SIZE));
+                if (rooms.isEmpty()) {
+                    break;
+                }
+                rooms.forEach(room -> roomRepository.updateNameSearchFields(
+                        room.getId(),
+                        NgramTokenizer.normalize(room.getName()),
+                        NgramTokenizer.indexTokens(room.getName())));
+                indexed += rooms.size();
+            }
+            if (indexed > 0) {
+                log.info("Room name search index backfilled: {} rooms", indexed);
+            }
+        } catch (Exception e) {
+            log.error("Room name search index backfill failed after {} rooms", indexed, e);
+        }
+        return indexed;
+    }
+}
@@ -33,6 +33,7 @@ public class RoomService {
     private final PasswordEncoder passwordEncoder;
     private final ApplicationEventPublisher eventPublisher;
     private final CacheService cacheService;
+    private final RoomSearchService roomSearchService;
 
     public RoomsResponse getAllRoomsWithPagination(
             com.ktb.chatapp.dto.PageRequest pageRequest) {
@@ -57,7 +58,7 @@ public class RoomService {
 
             Page<Room> roomPage;
             if (pageRequest.search() != null && !pageRequest.search().trim().isEmpty()) {
-                roomPage = roomRepository.findByNameContainingIgnoreCase(
+                roomPage = roomSearchService.search(
                     pageRequest.search().trim(), springPageRequest);
             } else {
                 roomPage = roomRepository.findAll(springPageRequest);
@@ -124,7 +125,7 @@ public class RoomService {
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + name));
 
         Room room = new Room();
-        room.setName(createRoomRequest.name().trim());
+        room.updateName(createRoomRequest.name().trim());
         room.setCreator(creator.getId());
         room.getParticipantIds().add(creator.getId());
 
@@ -167,8 +168,12 @@ public class RoomService {
         }
 
         if (!room.getParticipantIds().contains(user.getId())) {
-            room.getParticipantIds().add(user.getId());
-            room = roomRepository.save(room);
+            // 문서 전체 save 대신 $addToSet + 버전 증가로 동시 입장/퇴장 갱신 유실 방지
+            Optional<Room> updated = roomRepository.addParticipantWithVersion(roomId, user.getId());
+            if (updated.isPresent()) {
+                room.setParticipantIds(updated.get().getParticipantIds());
+                room.setParticipantsVersion(updated.get().getParticipantsVersion());
+            }
             cacheService.evictRoom(roomId); // 참여자 변경 시 캐시 무효화
         }
 
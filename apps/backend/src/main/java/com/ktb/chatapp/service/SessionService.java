@@ -2,10 +2,9 @@ package com.ktb.chatapp.service;
 
 import com.ktb.chatapp.model.Session;
 import com.ktb.chatapp.service.session.SessionStore;
+import com.ktb.chatapp.service.session.SessionValidationCache;
 import java.time.Instant;
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.convert.DurationStyle;
@@ -22,16 +21,9 @@ public class SessionService {
     public static final long SESSION_TTL_SEC = DurationStyle.detectAndParse(SESSION_TTL).getSeconds();
     private static final long SESSION_TIMEOUT = SESSION_TTL_SEC * 1000;
     private static final long ACTIVITY_UPDATE_INTERVAL_MS = 60000; // 1분 동안은 DB 업데이트 건너뜀
-    private static final long VALIDATION_CACHE_TTL_MS = 30000; // 30초간 검증 결과 캐싱
 
-    // 세션 검증 결과 로컬 캐시 (부하 테스트 최적화)
-    private final Map<String, CachedValidation> validationCache = new ConcurrentHashMap<>();
-
-    private record CachedValidation(SessionValidationResult result, long cachedAt) {
-        boolean isExpired() {
-            return System.currentTimeMillis() - cachedAt > VALIDATION_CACHE_TTL_MS;
-        }
-    }
+    // 세션 검증 결과 로컬 캐시 (부하 테스트 최적화, 무효화는 다른 노드에도 전달)
+    private final SessionValidationCache validationCache;
 
     private String generateSessionId() {
         return UUID.randomUUID().toString().replace("-", "");
@@ -88,11 +80,11 @@ public class SessionService {
             }
 
             // 캐시 확인 (30초간 유효한 검증 결과 재사용)
-            String cacheKey = userId + ":" + sessionId;
-            CachedValidation cached = validationCache.get(cacheKey);
-            if (cached != null && !cached.isExpired() && cached.result().isValid()) {
-                return cached.result();
+            SessionValidationResult cached = validationCache.get(userId, sessionId);
+            if (cached != null) {
+                return cached;
             }
+            long cacheGeneration = validationCache.generation(userId);
 
             Session session = sessionStore.findByUserId(userId).orElse(null);
 
@@ -111,7 +103,6 @@ public class SessionService {
             if (now - session.getLastActivity() > SESSION_TIMEOUT) {
                 log.warn("Session timed out for userId: {}, sessionId: {}", userId, sessionId);
                 removeSession(userId, sessionId);
-                validationCache.remove(cacheKey);
                 return SessionValidationResult.invalid("SESSION_EXPIRED", "세션이 만료되었습니다.");
             }
 
@@ -128,7 +119,7 @@ public class SessionService {
             SessionValidationResult result = SessionValidationResult.valid(sessionData);
 
             // 유효한 결과 캐싱
-            validationCache.put(cacheKey, new CachedValidation(result, System.currentTimeMillis()));
+            validationCache.put(userId, sessionId, result, cacheGeneration);
 
             return result;
 
@@ -153,13 +144,13 @@ public class SessionService {
 
     public void removeSession(String userId, String sessionId) {
         try {
-            // 캐시 무효화
+            // 저장소에서 지운 뒤 캐시 무효화 (먼저 무효화하면 다른 노드가 삭제 전 세션을 다시 캐싱할 수 있음)
             if (sessionId != null) {
-                validationCache.remove(userId + ":" + sessionId);
                 sessionStore.delete(userId, sessionId);
+                validationCache.invalidate(userId, sessionId);
             } else {
-                evictUserFromCache(userId);
                 sessionStore.deleteAll(userId);
+                validationCache.invalidateUser(userId);
             }
         } catch (Exception e) {
             log.error("Session removal error for userId: {}, sessionId: {}", userId, sessionId, e);
@@ -169,18 +160,14 @@ public class SessionService {
 
     public void removeAllUserSessions(String userId) {
         try {
-            evictUserFromCache(userId);
             sessionStore.deleteAll(userId);
+            validationCache.invalidateUser(userId);
         } catch (Exception e) {
             log.error("Remove all sessions error for userId: {}", userId, e);
             throw new RuntimeException("모든 세션 삭제 중 오류가 발생했습니다.", e);
         }
     }
 
-    private void evictUserFromCache(String userId) {
-        validationCache.keySet().removeIf(key -> key.startsWith(userId + ":"));
-    }
-    
     void removeSession(String userId) {
         removeSession(userId, null);
     }
@@ -0,0 +1,26 @@
+package com.ktb.chatapp.service;
+
+import java.time.Instant;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * 한 번의 디코딩으로 꺼낸 JWT 클레임
+ * @param userId user id (userId claim)
+ * @param sessionId auth session id (sessionId claim)
+ * @param email user email (subject)
+ * @param expiresAt token expiration
+ */
+public record TokenClaims(String userId, String sessionId, String email, Instant expiresAt) {
+
+    static TokenClaims from(Jwt jwt) {
+        return new TokenClaims(
+                jwt.getClaimAsString("userId"),
+                jwt.getClaimAsString("sessionId"),
+                jwt.getSubject(),
+                jwt.getExpiresAt());
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt == null || !expiresAt.isAfter(now);
+    }
+}
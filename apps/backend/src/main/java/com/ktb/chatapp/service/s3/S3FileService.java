@@ -1,31 +1,38 @@
 package com.ktb.chatapp.service.s3;
 
 import com.ktb.chatapp.model.File;
-import com.ktb.chatapp.model.Message;
-import com.ktb.chatapp.model.Room;
 import com.ktb.chatapp.repository.FileRepository;
-import com.ktb.chatapp.repository.MessageRepository;
-import com.ktb.chatapp.repository.RoomRepository;
+import com.ktb.chatapp.service.DownloadableFile;
+import com.ktb.chatapp.service.FileAccessAuthorizer;
+import com.ktb.chatapp.service.FileDeduplicator;
 import com.ktb.chatapp.service.FileService;
 import com.ktb.chatapp.service.FileUploadResult;
+import com.ktb.chatapp.service.thumbnail.ImageVariant;
 import com.ktb.chatapp.util.FileUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.Optional;
 import java.util.UUID;
 
 
@@ -35,33 +42,46 @@ import java.util.UUID;
 public class S3FileService implements FileService {
 
     private final S3Client s3Client;
+    private final S3MultipartUploader multipartUploader;
     private final String bucketName;
     private final String s3PublicUrlPrefix;
     private final FileRepository fileRepository;
-    private final MessageRepository messageRepository;
-    private final RoomRepository roomRepository;
+    private final FileAccessAuthorizer fileAccessAuthorizer;
+    private final FileDeduplicator fileDeduplicator;
 
     public S3FileService(S3Client s3Client,
+                         S3MultipartUploader multipartUploader,
                          @Value("${aws.s3.bucket-name}") String bucketName,
                          @Qualifier("s3PublicUrlPrefix") String s3PublicUrlPrefix,
                          FileRepository fileRepository,
-                         MessageRepository messageRepository,
-                         RoomRepository roomRepository) {
+                         FileAccessAuthorizer fileAccessAuthorizer,
+                         FileDeduplicator fileDeduplicator) {
         this.s3Client = s3Client;
+        this.multipartUploader = multipartUploader;
         this.bucketName = bucketName;
         this.s3PublicUrlPrefix = s3PublicUrlPrefix;
         this.fileRepository = fileRepository;
-        this.messageRepository = messageRepository;
-        this.roomRepository = roomRepository;
+        this.fileAccessAuthorizer = fileAccessAuthorizer;
+        this.fileDeduplicator = fileDeduplicator;
     }
 
     @Override
     public FileUploadResult uploadFile(MultipartFile multipartFile, String uploaderId) {
-        try {
-            // 파일 보안 검증 (MIME 타입, 크기 제한 등)
-            FileUtil.validateFile(multipartFile);
+        // 파일 보안 검증 (MIME 타입, 크기 제한 등)
+        FileUtil.validateFile(multipartFile);
+        try (InputStream in = multipartFile.getInputStream()) {
+            return uploadStream(multipartFile.getOriginalFilename(), multipartFile.getContentType(),
+                    multipartFile.getSize(), in, uploaderId);
+        } catch (IOException e) {
+            log.error("파일 읽기 실패: {}", e.getMessage(), e);
+            throw new RuntimeException("파일 업로드에 실패했습니다: " + e.getMessage(), e);
+        }
+    }
 
-            String originalFilename = multipartFile.getOriginalFilename();
+    @Override
+    public FileUploadResult uploadStream(String originalFilename, String contentType, long size,
+                                         InputStream source, String uploaderId) {
+        try {
             if (originalFilename == null) {
                 originalFilename = "file";
             }
@@ -71,13 +91,9 @@ public class S3FileService implements FileService {
             String safeFileName = FileUtil.generateSafeFileName(originalFilename);
             String s3Path = "uploads/" + safeFileName;
 
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(s3Path)
-                    .contentType(multipartFile.getContentType())
-                    .contentLength(multipartFile.getSize())
-                    .build();
-            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(multipartFile.getInputStream(), multipartFile.getSize()));
+            // 업로드 스트림을 그대로 해시 (별도 읽기 없음)
+            MessageDigest digest = FileUtil.newContentDigest();
+            multipartUploader.upload(s3Path, contentType, new DigestInputStream(source, digest), size);
 
             log.info("S3 파일 업로드 완료: {}", safeFileName);
 
@@ -90,17 +106,18 @@ public class S3FileService implements FileService {
             File file = File.builder()
                     .filename(safeFileName)
                     .originalname(normalizedOriginalname)
-                    .mimetype(multipartFile.getContentType())
-                    .size(multipartFile.getSize())
+                    .mimetype(contentType)
+                    .size(size)
                     .path(s3Path)
                     .url(publicUrl)
+                    .contentHash(FileUtil.toContentHash(digest))
                     .user(uploaderId)
                     .build();
-            fileRepository.save(file);
+            File savedFile = fileDeduplicator.save(file, this::objectExists, this::deleteObject);
 
             return FileUploadResult.builder()
                     .success(true)
-                    .file(file)
+                    .file(savedFile)
                     .build();
 
         } catch (S3Exception e) {
@@ -131,13 +148,9 @@ public class S3FileService implements FileService {
             String safeFileName = FileUtil.generateSafeFileName(originalFilename);
             String key = subDirectory + "/" + safeFileName;
 
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(key)
-                    .contentType(multipartFile.getContentType())
-                    .contentLength(multipartFile.getSize())
-                    .build();
-            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(multipartFile.getInputStream(), multipartFile.getSize()));
+            try (InputStream in = multipartFile.getInputStream()) {
+                multipartUploader.upload(key, multipartFile.getContentType(), in, multipartFile.getSize());
+            }
 
             log.info("S3 파일 저장 완료: {}/{}", subDirectory, safeFileName);
 
@@ -153,36 +166,78 @@ public class S3FileService implements FileService {
     }
 
     @Override
-    public Resource loadFileAsResource(String fileName, String requesterId) {
-        // 1. 파일 조회
-        File fileEntity = fileRepository.findByFilename(fileName)
-                .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다: " + fileName));
-
-        // 2. 메시지 조회 (파일과 메시지 연결 확인)
-        Message message = messageRepository.findByFileId(fileEntity.getId())
-                .orElseThrow(() -> new RuntimeException("파일과 연결된 메시지를 찾을 수 없습니다"));
-
-        // 3. 방 조회 (사용자가 방 참가자인지 확인)
-        Room room = roomRepository.findById(message.getRoomId())
-                .orElseThrow(() -> new RuntimeException("방을 찾을 수 없습니다"));
-
-        // 4. 권한 검증 - 방 참가자만 파일 접근 가능
-        if (!room.getParticipantIds().contains(requesterId)) {
-            log.warn("파일 접근 권한 없음: {} (사용자: {})", fileName, requesterId);
-            throw new RuntimeException("파일에 접근할 권한이 없습니다");
+    public DownloadableFile openDownload(String fileName, String requesterId) {
+        File fileEntity = findAccessibleFile(fileName, requesterId);
+        log.info("S3 파일 로드 성공: {} (사용자: {})", fileName, requesterId);
+        return new S3DownloadableFile(fileEntity);
+    }
+
+    /**
+     * 파일 조회 및 방 참가자 권한 검증
+     */
+    public File findAccessibleFile(String fileName, String requesterId) {
+        return fileAccessAuthorizer.authorize(fileName, requesterId);
+    }
+
+    @Override
+    public DownloadableFile openStored(File file) {
+        return new S3DownloadableFile(file);
+    }
+
+    @Override
+    public void storeDerivative(File file, ImageVariant variant, String contentType, byte[] content) {
+        s3Client.putObject(PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(variant.pathOf(file.getPath()))
+                .contentType(contentType)
+                .contentLength((long) content.length)
+                .build(), RequestBody.fromBytes(content));
+    }
+
+    @Override
+    public Optional<DownloadableFile> openDerivative(File file, ImageVariant variant) {
+        // 생성 시 File 문서에 기록한 크기 사용 (조회마다 S3 HEAD 요청 없음)
+        return Optional.ofNullable(file.derivativeSize(variant.key()))
+                .map(size -> new S3DownloadableFile(variant.describe(file, size)));
+    }
+
+    /**
+     * S3 객체 다운로드
+     * 요청 구간만 Range GET으로 받아 버퍼 단위로 바로 출력 스트림에 흘려보낸다.
+     */
+    private class S3DownloadableFile implements DownloadableFile {
+
+        private final File file;
+
+        S3DownloadableFile(File file) {
+            this.file = file;
         }
 
-        try {
-            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+        @Override
+        public File file() {
+            return file;
+        }
+
+        @Override
+        public long length() {
+            return file.getSize();
+        }
+
+        @Override
+        public void transferTo(long start, long count, OutputStream out) throws IOException {
+            GetObjectRequest.Builder request = GetObjectRequest.builder()
                     .bucket(bucketName)
-                    .key(fileEntity.getPath())
-                    .build();
+                    .key(file.getPath());
+            if (start > 0 || count < file.getSize()) {
+                request.range("bytes=" + start + "-" + (start + count - 1));
+            }
 
-            log.info("S3 파일 로드 성공: {} (사용자: {})", fileName, requesterId);
-            return new InputStreamResource(s3Client.getObject(getObjectRequest));
-        } catch (S3Exception e) {
-            log.error("S3 파일 로드 실패: {}", e.awsErrorDetails().errorMessage(), e);
-            throw new RuntimeException("파일을 불러오는데 실패했습니다: " + e.awsErrorDetails().errorMessage(), e);
+            try (ResponseInputStream<GetObjectResponse> in = s3Client.getObject(request.build())) {
+                in.transferTo(out);
+            } catch (S3Exception e) {
+                log.error("S3 파일 로드 실패: {}", e.awsErrorDetails().errorMessage(), e);
+                throw new RuntimeException("파일을 불러오는데 실패했습니다: " + e.awsErrorDetails().errorMessage(), e);
+            }
         }
     }
 
@@ -197,15 +252,9 @@ public class S3FileService implements FileService {
                 throw new RuntimeException("파일을 삭제할 권한이 없습니다.");
             }
 
-            // S3에서 파일 삭제
-            DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(fileEntity.getPath())
-                    .build();
-            s3Client.deleteObject(deleteObjectRequest);
-
-            // 데이터베이스에서 제거
-            fileRepository.delete(fileEntity);
+            // 데이터베이스에서 제거 후 더 이상 참조가 없으면 S3에서도 삭제
+            fileDeduplicator.delete(fileEntity, this::deleteObjectWithDerivatives);
+            fileAccessAuthorizer.evictFile(fileEntity.getFilename());
 
             log.info("S3 파일 삭제 완료: {} (사용자: {})", fileId, requesterId);
             return true;
@@ -218,4 +267,35 @@ public class S3FileService implements FileService {
             throw new RuntimeException("파일 삭제 중 오류가 발생했습니다.", e);
         }
     }
+
+    private boolean objectExists(String key) {
+        try {
+            s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private void deleteObject(String key) {
+        s3Client.deleteObject(DeleteObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build());
+    }
+
+    private void deleteObjectWithDerivatives(String key) {
+        deleteObject(key);
+        for (ImageVariant variant : ImageVariant.values()) {
+            deleteObject(variant.pathOf(key));
+        }
+    }
 }
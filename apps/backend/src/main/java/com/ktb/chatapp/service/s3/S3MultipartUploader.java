@@ -0,0 +1,350 @@
+package com.ktb.chatapp.service.s3;
+
+import com.ktb.chatapp.util.DirectBufferPool;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+/**
+ * S3 멀티파트 병렬 업로드
+ * 스트림을 파트 크기 단위로 읽어 가상 스레드에서 병렬 업로드하고, 실패한 파트만 재시도한다.
+ * 파트 버퍼는 힙 밖 Direct ByteBuffer 풀에서 빌려 쓰므로 업로드 크기만큼 힙이 늘지 않는다.
+ * 파트 크기 이하의 작은 객체는 풀을 쓰지 않고 객체 크기만큼만 읽어 단일 PUT으로 올린다.
+ * 업로드 하나가 동시에 쓰는 버퍼는 parallelism개, 서버 전체는 max-buffered-parts개로 제한되며,
+ * 재시도 후에도 실패하면 멀티파트 업로드를 중단(abort)해 S3에 미완성 파트가 남지 않게 한다.
+ */
+@Slf4j
+@Component
+public class S3MultipartUploader {
+
+    // S3 멀티파트 최소 파트 크기 (마지막 파트 제외)
+    static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    // 서버 전체 파트 버퍼가 모두 사용 중일 때 반납을 기다리는 최대 시간
+    private static final long PART_BUFFER_WAIT_MS = 30_000;
+
+    private final S3Client s3Client;
+    private final String bucketName;
+    private final long partSize;
+    private final int parallelism;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final DirectBufferPool partBuffers;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Timer partSuccessTimer;
+    private final Timer partFailureTimer;
+    private final Counter partRetries;
+    private final Counter aborts;
+
+    @Autowired
+    public S3MultipartUploader(S3Client s3Client,
+                               @Value("${aws.s3.bucket-name}") String bucketName,
+                               @Value("${aws.s3.multipart.part-size-mb:8}") int partSizeMb,
+                               @Value("${aws.s3.multipart.parallelism:4}") int parallelism,
+                               @Value("${aws.s3.multipart.max-attempts:3}") int maxAttempts,
+                               @Value("${aws.s3.multipart.retry-backoff-ms:200}") long retryBackoffMs,
+                               @Value("${aws.s3.multipart.max-buffered-parts:16}") int maxBufferedParts,
+                               MeterRegistry meterRegistry) {
+        this(s3Client, bucketName, Math.max(MIN_PART_SIZE, partSizeMb * 1024L * 1024),
+                parallelism, maxAttempts, retryBackoffMs, maxBufferedParts, meterRegistry);
+    }
+
+    S3MultipartUploader(S3Client s3Client,
+                        String bucketName,
+                        long partSizeBytes,
+                        int parallelism,
+                        int maxAttempts,
+                        long retryBackoffMs,
+                        int maxBufferedParts,
+                        MeterRegistry meterRegistry) {
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+        this.partSize = partSizeBytes;
+        this.parallelism = Math.max(1, parallelism);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMs = retryBackoffMs;
+        this.partBuffers = new DirectBufferPool("s3-part", Math.toIntExact(partSizeBytes),
+                Math.max(this.parallelism, maxBufferedParts), PART_BUFFER_WAIT_MS, meterRegistry);
+        this.partSuccessTimer = partTimer(meterRegistry, "success");
+        this.partFailureTimer = partTimer(meterRegistry, "failure");
+        this.partRetries = Counter.builder("files.upload.part.retries")
+                .description("Multipart upload part retries")
+                .register(meterRegistry);
+        this.aborts = Counter.builder("files.upload.multipart.aborts")
+                .description("Multipart uploads aborted after a part failed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 객체 업로드 (파트 크기 이하면 단일 PUT, 초과하면 멀티파트)
+     * 스트림은 정확히 한 번만 순서대로 읽으므로 DigestInputStream 등으로 감싸 넘겨도 된다.
+     */
+    public void upload(String key, String contentType, InputStream in, long size) throws IOException {
+        if (size <= partSize) {
+            putSingle(key, contentType, in, (int) size);
+            return;
+        }
+
+        ReadableByteChannel channel = Channels.newChannel(in);
+
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .build()).uploadId();
+
+        Semaphore inFlight = new Semaphore(parallelism);
+        AtomicBoolean failed = new AtomicBoolean(false);
+        List<Future<CompletedPart>> futures = new ArrayList<>();
+        try {
+            long remaining = size;
+            int partNumber = 1;
+            // 파트 실패가 감지되면 남은 스트림은 더 읽지 않음
+            while (remaining > 0 && !failed.get()) {
+                inFlight.acquire();
+                int length = (int) Math.min(partSize, remaining);
+                ByteBuffer buffer;
+                try {
+                    buffer = acquireBuffer(key);
+                } catch (RuntimeException e) {
+                    inFlight.release();
+                    throw e;
+                }
+                try {
+                    fill(channel, buffer, length, key);
+                } catch (IOException e) {
+                    partBuffers.release(buffer);
+                    inFlight.release();
+                    throw e;
+                }
+
+                int currentPart = partNumber++;
+                futures.add(executor.submit(() -> {
+                    try {
+                        // 다른 파트가 이미 실패했으면 올리지 않고 버퍼만 반납 (실패는 그 파트의 Future가 전달)
+                        if (failed.get()) {
+                            return null;
+                        }
+                        return uploadPart(key, uploadId, currentPart, buffer, failed);
+                    } catch (RuntimeException e) {
+                        failed.set(true);
+                        throw e;
+                    } finally {
+                        partBuffers.release(buffer);
+                        inFlight.release();
+                    }
+                }));
+                remaining -= length;
+            }
+
+            List<CompletedPart> parts = new ArrayList<>(futures.size());
+            for (Future<CompletedPart> future : futures) {
+                parts.add(future.get());
+            }
+            parts.sort(Comparator.comparing(CompletedPart::partNumber));
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+            log.debug("멀티파트 업로드 완료: {} ({}개 파트)", key, parts.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort(key, uploadId, failed, futures);
+            throw new IOException("멀티파트 업로드가 중단되었습니다: " + key, e);
+        } catch (ExecutionException e) {
+            abort(key, uploadId, failed, futures);
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException("멀티파트 업로드에 실패했습니다: " + key, e.getCause());
+        } catch (IOException | RuntimeException e) {
+            abort(key, uploadId, failed, futures);
+            throw e;
+        }
+    }
+
+    /**
+     * 작은 객체 단일 PUT (풀 버퍼 대신 객체 크기의 배열을 써서 8MB 파트 버퍼를 점유하지 않음)
+     */
+    private void putSingle(String key, String contentType, InputStream in, int size) throws IOException {
+        byte[] content = in.readNBytes(size);
+        if (content.length < size) {
+            throw new IOException("업로드 스트림이 예상보다 짧습니다: " + key);
+        }
+        s3Client.putObject(PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .contentLength((long) size)
+                .build(), RequestBody.fromContentProvider(() -> new ByteArrayInputStream(content),
+                size, contentType));
+    }
+
+    private ByteBuffer acquireBuffer(String key) throws IOException {
+        try {
+            return partBuffers.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("업로드 버퍼 대기 중 중단되었습니다: " + key, e);
+        }
+    }
+
+    /**
+     * 스트림에서 length 바이트를 버퍼로 읽고 읽기 모드로 전환
+     */
+    private void fill(ReadableByteChannel channel, ByteBuffer buffer, int length, String key) throws IOException {
+        buffer.clear().limit(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("업로드 스트림이 예상보다 짧습니다: " + key);
+            }
+        }
+        buffer.flip();
+    }
+
+    /**
+     * 힙으로 복사하지 않고 버퍼를 그대로 읽는 요청 본문 (SDK 재시도 시마다 처음부터 다시 읽음)
+     */
+    private RequestBody offHeapBody(ByteBuffer buffer, String contentType) {
+        return RequestBody.fromContentProvider(() -> DirectBufferPool.asInputStream(buffer),
+                buffer.remaining(), contentType);
+    }
+
+    /**
+     * 파트 하나 업로드 (S3/네트워크 오류 시 지수 백오프로 재시도, 다른 파트가 실패했으면 재시도하지 않음)
+     */
+    private CompletedPart uploadPart(String key, String uploadId, int partNumber, ByteBuffer buffer,
+                                     AtomicBoolean failed) {
+        UploadPartRequest request = UploadPartRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength((long) buffer.remaining())
+                .build();
+
+        for (int attempt = 1; ; attempt++) {
+            long started = System.nanoTime();
+            try {
+                UploadPartResponse response = s3Client.uploadPart(request, offHeapBody(buffer, "application/octet-stream"));
+                partSuccessTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                return CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(response.eTag())
+                        .build();
+            } catch (SdkException e) {
+                partFailureTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                if (attempt >= maxAttempts || failed.get()) {
+                    log.error("파트 업로드 실패: {} #{} ({}회 시도)", key, partNumber, attempt, e);
+                    throw e;
+                }
+                partRetries.increment();
+                log.warn("파트 업로드 재시도: {} #{} ({}회 실패) - {}", key, partNumber, attempt, e.getMessage());
+                sleepBeforeRetry(attempt);
+            }
+        }
+    }
+
+    private void sleepBeforeRetry(int attempt) {
+        if (retryBackoffMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(retryBackoffMs * (1L << (attempt - 1)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("파트 업로드 재시도 대기 중 중단되었습니다", e);
+        }
+    }
+
+    /**
+     * 멀티파트 업로드 중단
+     * 작업을 취소(cancel)하면 시작 전 작업의 버퍼와 동시 실행 허가가 반납되지 않으므로,
+     * 실패 표시로 남은 파트를 건너뛰게 한 뒤 모든 작업이 끝나 버퍼를 반납할 때까지 기다린다.
+     */
+    private void abort(String key, String uploadId, AtomicBoolean failed, List<Future<CompletedPart>> futures) {
+        failed.set(true);
+        awaitParts(futures);
+        aborts.increment();
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+            log.warn("멀티파트 업로드 중단: {}", key);
+        } catch (Exception e) {
+            log.error("멀티파트 업로드 중단 요청 실패: {} (uploadId: {})", key, uploadId, e);
+        }
+    }
+
+    private void awaitParts(List<Future<CompletedPart>> futures) {
+        // 중단 요청으로 들어온 경우에도 버퍼 반납까지는 기다린 뒤 중단 상태를 복원
+        boolean interrupted = Thread.interrupted();
+        for (Future<CompletedPart> future : futures) {
+            while (true) {
+                try {
+                    future.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException | CancellationException e) {
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Timer partTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("files.upload.part.latency")
+                .description("Latency of a single multipart upload part request")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
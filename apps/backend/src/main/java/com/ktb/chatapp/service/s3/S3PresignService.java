@@ -0,0 +1,235 @@
+package com.ktb.chatapp.service.s3;
+
+import com.ktb.chatapp.dto.PresignedDownloadResponse;
+import com.ktb.chatapp.dto.PresignedUploadResponse;
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.repository.FileRepository;
+import com.ktb.chatapp.util.FileUtil;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+/**
+ * Presigned URL 기반 S3 직접 업로드/다운로드 서비스
+ * 업로드 바이트가 채팅 서버(Tomcat 스레드/힙)를 거치지 않도록
+ * 1) 서명된 PUT 발급 → 2) 클라이언트가 저장소에 직접 업로드 → 3) 확인 요청 시 File 문서 생성 순서로 처리한다.
+ * 업로더/원본 파일명은 서명된 객체 메타데이터에 담아, 확인 단계에서 별도 저장소 없이 HEAD 조회로 검증한다.
+ */
+@Slf4j
+@Service
+public class S3PresignService {
+
+    static final String UPLOAD_PREFIX = "uploads/";
+    static final String META_UPLOADER = "uploader";
+    static final String META_ORIGINAL_NAME = "originalname";
+
+    private static final Pattern UPLOAD_KEY_PATTERN =
+            Pattern.compile("^" + UPLOAD_PREFIX + "(\\d+_[0-9a-f]{16}(?:\\.[A-Za-z0-9]+)?)$");
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final S3FileService s3FileService;
+    private final FileRepository fileRepository;
+    private final String bucketName;
+    private final String s3PublicUrlPrefix;
+    private final Duration uploadExpiry;
+    private final Duration downloadExpiry;
+
+    public S3PresignService(S3Client s3Client,
+                            S3Presigner s3Presigner,
+                            S3FileService s3FileService,
+                            FileRepository fileRepository,
+                            @Value("${aws.s3.bucket-name}") String bucketName,
+                            @Qualifier("s3PublicUrlPrefix") String s3PublicUrlPrefix,
+                            @Value("${aws.s3.presign.upload-expiry-seconds:300}") long uploadExpirySeconds,
+                            @Value("${aws.s3.presign.download-expiry-seconds:60}") long downloadExpirySeconds) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.s3FileService = s3FileService;
+        this.fileRepository = fileRepository;
+        this.bucketName = bucketName;
+        this.s3PublicUrlPrefix = s3PublicUrlPrefix;
+        this.uploadExpiry = Duration.ofSeconds(uploadExpirySeconds);
+        this.downloadExpiry = Duration.ofSeconds(downloadExpirySeconds);
+    }
+
+    /**
+     * 업로드용 Presigned PUT 발급
+     * MIME 타입, 크기, 업로더/원본 파일명 메타데이터가 서명에 포함되므로 클라이언트가 바꿀 수 없다.
+     */
+    public PresignedUploadResponse presignUpload(String originalFilename, String contentType, long size, String uploaderId) {
+        String cleanedFilename = StringUtils.cleanPath(originalFilename);
+        FileUtil.validateFileMetadata(cleanedFilename, contentType, size);
+
+        String safeFileName = FileUtil.generateSafeFileName(cleanedFilename);
+        String key = UPLOAD_PREFIX + safeFileName;
+        String normalizedOriginalname = FileUtil.normalizeOriginalFilename(cleanedFilename);
+
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(size)
+                .metadata(Map.of(
+                        META_UPLOADER, uploaderId,
+                        // 메타데이터 헤더는 ASCII만 허용되므로 인코딩
+                        META_ORIGINAL_NAME, URLEncoder.encode(normalizedOriginalname, StandardCharsets.UTF_8)
+                ))
+                .build();
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(uploadExpiry)
+                .putObjectRequest(putObjectRequest)
+                .build());
+
+        log.info("Presigned 업로드 발급: {} (사용자: {})", key, uploaderId);
+        return new PresignedUploadResponse(
+                key,
+                presigned.url().toString(),
+                presigned.httpRequest().method().name(),
+                clientHeaders(presigned.signedHeaders()),
+                presigned.expiration());
+    }
+
+    /**
+     * 직접 업로드 완료 확인 후 File 문서 생성 (같은 키로 재요청 시 기존 문서 반환)
+     */
+    public File confirmUpload(String key, String requesterId) {
+        Matcher matcher = UPLOAD_KEY_PATTERN.matcher(key);
+        if (!matcher.matches()) {
+            throw new RuntimeException("잘못된 파일명입니다.");
+        }
+        String safeFileName = matcher.group(1);
+
+        File existing = fileRepository.findByFilename(safeFileName).orElse(null);
+        if (existing != null) {
+            if (!existing.getUser().equals(requesterId)) {
+                throw new RuntimeException("파일에 접근할 권한이 없습니다");
+            }
+            return existing;
+        }
+
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+        } catch (NoSuchKeyException e) {
+            throw new RuntimeException("업로드된 파일을 찾을 수 없습니다: " + key, e);
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                throw new RuntimeException("업로드된 파일을 찾을 수 없습니다: " + key, e);
+            }
+            log.error("S3 업로드 확인 실패: {}", e.awsErrorDetails().errorMessage(), e);
+            throw new RuntimeException("파일 업로드 확인에 실패했습니다: " + e.awsErrorDetails().errorMessage(), e);
+        }
+
+        Map<String, String> metadata = head.metadata();
+        if (!requesterId.equals(metadata.get(META_UPLOADER))) {
+            log.warn("업로드 확인 권한 없음: {} (사용자: {})", key, requesterId);
+            throw new RuntimeException("파일에 접근할 권한이 없습니다");
+        }
+
+        String originalname = URLDecoder.decode(
+                metadata.getOrDefault(META_ORIGINAL_NAME, safeFileName), StandardCharsets.UTF_8);
+        try {
+            // 서명 조건과 별개로 실제 저장된 객체 기준으로 한 번 더 검증
+            FileUtil.validateFileMetadata(originalname, head.contentType(), head.contentLength());
+        } catch (RuntimeException e) {
+            deleteQuietly(key);
+            throw e;
+        }
+
+        File file = File.builder()
+                .filename(safeFileName)
+                .originalname(FileUtil.normalizeOriginalFilename(originalname))
+                .mimetype(head.contentType())
+                .size(head.contentLength())
+                .path(key)
+                .url(s3PublicUrlPrefix + "/" + key)
+                .user(requesterId)
+                .build();
+        File saved = fileRepository.save(file);
+
+        log.info("Presigned 업로드 확인 완료: {} (사용자: {})", safeFileName, requesterId);
+        return saved;
+    }
+
+    /**
+     * 방 참가자 권한 검증 후 짧은 만료 시간의 Presigned GET 발급
+     */
+    public PresignedDownloadResponse presignDownload(String fileName, String requesterId, boolean inline) {
+        File fileEntity = s3FileService.findAccessibleFile(fileName, requesterId);
+
+        String encodedFilename = URLEncoder.encode(fileEntity.getOriginalname(), StandardCharsets.UTF_8)
+                .replaceAll("\\+", "%20");
+        String contentDisposition = String.format(
+                "%s; filename*=UTF-8''%s",
+                inline ? "inline" : "attachment",
+                encodedFilename
+        );
+
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(fileEntity.getPath())
+                .responseContentType(fileEntity.getMimetype())
+                .responseContentDisposition(contentDisposition)
+                .build();
+
+        PresignedGetObjectRequest presigned = s3Presigner.presignGetObject(GetObjectPresignRequest.builder()
+                .signatureDuration(downloadExpiry)
+                .getObjectRequest(getObjectRequest)
+                .build());
+
+        return new PresignedDownloadResponse(presigned.url().toString(), presigned.expiration());
+    }
+
+    /**
+     * 클라이언트가 그대로 보내야 하는 서명 헤더 (host/content-length는 클라이언트가 자동 설정)
+     */
+    private Map<String, String> clientHeaders(Map<String, List<String>> signedHeaders) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        signedHeaders.forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name) && !"content-length".equalsIgnoreCase(name)) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+        return headers;
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+        } catch (Exception e) {
+            log.warn("검증 실패 객체 삭제 실패: {}", key, e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.ktb.chatapp.service.session;
+
+/**
+ * 노드 간 전달되는 세션 무효화 알림 (sessionId가 null이면 사용자의 모든 세션)
+ */
+public record SessionInvalidation(
+        String serverId,    // 발행 노드 ID (자기 메시지 무시용)
+        String userId,
+        String sessionId
+) { }
@@ -0,0 +1,23 @@
+package com.ktb.chatapp.service.session;
+
+import java.util.function.Consumer;
+
+/**
+ * 세션 검증 캐시 무효화를 다른 노드로 전달하는 경로
+ * 로그아웃·재로그인이 다른 노드의 검증 캐시 TTL(30초)을 기다리지 않고 반영되도록 한다.
+ */
+public interface SessionInvalidationBus {
+
+    /**
+     * 다른 노드로 무효화 발행
+     *
+     * @param userId    the user identifier
+     * @param sessionId the session identifier, or null for all sessions of the user
+     */
+    void publish(String userId, String sessionId);
+
+    /**
+     * 다른 노드가 발행한 무효화 수신 리스너 등록
+     */
+    void subscribe(Consumer<SessionInvalidation> listener);
+}
@@ -0,0 +1,22 @@
+package com.ktb.chatapp.service.session;
+
+import java.util.function.Consumer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local implementation of SessionInvalidationBus.
+ * 단일 노드 전용: 무효화할 다른 노드의 캐시가 없으므로 아무것도 하지 않는다.
+ */
+@Component
+@ConditionalOnMissingBean(SessionInvalidationBus.class)
+public class SessionInvalidationLocalBus implements SessionInvalidationBus {
+
+    @Override
+    public void publish(String userId, String sessionId) {
+    }
+
+    @Override
+    public void subscribe(Consumer<SessionInvalidation> listener) {
+    }
+}
@@ -0,0 +1,110 @@
+package com.ktb.chatapp.service.session;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis Pub/Sub 기반 SessionInvalidationBus
+ * 발행은 로그인·로그아웃 요청을 붙잡지 않도록 비동기로 하고, 실패하면 로컬 TTL로 반영된다.
+ */
+@Slf4j
+@Component
+@Primary
+@ConditionalOnBean(RedissonClient.class)
+public class SessionInvalidationRedisBus implements SessionInvalidationBus {
+
+    static final String TOPIC_NAME = "session:invalidate";
+
+    private final RTopic topic;
+    private final ObjectMapper objectMapper;
+    private final String serverId;
+    private final Counter publishedCounter;
+    private final Counter receivedCounter;
+    private final Counter failedCounter;
+
+    private volatile int listenerId = -1;
+
+    public SessionInvalidationRedisBus(
+            RedissonClient redissonClient,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${server.id:#{T(java.util.UUID).randomUUID().toString()}}") String serverId) {
+        // StringCodec 사용하여 @class 타입 정보 문제 우회
+        this.topic = redissonClient.getTopic(TOPIC_NAME, StringCodec.INSTANCE);
+        this.objectMapper = objectMapper;
+        this.serverId = serverId;
+        this.publishedCounter = createCounter(meterRegistry, "out");
+        this.receivedCounter = createCounter(meterRegistry, "in");
+        this.failedCounter = Counter.builder("session.invalidation.failed")
+                .description("Session invalidations that could not be published to other nodes")
+                .register(meterRegistry);
+    }
+
+    private static Counter createCounter(MeterRegistry meterRegistry, String direction) {
+        return Counter.builder("session.invalidation")
+                .description("Session validation cache invalidations relayed between nodes")
+                .tag("direction", direction)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(String userId, String sessionId) {
+        try {
+            String json = objectMapper.writeValueAsString(new SessionInvalidation(serverId, userId, sessionId));
+            topic.publishAsync(json).whenComplete((receivers, error) -> {
+                if (error != null) {
+                    failedCounter.increment();
+                    log.warn("Session invalidation publish failed - userId: {}: {}", userId, error.getMessage());
+                }
+            });
+            publishedCounter.increment();
+        } catch (JsonProcessingException | RuntimeException e) {
+            failedCounter.increment();
+            log.warn("Session invalidation publish failed - userId: {}: {}", userId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<SessionInvalidation> listener) {
+        listenerId = topic.addListener(String.class, (channel, json) -> {
+            SessionInvalidation invalidation = decode(json);
+            if (invalidation != null) {
+                receivedCounter.increment();
+                listener.accept(invalidation);
+            }
+        });
+        log.info("Session invalidation bus subscribed - serverId: {}, topic: {}", serverId, TOPIC_NAME);
+    }
+
+    /**
+     * 수신한 무효화 복원 (자기 노드가 보낸 알림이나 해석할 수 없는 알림은 null)
+     */
+    SessionInvalidation decode(String json) {
+        try {
+            SessionInvalidation invalidation = objectMapper.readValue(json, SessionInvalidation.class);
+            return serverId.equals(invalidation.serverId()) || invalidation.userId() == null ? null : invalidation;
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed session invalidation: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (listenerId != -1) {
+            topic.removeListener(listenerId);
+        }
+    }
+}
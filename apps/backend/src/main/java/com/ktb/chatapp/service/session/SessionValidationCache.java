@@ -0,0 +1,206 @@
+package com.ktb.chatapp.service.session;
+
+import com.ktb.chatapp.service.SessionValidationResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세션 검증 결과 로컬 캐시 (userId → sessionId 2단계)
+ * 사용자 단위 무효화는 상위 맵에서 한 번에 제거하고, 만료 항목은 스케줄러가 주기적으로 정리한다.
+ * 전체 항목 수가 상한에 이르면 정리될 때까지 새 결과를 저장하지 않는다.
+ * 무효화는 SessionInvalidationBus로 다른 노드에도 전달되어 TTL을 기다리지 않고 반영된다.
+ */
+@Slf4j
+@Component
+public class SessionValidationCache {
+
+    private final SessionInvalidationBus invalidationBus;
+    private final long ttlMs;
+    private final int maxEntries;
+
+    // 상위 맵의 compute 안에서만 하위 맵을 변경하여 항목 수와 빈 사용자 제거를 원자적으로 처리
+    private final Map<String, Map<String, Entry>> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    // 사용자별 무효화 세대: 검증 중 그 사용자의 무효화가 일어나면 오래된 결과를 저장하지 않기 위해 사용
+    // 값은 전역 순번에서 받아 정리 후 다시 만들어져도 이전 세대와 겹치지 않는다.
+    private final Map<String, Generation> generations = new ConcurrentHashMap<>();
+    private final AtomicLong generationSequence = new AtomicLong();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter fullCounter;
+    private final Counter expiredCounter;
+    private final Counter invalidatedCounter;
+
+    public SessionValidationCache(
+            SessionInvalidationBus invalidationBus,
+            MeterRegistry meterRegistry,
+            @Value("${session.validation-cache.ttl-ms:30000}") long ttlMs,
+            @Value("${session.validation-cache.max-entries:50000}") int maxEntries) {
+        this.invalidationBus = invalidationBus;
+        this.ttlMs = ttlMs;
+        this.maxEntries = maxEntries;
+        this.hitCounter = lookupCounter(meterRegistry, "hit");
+        this.missCounter = lookupCounter(meterRegistry, "miss");
+        this.fullCounter = lookupCounter(meterRegistry, "full");
+        this.expiredCounter = evictionCounter(meterRegistry, "expired");
+        this.invalidatedCounter = evictionCounter(meterRegistry, "invalidated");
+        Gauge.builder("session.validation.cache.size", size, AtomicInteger::get)
+                .description("Cached session validation results")
+                .register(meterRegistry);
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("session.validation.cache")
+                .description("Session validation cache lookups and rejected stores")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter evictionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("session.validation.cache.evictions")
+                .description("Session validation cache entries removed")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        invalidationBus.subscribe(invalidation -> {
+            if (invalidation.sessionId() != null) {
+                evict(invalidation.userId(), invalidation.sessionId());
+            } else {
+                evictUser(invalidation.userId());
+            }
+        });
+    }
+
+    /**
+     * 만료되지 않은 검증 결과 조회
+     */
+    public SessionValidationResult get(String userId, String sessionId) {
+        Map<String, Entry> sessions = entries.get(userId);
+        Entry entry = sessions != null ? sessions.get(sessionId) : null;
+        if (entry == null || entry.isExpired(System.currentTimeMillis(), ttlMs)) {
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return entry.result();
+    }
+
+    /**
+     * 사용자의 현재 무효화 세대 (저장소 조회 전에 받아 put에 넘긴다)
+     * 다른 사용자의 무효화는 이 값을 바꾸지 않는다.
+     */
+    public long generation(String userId) {
+        Generation current = generations.get(userId);
+        return current != null ? current.value() : 0L;
+    }
+
+    /**
+     * 검증 결과 저장 (조회 이후 무효화가 있었거나 상한에 이르렀으면 저장하지 않음)
+     */
+    public void put(String userId, String sessionId, SessionValidationResult result, long loadGeneration) {
+        entries.compute(userId, (key, sessions) -> {
+            if (loadGeneration != generation(userId)) {
+                return sessions;
+            }
+            Map<String, Entry> updated = sessions != null ? sessions : new ConcurrentHashMap<>();
+            if (!updated.containsKey(sessionId)) {
+                if (size.get() >= maxEntries) {
+                    fullCounter.increment();
+                    return sessions;
+                }
+                size.incrementAndGet();
+            }
+            updated.put(sessionId, new Entry(result, System.currentTimeMillis()));
+            return updated;
+        });
+    }
+
+    /**
+     * 세션 하나를 이 노드와 다른 노드의 캐시에서 무효화
+     */
+    public void invalidate(String userId, String sessionId) {
+        evict(userId, sessionId);
+        invalidationBus.publish(userId, sessionId);
+    }
+
+    /**
+     * 사용자의 모든 세션을 이 노드와 다른 노드의 캐시에서 무효화
+     */
+    public void invalidateUser(String userId) {
+        evictUser(userId);
+        invalidationBus.publish(userId, null);
+    }
+
+    void evict(String userId, String sessionId) {
+        bumpGeneration(userId);
+        entries.computeIfPresent(userId, (key, sessions) -> {
+            if (sessions.remove(sessionId) != null) {
+                size.decrementAndGet();
+                invalidatedCounter.increment();
+            }
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+
+    void evictUser(String userId) {
+        bumpGeneration(userId);
+        entries.computeIfPresent(userId, (key, sessions) -> {
+            size.addAndGet(-sessions.size());
+            invalidatedCounter.increment(sessions.size());
+            return null;
+        });
+    }
+
+    private void bumpGeneration(String userId) {
+        generations.put(userId, new Generation(generationSequence.incrementAndGet(), System.currentTimeMillis()));
+    }
+
+    /**
+     * 만료 항목 정리 (같은 키로 다시 검증되지 않는 항목도 제거)
+     * TTL보다 오래된 무효화 세대도 함께 제거한다 (그보다 오래 걸린 조회는 없다고 본다).
+     */
+    @Scheduled(fixedDelayString = "${session.validation-cache.eviction-interval-ms:10000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        for (String userId : entries.keySet()) {
+            entries.computeIfPresent(userId, (key, sessions) -> {
+                int before = sessions.size();
+                sessions.values().removeIf(entry -> entry.isExpired(now, ttlMs));
+                int removed = before - sessions.size();
+                if (removed > 0) {
+                    size.addAndGet(-removed);
+                    expiredCounter.increment(removed);
+                }
+                return sessions.isEmpty() ? null : sessions;
+            });
+        }
+        generations.values().removeIf(generation -> now - generation.bumpedAt() > ttlMs);
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    private record Generation(long value, long bumpedAt) {
+    }
+
+    private record Entry(SessionValidationResult result, long cachedAt) {
+        boolean isExpired(long now, long ttlMs) {
+            return now - cachedAt > ttlMs;
+        }
+    }
+}
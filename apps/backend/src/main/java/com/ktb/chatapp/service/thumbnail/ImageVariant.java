@@ -0,0 +1,86 @@
+package com.ktb.chatapp.service.thumbnail;
+
+import com.ktb.chatapp.model.File;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 이미지 파생본 종류
+ * 파생본은 원본 저장 경로 뒤에 접미사를 붙인 위치에 저장되므로
+ * 내용이 같은(중복 제거된) 파일끼리는 파생본도 공유한다.
+ */
+public enum ImageVariant {
+
+    THUMBNAIL("thumb", 200),
+    PREVIEW("preview", 800);
+
+    private final String key;
+    private final int maxDimension;
+
+    ImageVariant(String key, int maxDimension) {
+        this.key = key;
+        this.maxDimension = maxDimension;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    /**
+     * 긴 변 기준 최대 픽셀 수
+     */
+    public int maxDimension() {
+        return maxDimension;
+    }
+
+    /**
+     * 모든 파생본 중 가장 큰 긴 변 크기 (원본 축소 디코딩 기준)
+     */
+    public static int largestDimension() {
+        return Arrays.stream(values()).mapToInt(ImageVariant::maxDimension).max().orElse(0);
+    }
+
+    /**
+     * 원본 저장 경로 기준 파생본 경로
+     */
+    public String pathOf(String originalPath) {
+        return originalPath + "." + key;
+    }
+
+    /**
+     * 파생본 MIME 타입 (투명도가 있을 수 있는 형식은 PNG, 나머지는 JPEG)
+     */
+    public static String outputMimeType(String originalMimeType) {
+        return "image/png".equals(originalMimeType) || "image/gif".equals(originalMimeType)
+                ? "image/png"
+                : "image/jpeg";
+    }
+
+    /**
+     * 파생본 다운로드용 File 정보 (권한/파일명은 원본 기준 유지)
+     */
+    public File describe(File original, long size) {
+        return File.builder()
+                .id(original.getId())
+                .filename(original.getFilename())
+                .originalname(original.getOriginalname())
+                .mimetype(outputMimeType(original.getMimetype()))
+                .size(size)
+                .path(pathOf(original.getPath()))
+                .user(original.getUser())
+                .uploadDate(original.getUploadDate())
+                .build();
+    }
+
+    /**
+     * viewFile size 파라미터 해석 (original/빈 값은 empty)
+     */
+    public static Optional<ImageVariant> fromKey(String key) {
+        if (key == null || key.isBlank()) {
+            return Optional.empty();
+        }
+        return Arrays.stream(values())
+                .filter(variant -> variant.key.equalsIgnoreCase(key))
+                .findFirst();
+    }
+}
@@ -0,0 +1,152 @@
+package com.ktb.chatapp.service.thumbnail;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Set;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * 이미지 축소 변환 (JDK ImageIO만 사용)
+ */
+public final class ThumbnailGenerator {
+
+    private static final Set<String> SUPPORTED_TYPES = Set.of("image/jpeg", "image/png", "image/gif");
+    private static final float JPEG_QUALITY = 0.8f;
+
+    private ThumbnailGenerator() {
+    }
+
+    /**
+     * ImageIO로 디코딩 가능한 형식인지 (WebP는 JDK 기본 코덱이 없어 제외)
+     */
+    public static boolean supports(String mimeType) {
+        return mimeType != null && SUPPORTED_TYPES.contains(mimeType);
+    }
+
+    /**
+     * 원본 디코딩 (헤더의 가로/세로를 먼저 확인해 압축 폭탄 이미지는 디코딩하지 않음)
+     */
+    public static BufferedImage read(byte[] content, long maxPixels) throws IOException {
+        return read(content, maxPixels, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 원본을 축소 디코딩 (긴 변이 minLongestSide의 2배 이상 남는 범위에서 행/열을 건너뛰며 읽음)
+     * 50MP 원본도 전체 해상도 BufferedImage를 만들지 않으므로 워커당 힙 사용량이 수 MB로 제한된다.
+     * 남긴 여유분은 render의 단계적 축소가 계단 현상을 줄이는 데 쓴다.
+     */
+    public static BufferedImage read(byte[] content, long maxPixels, int minLongestSide) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(content))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식입니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                long pixels = (long) width * height;
+                if (pixels > maxPixels) {
+                    throw new IOException("이미지 해상도가 너무 큽니다: " + pixels + " pixels");
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = subsamplingFactor(Math.max(width, height), minLongestSide);
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    static int subsamplingFactor(int longest, int minLongestSide) {
+        if (minLongestSide <= 0 || minLongestSide == Integer.MAX_VALUE) {
+            return 1;
+        }
+        return Math.max(1, longest / (2 * minLongestSide));
+    }
+
+    /**
+     * 긴 변이 variant 최대 크기를 넘으면 축소본 인코딩, 이미 작으면 empty (원본 사용)
+     */
+    public static Optional<byte[]> render(BufferedImage source, ImageVariant variant, String outputMimeType)
+            throws IOException {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        int longest = Math.max(width, height);
+        if (longest <= variant.maxDimension()) {
+            return Optional.empty();
+        }
+
+        double scale = (double) variant.maxDimension() / longest;
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+        boolean png = "image/png".equals(outputMimeType);
+
+        BufferedImage scaled = scale(source, targetWidth, targetHeight,
+                png ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        return Optional.of(png ? encodePng(scaled) : encodeJpeg(scaled));
+    }
+
+    /**
+     * 절반씩 단계적으로 줄여 쌍선형 보간 한 번으로 줄일 때의 계단 현상을 줄임
+     */
+    private static BufferedImage scale(BufferedImage source, int targetWidth, int targetHeight, int type) {
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+
+            BufferedImage next = new BufferedImage(width, height, type);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] encodePng(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
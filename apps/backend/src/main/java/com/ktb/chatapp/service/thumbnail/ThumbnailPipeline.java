@@ -0,0 +1,149 @@
+package com.ktb.chatapp.service.thumbnail;
+
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.repository.FileRepository;
+import com.ktb.chatapp.service.DownloadableFile;
+import com.ktb.chatapp.service.FileService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미지 파생본(썸네일/미리보기) 비동기 생성
+ * 업로드 응답을 늦추지 않도록 고정 크기 워커 풀에서 처리하며, 대기열이 가득 차면
+ * 요청을 버린다(파생본이 없으면 viewFile이 원본으로 대체하므로 기능상 문제 없음).
+ * 원본은 가장 큰 파생본에 필요한 만큼만 축소 디코딩하고, 저장한 파생본 크기는 File 문서에 기록한다.
+ */
+@Slf4j
+@Component
+public class ThumbnailPipeline {
+
+    private final FileService fileService;
+    private final FileRepository fileRepository;
+    private final boolean enabled;
+    private final long maxSourceBytes;
+    private final long maxSourcePixels;
+    private final ThreadPoolExecutor executor;
+
+    private final MeterRegistry meterRegistry;
+    private final Counter dropped;
+    private final Timer processingTimer;
+
+    public ThumbnailPipeline(FileService fileService,
+                             FileRepository fileRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${file.derivatives.enabled:true}") boolean enabled,
+                             @Value("${file.derivatives.workers:2}") int workers,
+                             @Value("${file.derivatives.queue-capacity:200}") int queueCapacity,
+                             @Value("${file.derivatives.max-source-mb:20}") int maxSourceMb,
+                             @Value("${file.derivatives.max-source-megapixels:50}") int maxSourceMegapixels) {
+        this.fileService = fileService;
+        this.fileRepository = fileRepository;
+        this.enabled = enabled;
+        this.maxSourceBytes = maxSourceMb * 1024L * 1024;
+        this.maxSourcePixels = maxSourceMegapixels * 1_000_000L;
+        this.meterRegistry = meterRegistry;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "thumbnail-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("files.derivatives.queue.depth", executor, e -> e.getQueue().size())
+                .description("Image derivative jobs waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("files.derivatives.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Image derivative jobs currently running")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("files.derivatives.dropped")
+                .description("Image derivative jobs rejected because the queue was full")
+                .register(meterRegistry);
+        this.processingTimer = Timer.builder("files.derivatives.duration")
+                .description("Time to read an original and write all of its derivatives")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 업로드 완료된 파일의 파생본 생성 예약
+     */
+    public void enqueue(File file) {
+        if (!enabled || file == null || !ThumbnailGenerator.supports(file.getMimetype())) {
+            return;
+        }
+        if (file.getSize() > maxSourceBytes) {
+            log.debug("파생본 생성 생략 (원본이 너무 큼): {} ({} bytes)", file.getFilename(), file.getSize());
+            return;
+        }
+        try {
+            executor.execute(() -> processingTimer.record(() -> process(file)));
+        } catch (RejectedExecutionException e) {
+            dropped.increment();
+            log.warn("파생본 생성 대기열 초과로 생략: {}", file.getFilename());
+        }
+    }
+
+    void process(File file) {
+        try {
+            // 같은 내용이 이미 처리된 경우(중복 제거 시 기록도 함께 복사됨) 다시 만들지 않음
+            boolean allPresent = true;
+            for (ImageVariant variant : ImageVariant.values()) {
+                allPresent &= fileService.openDerivative(file, variant).isPresent();
+            }
+            if (allPresent) {
+                generated("skipped");
+                return;
+            }
+
+            DownloadableFile original = fileService.openStored(file);
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream((int) original.length());
+            original.transferTo(0, original.length(), buffer);
+            BufferedImage source = ThumbnailGenerator.read(buffer.toByteArray(), maxSourcePixels,
+                    ImageVariant.largestDimension());
+
+            String outputMimeType = ImageVariant.outputMimeType(file.getMimetype());
+            for (ImageVariant variant : ImageVariant.values()) {
+                Optional<byte[]> rendered = ThumbnailGenerator.render(source, variant, outputMimeType);
+                if (rendered.isEmpty()) {
+                    // 원본이 이미 충분히 작음 - viewFile이 원본을 그대로 제공
+                    generated("not_needed");
+                    continue;
+                }
+                fileService.storeDerivative(file, variant, outputMimeType, rendered.get());
+                fileRepository.recordDerivative(file.getPath(), variant.key(), rendered.get().length);
+                generated("success");
+            }
+            log.debug("파생본 생성 완료: {}", file.getFilename());
+        } catch (Exception e) {
+            generated("failure");
+            log.warn("파생본 생성 실패: {} - {}", file.getFilename(), e.getMessage());
+        }
+    }
+
+    private void generated(String result) {
+        meterRegistry.counter("files.derivatives.generated", "result", result).increment();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
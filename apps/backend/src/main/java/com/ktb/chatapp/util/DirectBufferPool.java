@@ -0,0 +1,117 @@
+package com.ktb.chatapp.util;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 고정 크기 Direct ByteBuffer 풀
+ * 업로드 데이터를 힙 밖 버퍼로 옮겨 GC 대상 할당을 없애고, 풀 크기로 전체 직접 메모리 사용량을 제한한다.
+ * 버퍼는 필요할 때 최대 개수까지 지연 생성하며, 모두 사용 중이면 반납을 기다린다.
+ */
+public class DirectBufferPool {
+
+    private final String name;
+    private final int bufferSize;
+    private final int maxBuffers;
+    private final long acquireTimeoutMs;
+    private final BlockingQueue<ByteBuffer> free;
+    private final AtomicInteger allocated = new AtomicInteger();
+    private final AtomicInteger inUse = new AtomicInteger();
+
+    public DirectBufferPool(String name, int bufferSize, int maxBuffers, long acquireTimeoutMs,
+                            MeterRegistry meterRegistry) {
+        this.name = name;
+        this.bufferSize = bufferSize;
+        this.maxBuffers = maxBuffers;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.free = new ArrayBlockingQueue<>(maxBuffers);
+
+        Gauge.builder("buffers.direct.in_use", inUse, AtomicInteger::get)
+                .description("Pooled direct buffers currently lent out")
+                .tag("pool", name)
+                .register(meterRegistry);
+        Gauge.builder("buffers.direct.allocated.bytes", allocated, count -> (double) count.get() * bufferSize)
+                .description("Direct memory allocated by the pool")
+                .baseUnit("bytes")
+                .tag("pool", name)
+                .register(meterRegistry);
+    }
+
+    public int bufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * 버퍼 대여 (비어 있는 버퍼가 없고 최대 개수에 도달했으면 제한 시간까지 대기)
+     */
+    public ByteBuffer acquire() throws InterruptedException {
+        ByteBuffer buffer = free.poll();
+        if (buffer == null) {
+            buffer = allocateIfBelowLimit();
+        }
+        if (buffer == null) {
+            buffer = free.poll(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        }
+        if (buffer == null) {
+            throw new IllegalStateException("업로드가 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요. (" + name + ")");
+        }
+        inUse.incrementAndGet();
+        buffer.clear();
+        return buffer;
+    }
+
+    public void release(ByteBuffer buffer) {
+        if (buffer == null) {
+            return;
+        }
+        inUse.decrementAndGet();
+        buffer.clear();
+        free.offer(buffer);
+    }
+
+    private ByteBuffer allocateIfBelowLimit() {
+        while (true) {
+            int current = allocated.get();
+            if (current >= maxBuffers) {
+                return null;
+            }
+            if (allocated.compareAndSet(current, current + 1)) {
+                return ByteBuffer.allocateDirect(bufferSize);
+            }
+        }
+    }
+
+    /**
+     * 버퍼의 현재 position~limit 구간을 복사 없이 읽는 스트림 (원본 position은 변경하지 않음)
+     */
+    public static InputStream asInputStream(ByteBuffer buffer) {
+        ByteBuffer view = buffer.duplicate();
+        return new InputStream() {
+            @Override
+            public int read() {
+                return view.hasRemaining() ? view.get() & 0xFF : -1;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (!view.hasRemaining()) {
+                    return -1;
+                }
+                int n = Math.min(len, view.remaining());
+                view.get(b, off, n);
+                return n;
+            }
+
+            @Override
+            public int available() {
+                return view.remaining();
+            }
+        };
+    }
+}
@@ -2,6 +2,8 @@ package com.ktb.chatapp.util;
 
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.time.Instant;
 import java.util.Arrays;
@@ -48,7 +50,17 @@ public class FileUtil {
             throw new RuntimeException("파일이 비어있습니다.");
         }
 
-        String originalFilename = file.getOriginalFilename();
+        validateFileMetadata(file.getOriginalFilename(), file.getContentType(), file.getSize());
+    }
+
+    /**
+     * 파일 메타데이터 유효성 검증 (본문 없이 파일명/MIME 타입/크기만으로 검증, Presigned 업로드용)
+     */
+    public static void validateFileMetadata(String originalFilename, String contentType, long size) {
+        if (size <= 0) {
+            throw new RuntimeException("파일이 비어있습니다.");
+        }
+
         if (originalFilename == null || originalFilename.trim().isEmpty()) {
             throw new RuntimeException("파일명이 올바르지 않습니다.");
         }
@@ -60,7 +72,6 @@ public class FileUtil {
         }
 
         // MIME 타입 검증
-        String contentType = file.getContentType();
         if (contentType == null || !ALLOWED_TYPES.containsKey(contentType)) {
             throw new RuntimeException("지원하지 않는 파일 형식입니다.");
         }
@@ -77,13 +88,70 @@ public class FileUtil {
         String type = contentType.split("/")[0];
         long limit = FILE_SIZE_LIMITS.getOrDefault(type, FILE_SIZE_LIMITS.get("application"));
         
-        if (file.getSize() > limit) {
+        if (size > limit) {
             int limitInMB = (int) (limit / 1024 / 1024);
             String fileType = getFileType(contentType);
             throw new RuntimeException(fileType + " 파일은 " + limitInMB + "MB를 초과할 수 없습니다.");
         }
     }
 
+    /**
+     * 파일 앞부분 검사에 필요한 최대 바이트 수
+     */
+    public static final int SIGNATURE_PEEK_BYTES = 16;
+
+    /**
+     * 파일 시그니처(매직 넘버) 검증 - 선언된 MIME 타입과 실제 내용의 앞부분이 일치하는지 확인
+     * 본문 전체를 받기 전에 스트림 앞부분만으로 위장 파일을 거부한다.
+     */
+    public static void validateSignature(String contentType, byte[] head, int length) {
+        if (!matchesSignature(contentType, head, length)) {
+            throw new RuntimeException("파일 내용이 형식과 일치하지 않습니다.");
+        }
+    }
+
+    private static boolean matchesSignature(String contentType, byte[] h, int n) {
+        if (contentType == null) {
+            return false;
+        }
+        return switch (contentType) {
+            case "image/jpeg" -> startsWith(h, n, 0, 0xFF, 0xD8, 0xFF);
+            case "image/png" -> startsWith(h, n, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A);
+            case "image/gif" -> startsWith(h, n, 0, 'G', 'I', 'F', '8');
+            case "image/webp" -> startsWith(h, n, 0, 'R', 'I', 'F', 'F') && startsWith(h, n, 8, 'W', 'E', 'B', 'P');
+            case "video/mp4" -> startsWith(h, n, 4, 'f', 't', 'y', 'p');
+            case "video/quicktime" -> startsWith(h, n, 4, 'f', 't', 'y', 'p')
+                    || startsWith(h, n, 4, 'm', 'o', 'o', 'v')
+                    || startsWith(h, n, 4, 'm', 'd', 'a', 't')
+                    || startsWith(h, n, 4, 'w', 'i', 'd', 'e')
+                    || startsWith(h, n, 4, 'f', 'r', 'e', 'e')
+                    || startsWith(h, n, 4, 's', 'k', 'i', 'p');
+            case "video/webm" -> startsWith(h, n, 0, 0x1A, 0x45, 0xDF, 0xA3);
+            // ID3 태그 또는 MPEG 프레임 동기 비트
+            case "audio/mpeg" -> startsWith(h, n, 0, 'I', 'D', '3')
+                    || (n >= 2 && (h[0] & 0xFF) == 0xFF && (h[1] & 0xE0) == 0xE0);
+            case "audio/wav" -> startsWith(h, n, 0, 'R', 'I', 'F', 'F') && startsWith(h, n, 8, 'W', 'A', 'V', 'E');
+            case "audio/ogg" -> startsWith(h, n, 0, 'O', 'g', 'g', 'S');
+            case "application/pdf" -> startsWith(h, n, 0, '%', 'P', 'D', 'F');
+            case "application/msword" -> startsWith(h, n, 0, 0xD0, 0xCF, 0x11, 0xE0, 0xA1, 0xB1, 0x1A, 0xE1);
+            case "application/vnd.openxmlformats-officedocument.wordprocessingml.document" ->
+                    startsWith(h, n, 0, 'P', 'K', 0x03, 0x04);
+            default -> false;
+        };
+    }
+
+    private static boolean startsWith(byte[] head, int length, int offset, int... signature) {
+        if (length < offset + signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if ((head[offset + i] & 0xFF) != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * 파일 타입 한글명 반환
      */
@@ -157,6 +225,24 @@ public class FileUtil {
         }
     }
     
+    /**
+     * 업로드 내용 해시용 다이제스트 생성 (DigestInputStream으로 감싸 스트리밍 중 계산)
+     */
+    public static MessageDigest newContentDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 다이제스트 결과를 내용 해시 문자열로 변환
+     */
+    public static String toContentHash(MessageDigest digest) {
+        return bytesToHex(digest.digest());
+    }
+
     /**
      * 바이트 배열을 16진수 문자열로 변환
      */
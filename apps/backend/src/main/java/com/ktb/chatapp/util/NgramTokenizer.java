@@ -0,0 +1,63 @@
+package com.ktb.chatapp.util;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 채팅방 이름 검색용 n-gram 토크나이저
+ * 인덱싱 시에는 1-gram + 2-gram 전체를, 검색 시에는 검색어의 2-gram(1글자면 1-gram)을 사용하여
+ * 색인된 토큰 배열에 대한 $all 조회로 후보를 좁힌다.
+ */
+public final class NgramTokenizer {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private NgramTokenizer() {
+        throw new AssertionError("Cannot instantiate NgramTokenizer");
+    }
+
+    /**
+     * 검색 비교용 정규화 (NFC + 소문자 + 연속 공백 축약)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        return WHITESPACE.matcher(normalized.trim()).replaceAll(" ");
+    }
+
+    /**
+     * 색인용 토큰 (정규화된 이름의 모든 1-gram, 2-gram)
+     */
+    public static List<String> indexTokens(String text) {
+        String normalized = normalize(text);
+        Set<String> tokens = new LinkedHashSet<>();
+        addGrams(normalized, 1, tokens);
+        addGrams(normalized, 2, tokens);
+        return List.copyOf(tokens);
+    }
+
+    /**
+     * 검색어 토큰 (1글자면 1-gram, 그 이상이면 2-gram)
+     */
+    public static List<String> queryTokens(String term) {
+        String normalized = normalize(term);
+        Set<String> tokens = new LinkedHashSet<>();
+        addGrams(normalized, normalized.length() == 1 ? 1 : 2, tokens);
+        return List.copyOf(tokens);
+    }
+
+    private static void addGrams(String text, int size, Set<String> tokens) {
+        for (int i = 0; i + size <= text.length(); i++) {
+            String gram = text.substring(i, i + size);
+            if (!gram.isBlank()) {
+                tokens.add(gram);
+            }
+        }
+    }
+}
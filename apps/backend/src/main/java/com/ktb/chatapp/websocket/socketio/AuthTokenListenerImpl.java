@@ -8,11 +8,9 @@ import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.service.JwtService;
 import com.ktb.chatapp.service.SessionService;
 import com.ktb.chatapp.service.SessionValidationResult;
-import com.ktb.chatapp.websocket.socketio.handler.ConnectionLoginHandler;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.stereotype.Component;
@@ -30,7 +28,6 @@ public class AuthTokenListenerImpl implements AuthTokenListener {
     private final JwtService jwtService;
     private final SessionService sessionService;
     private final UserRepository userRepository;
-    private final ObjectProvider<ConnectionLoginHandler> socketIOChatHandlerProvider;
 
     @Override
     public AuthTokenResult getAuthTokenResult(Object _authToken, SocketIOClient client) {
@@ -47,7 +44,8 @@ public class AuthTokenListenerImpl implements AuthTokenListener {
 
             String userId;
             try {
-                userId = jwtService.extractUserId(token);
+                // 검증된 Jwt는 캐시되어 같은 토큰으로 재연결하면 서명 검증과 파싱을 반복하지 않는다
+                userId = jwtService.extractClaims(token).userId();
             } catch (JwtException e) {
                 return new AuthTokenResult(false, Map.of("message", "Invalid token"));
             }
@@ -71,7 +69,8 @@ public class AuthTokenListenerImpl implements AuthTokenListener {
             log.info("Socket.IO connection authorized for user: {} ({})", user.getName(), userId);
             
             var socketUser = new SocketUser(user.getId(), user.getName(), sessionId, client.getSessionId().toString());
-            socketIOChatHandlerProvider.getObject().onConnect(client, socketUser);
+            // 핸드셰이크 안에서는 사용자 정보만 바인딩하고, 방 재입장 등은 ConnectionLoginHandler의 @OnConnect에서 처리
+            client.set("user", socketUser);
             return AuthTokenResult.AuthTokenResultSuccess;
         } catch (Exception e) {
             log.error("Socket.IO authentication error: {}", e.getMessage(), e);
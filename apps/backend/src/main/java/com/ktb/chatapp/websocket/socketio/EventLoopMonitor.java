@@ -0,0 +1,188 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.EventLoop;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Socket.IO 이벤트 루프 지연/블로킹 감지기
+ * 주기적으로 각 Netty 이벤트 루프에 빈 작업을 넣고, 실제 실행되기까지 걸린 시간을 지연(lag)으로 기록한다.
+ * 디버그 모드에서는 임계값보다 오래 멈춘 이벤트 루프와 이벤트 핸들러의 스택을 한 번씩 채집해 로그로 남긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class EventLoopMonitor {
+
+    private final TaskScheduler taskScheduler;
+    private final MeterRegistry meterRegistry;
+    private final long probeIntervalMs;
+    private final boolean debug;
+    private final long blockThresholdNanos;
+
+    private final Map<EventLoop, LoopProbe> loops = new ConcurrentHashMap<>();
+    private final Map<Thread, RunningHandler> runningHandlers = new ConcurrentHashMap<>();
+    private final Counter blockedSamples;
+    private ScheduledFuture<?> probeTask;
+
+    public EventLoopMonitor(
+            TaskScheduler taskScheduler,
+            MeterRegistry meterRegistry,
+            @Value("${socketio.monitor.probe-interval-ms:100}") long probeIntervalMs,
+            @Value("${socketio.monitor.debug:false}") boolean debug,
+            @Value("${socketio.monitor.block-threshold-ms:200}") long blockThresholdMs) {
+        this.taskScheduler = taskScheduler;
+        this.meterRegistry = meterRegistry;
+        this.probeIntervalMs = probeIntervalMs;
+        this.debug = debug;
+        this.blockThresholdNanos = TimeUnit.MILLISECONDS.toNanos(blockThresholdMs);
+        this.blockedSamples = Counter.builder("socketio.blocked.samples")
+                .description("Stack samples captured for event loops or handlers blocked past the threshold")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        probeTask = taskScheduler.scheduleAtFixedRate(this::probe, Duration.ofMillis(probeIntervalMs));
+        log.info("Event loop monitor started - interval: {}ms, debug: {}", probeIntervalMs, debug);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (probeTask != null) {
+            probeTask.cancel(false);
+        }
+    }
+
+    /**
+     * 채널이 배정된 이벤트 루프 등록 (이미 등록된 루프는 무시)
+     */
+    public void register(EventLoop eventLoop) {
+        loops.computeIfAbsent(eventLoop, loop -> new LoopProbe(loop, loops.size()));
+    }
+
+    /**
+     * 이벤트 핸들러 실행 시작 (디버그 모드에서만 추적, 반환값은 handlerFinished에 전달)
+     */
+    public Thread handlerStarted(String event) {
+        if (!debug) {
+            return null;
+        }
+        Thread thread = Thread.currentThread();
+        runningHandlers.put(thread, new RunningHandler(event, System.nanoTime()));
+        return thread;
+    }
+
+    public void handlerFinished(Thread thread) {
+        if (thread != null) {
+            runningHandlers.remove(thread);
+        }
+    }
+
+    void probe() {
+        long now = System.nanoTime();
+        for (LoopProbe probe : loops.values()) {
+            if (probe.loop.isShuttingDown()) {
+                loops.remove(probe.loop);
+                continue;
+            }
+            probe.send(now);
+        }
+        if (debug) {
+            sampleBlockedHandlers(now);
+        }
+    }
+
+    private void sampleBlockedHandlers(long now) {
+        runningHandlers.forEach((thread, handler) -> {
+            if (!handler.sampled && now - handler.startedAt > blockThresholdNanos) {
+                handler.sampled = true;
+                logStack("Socket handler '" + handler.event + "'", thread, now - handler.startedAt);
+            }
+        });
+    }
+
+    private void logStack(String target, Thread thread, long blockedNanos) {
+        blockedSamples.increment();
+        String stack = Arrays.stream(thread.getStackTrace())
+                .map(frame -> "\tat " + frame)
+                .collect(Collectors.joining("\n"));
+        log.warn("{} blocked for {}ms on {}\n{}",
+                target, TimeUnit.NANOSECONDS.toMillis(blockedNanos), thread.getName(), stack);
+    }
+
+    private static final class RunningHandler {
+        private final String event;
+        private final long startedAt;
+        private volatile boolean sampled;
+
+        private RunningHandler(String event, long startedAt) {
+            this.event = event;
+            this.startedAt = startedAt;
+        }
+    }
+
+    /**
+     * 이벤트 루프 하나의 지연 측정
+     * 이전 탐침이 아직 실행되지 않았으면 새로 넣지 않고, 디버그 모드에서는 그 사이 루프 스레드의 스택을 채집한다.
+     */
+    private final class LoopProbe {
+
+        private final EventLoop loop;
+        private final Timer lagTimer;
+        // 실행 대기 중인 탐침의 등록 시각 (0이면 대기 중인 탐침 없음)
+        private final AtomicLong pendingSince = new AtomicLong();
+        private volatile Thread loopThread;
+        private volatile boolean sampled;
+
+        private LoopProbe(EventLoop loop, int index) {
+            this.loop = loop;
+            this.lagTimer = Timer.builder("socketio.eventloop.lag")
+                    .description("Delay between scheduling a no-op task on a Netty event loop and its execution")
+                    .tag("loop", String.valueOf(index))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+
+        void send(long now) {
+            long since = pendingSince.get();
+            if (since != 0) {
+                if (debug && !sampled && loopThread != null && now - since > blockThresholdNanos) {
+                    sampled = true;
+                    logStack("Socket.IO event loop", loopThread, now - since);
+                }
+                return;
+            }
+            pendingSince.set(now);
+            try {
+                loop.execute(this::arrived);
+            } catch (RejectedExecutionException e) {
+                loops.remove(loop);
+            }
+        }
+
+        private void arrived() {
+            long since = pendingSince.getAndSet(0);
+            loopThread = Thread.currentThread();
+            sampled = false;
+            lagTimer.record(System.nanoTime() - since, TimeUnit.NANOSECONDS);
+        }
+    }
+}
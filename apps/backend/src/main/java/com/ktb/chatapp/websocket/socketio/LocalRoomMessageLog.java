@@ -0,0 +1,82 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.ktb.chatapp.dto.MessageResponse;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local in-memory implementation of RoomMessageLog.
+ * 단일 노드 전용: 순번은 프로세스 재시작 시 초기화되며, 이 경우 클라이언트는 전체 재조회로 돌아간다.
+ */
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnMissingBean(RoomMessageLog.class)
+public class LocalRoomMessageLog implements RoomMessageLog {
+
+    private final int capacity;
+    private final Map<String, RoomBuffer> rooms = new ConcurrentHashMap<>();
+
+    public LocalRoomMessageLog(@Value("${socketio.resume.capacity:200}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public long nextSeq(String roomId) {
+        return buffer(roomId).nextSeq();
+    }
+
+    @Override
+    public void append(String roomId, MessageResponse message) {
+        buffer(roomId).append(message);
+    }
+
+    @Override
+    public Optional<List<MessageResponse>> since(String roomId, long lastSeq) {
+        RoomBuffer buffer = rooms.get(roomId);
+        if (buffer == null) {
+            return lastSeq == 0 ? Optional.of(List.of()) : Optional.empty();
+        }
+        return buffer.since(lastSeq);
+    }
+
+    private RoomBuffer buffer(String roomId) {
+        return rooms.computeIfAbsent(roomId, id -> new RoomBuffer());
+    }
+
+    private final class RoomBuffer {
+
+        private long seq;
+        private final ArrayDeque<MessageResponse> recent = new ArrayDeque<>();
+
+        synchronized long nextSeq() {
+            return ++seq;
+        }
+
+        synchronized void append(MessageResponse message) {
+            recent.addLast(message);
+            while (recent.size() > capacity) {
+                recent.removeFirst();
+            }
+        }
+
+        synchronized Optional<List<MessageResponse>> since(long lastSeq) {
+            List<MessageResponse> gap = new ArrayList<>();
+            for (MessageResponse message : recent) {
+                if (message.seq() > lastSeq) {
+                    gap.add(message);
+                }
+            }
+            gap.sort(Comparator.comparingLong(MessageResponse::seq));
+            return RoomMessageLog.coversGap(lastSeq, seq, gap) ? Optional.of(gap) : Optional.empty();
+        }
+    }
+}
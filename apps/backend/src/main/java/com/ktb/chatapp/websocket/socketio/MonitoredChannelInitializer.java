@@ -0,0 +1,31 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.SocketIOChannelInitializer;
+import io.netty.channel.Channel;
+
+/**
+ * 새 채널이 배정된 이벤트 루프를 EventLoopMonitor에 알리고,
+ * WebSocket 압축과 느린 소비자 보호 핸들러를 추가하는 파이프라인 초기화기
+ */
+public class MonitoredChannelInitializer extends SocketIOChannelInitializer {
+
+    private final EventLoopMonitor eventLoopMonitor;
+    private final SlowConsumerGuard slowConsumerGuard;
+    private final WebSocketCompression webSocketCompression;
+
+    public MonitoredChannelInitializer(EventLoopMonitor eventLoopMonitor, SlowConsumerGuard slowConsumerGuard,
+                                       WebSocketCompression webSocketCompression) {
+        this.eventLoopMonitor = eventLoopMonitor;
+        this.slowConsumerGuard = slowConsumerGuard;
+        this.webSocketCompression = webSocketCompression;
+    }
+
+    @Override
+    protected void initChannel(Channel ch) throws Exception {
+        super.initChannel(ch);
+        webSocketCompression.install(ch.pipeline());
+        // 인코더가 channel().write로 내보낸 프레임이 tail부터 흐르므로 인코더 앞에 두면 모든 프레임을 거친다
+        ch.pipeline().addBefore(SOCKETIO_ENCODER, SlowConsumerGuard.HANDLER_NAME, slowConsumerGuard.newHandler());
+        eventLoopMonitor.register(ch.eventLoop());
+    }
+}
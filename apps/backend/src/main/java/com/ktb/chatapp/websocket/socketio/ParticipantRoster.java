@@ -0,0 +1,129 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.ktb.chatapp.dto.ParticipantsSnapshotResponse;
+import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.repository.RoomRepository;
+import com.ktb.chatapp.repository.UserRepository;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방별 참여자 목록 프로젝션 캐시
+ * 입장/퇴장 diff를 버전 순서대로 적용하여, 입장할 때마다 전체 참여자를 재조회하지 않는다.
+ * 버전이 건너뛰면(다른 노드/REST 경로의 변경) 캐시를 버리고 다음 조회 시 다시 로드한다.
+ * 만료된 목록은 다시 조회되지 않는 방도 있으므로 스케줄러가 주기적으로 제거한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ParticipantRoster {
+
+    static final long ROSTER_TTL_MS = TimeUnit.MINUTES.toMillis(5);
+
+    private final RoomRepository roomRepository;
+    private final UserRepository userRepository;
+
+    private final Map<String, Roster> rosters = new ConcurrentHashMap<>();
+
+    /**
+     * 현재 참여자 목록 스냅샷 (캐시 우선)
+     *
+     * @return 방이 없으면 empty
+     */
+    public Optional<ParticipantsSnapshotResponse> snapshot(String roomId) {
+        Roster roster = rosters.get(roomId);
+        if (roster == null || roster.isExpired(System.currentTimeMillis())) {
+            roster = load(roomId);
+            if (roster == null) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(new ParticipantsSnapshotResponse(
+                roomId, roster.version(), List.copyOf(roster.participants().values())));
+    }
+
+    /**
+     * 참여자 추가 diff 적용 (직전 버전일 때만 적용, 그 외에는 무효화)
+     */
+    public void applyAdded(String roomId, long version, UserResponse participant) {
+        rosters.computeIfPresent(roomId, (key, roster) -> {
+            if (roster.version() == version) {
+                return roster; // 이미 반영된 버전 (REST 입장 후 소켓 입장 등)
+            }
+            if (roster.version() != version - 1) {
+                return null;
+            }
+            Map<String, UserResponse> participants = new LinkedHashMap<>(roster.participants());
+            participants.put(participant.id(), participant);
+            return new Roster(version, participants, roster.loadedAt());
+        });
+    }
+
+    /**
+     * 참여자 제거 diff 적용 (직전 버전일 때만 적용, 그 외에는 무효화)
+     */
+    public void applyRemoved(String roomId, long version, String userId) {
+        rosters.computeIfPresent(roomId, (key, roster) -> {
+            if (roster.version() != version - 1) {
+                return null;
+            }
+            Map<String, UserResponse> participants = new LinkedHashMap<>(roster.participants());
+            participants.remove(userId);
+            return new Roster(version, participants, roster.loadedAt());
+        });
+    }
+
+    public void evict(String roomId) {
+        rosters.remove(roomId);
+    }
+
+    /**
+     * 만료된 참여자 목록 정리
+     */
+    @Scheduled(fixedDelayString = "${socketio.roster.eviction-interval-ms:60000}")
+    public void evictExpired() {
+        evictExpired(System.currentTimeMillis());
+    }
+
+    void evictExpired(long now) {
+        rosters.values().removeIf(roster -> roster.isExpired(now));
+    }
+
+    private Roster load(String roomId) {
+        Room room = roomRepository.findById(roomId).orElse(null);
+        if (room == null) {
+            rosters.remove(roomId);
+            return null;
+        }
+
+        // findAllById로 N+1 문제 해결 (N번 쿼리 → 1번 쿼리)
+        Map<String, UserResponse> participants = new LinkedHashMap<>();
+        userRepository.findAllById(room.getParticipantIds())
+                .forEach(user -> participants.put(user.getId(), UserResponse.from(user)));
+
+        Roster loaded = new Roster(room.getParticipantsVersion(), participants, System.currentTimeMillis());
+        // 조회하는 동안 더 새 버전이 반영되었으면(동시 로드, diff 적용) 오래된 결과로 덮어쓰지 않음
+        Roster roster = rosters.merge(roomId, loaded,
+                (current, fresh) -> current.version() > fresh.version() ? current : fresh);
+        log.debug("Participant roster loaded - roomId: {}, version: {}, size: {}",
+                roomId, loaded.version(), participants.size());
+        return roster;
+    }
+
+    private record Roster(long version, Map<String, UserResponse> participants, long loadedAt) {
+        boolean isExpired(long now) {
+            return now - loadedAt > ROSTER_TTL_MS;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.BroadcastAckCallback;
+import com.corundumstudio.socketio.BroadcastOperations;
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.protocol.Packet;
+import java.util.Collection;
+import java.util.function.Predicate;
+
+/**
+ * 방 브로드캐스트 인자를 PreEncodedPayload로 감싸는 BroadcastOperations
+ * 수신자 수와 관계없이 브로드캐스트당 한 번만 직렬화하고, 같은 JSON을 Redis 발행에도 재사용한다.
+ * ack 콜백이 있는 전송은 그대로 위임한다.
+ */
+public class PreEncodedBroadcastOperations implements BroadcastOperations {
+
+    private final BroadcastOperations delegate;
+
+    public PreEncodedBroadcastOperations(BroadcastOperations delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void sendEvent(String name, Object... data) {
+        delegate.sendEvent(name, PreEncodedPayload.wrap(data));
+    }
+
+    @Override
+    public void sendEvent(String name, SocketIOClient excludedClient, Object... data) {
+        delegate.sendEvent(name, excludedClient, PreEncodedPayload.wrap(data));
+    }
+
+    @Override
+    public void sendEvent(String name, Predicate<SocketIOClient> excludePredicate, Object... data) {
+        delegate.sendEvent(name, excludePredicate, PreEncodedPayload.wrap(data));
+    }
+
+    @Override
+    public Collection<SocketIOClient> getClients() {
+        return delegate.getClients();
+    }
+
+    @Override
+    public void send(Packet packet) {
+        delegate.send(packet);
+    }
+
+    @Override
+    public <T> void send(Packet packet, BroadcastAckCallback<T> ackCallback) {
+        delegate.send(packet, ackCallback);
+    }
+
+    @Override
+    public <T> void sendEvent(String name, Object data, BroadcastAckCallback<T> ackCallback) {
+        delegate.sendEvent(name, data, ackCallback);
+    }
+
+    @Override
+    public <T> void sendEvent(String name, Object data, SocketIOClient excludedClient,
+                              BroadcastAckCallback<T> ackCallback) {
+        delegate.sendEvent(name, data, excludedClient, ackCallback);
+    }
+
+    @Override
+    public <T> void sendEvent(String name, Object data, Predicate<SocketIOClient> excludePredicate,
+                              BroadcastAckCallback<T> ackCallback) {
+        delegate.sendEvent(name, data, excludePredicate, ackCallback);
+    }
+
+    @Override
+    public void disconnect() {
+        delegate.disconnect();
+    }
+}
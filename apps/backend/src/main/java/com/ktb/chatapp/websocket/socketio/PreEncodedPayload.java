@@ -0,0 +1,97 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.ktb.chatapp.pubsub.RedisStoreFactory;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 한 번만 JSON으로 인코딩되는 브로드캐스트 인자
+ * netty-socketio는 방 브로드캐스트의 같은 Packet을 수신자마다 다시 직렬화하고, Redis 발행 때도 한 번 더 직렬화한다.
+ * 이 값은 처음 직렬화될 때 JSON을 만들어 두고, 이후에는 어떤 ObjectMapper로 쓰든 캐시된 UTF-8 바이트를 그대로 복사한다.
+ */
+public final class PreEncodedPayload implements JsonSerializable {
+
+    private static final ObjectMapper SOCKET_JSON = RedisStoreFactory.socketJsonMapper();
+
+    private final Object value;
+    private volatile SerializedString encoded;
+
+    private PreEncodedPayload(Object value) {
+        this.value = value;
+    }
+
+    public static PreEncodedPayload of(Object value) {
+        return value instanceof PreEncodedPayload payload ? payload : new PreEncodedPayload(value);
+    }
+
+    /**
+     * 이벤트 인자 배열 변환 (null과 문자열·숫자·불리언은 직렬화 비용이 작아 그대로 둔다)
+     */
+    public static Object[] wrap(Object... args) {
+        if (args == null) {
+            return null;
+        }
+        Object[] wrapped = new Object[args.length];
+        for (int i = 0; i < args.length; i++) {
+            Object arg = args[i];
+            wrapped[i] = arg == null || arg instanceof CharSequence || arg instanceof Number || arg instanceof Boolean
+                    ? arg
+                    : of(arg);
+        }
+        return wrapped;
+    }
+
+    public Object value() {
+        return value;
+    }
+
+    /**
+     * 인코딩된 JSON (처음 호출 시 한 번만 직렬화)
+     */
+    public String json() {
+        return encoded().getValue();
+    }
+
+    private SerializedString encoded() {
+        SerializedString result = encoded;
+        if (result == null) {
+            synchronized (this) {
+                result = encoded;
+                if (result == null) {
+                    try {
+                        // 바이트 출력으로 인코딩해야 netty-socketio 인코더와 같은 JSON이 된다 (BMP 밖 문자는 유니코드 이스케이프)
+                        result = new SerializedString(new String(SOCKET_JSON.writeValueAsBytes(value), StandardCharsets.UTF_8));
+                    } catch (JsonProcessingException e) {
+                        throw new IllegalStateException("브로드캐스트 인자를 JSON으로 변환할 수 없습니다.", e);
+                    }
+                    encoded = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        // SerializedString은 UTF-8 바이트를 한 번만 만들어 두므로 수신자마다 바이트 복사만 일어난다
+        gen.writeRawValue(encoded());
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+            throws IOException {
+        serialize(gen, serializers);
+    }
+
+    @Override
+    public String toString() {
+        return "PreEncodedPayload" + (encoded != null ? encoded.getValue() : "(" + value + ")");
+    }
+}
@@ -0,0 +1,107 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.dto.MessageResponse;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchResult;
+import org.redisson.api.RBatch;
+import org.redisson.api.RScoredSortedSetAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.ScoredEntry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis-backed RoomMessageLog shared by all Socket.IO nodes.
+ * 순번은 RAtomicLong, 최근 메시지는 순번을 score로 하는 sorted set에 JSON으로 보관한다.
+ */
+@Slf4j
+@Component
+@Primary
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnBean(RedissonClient.class)
+public class RedisRoomMessageLog implements RoomMessageLog {
+
+    private static final String SEQ_KEY_PREFIX = "room:seq:";
+    private static final String RECENT_KEY_PREFIX = "room:recent:";
+
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+    private final int capacity;
+    private final long ttlMinutes;
+
+    public RedisRoomMessageLog(
+            RedissonClient redissonClient,
+            ObjectMapper objectMapper,
+            @Value("${socketio.resume.capacity:200}") int capacity,
+            @Value("${socketio.resume.ttl-minutes:30}") long ttlMinutes) {
+        this.redissonClient = redissonClient;
+        this.objectMapper = objectMapper;
+        this.capacity = capacity;
+        this.ttlMinutes = ttlMinutes;
+    }
+
+    @Override
+    public long nextSeq(String roomId) {
+        return redissonClient.getAtomicLong(SEQ_KEY_PREFIX + roomId).incrementAndGet();
+    }
+
+    /**
+     * 추가/용량 정리/만료 갱신을 한 번의 배치로 전송하고 완료를 기다린다
+     * 브로드캐스트보다 먼저 기록되어야 그 사이 재개한 클라이언트가 방송된 메시지를 빠뜨리지 않는다.
+     * 기록에 실패하면 해당 순번이 비어 이후 재개 요청은 전체 재조회로 돌아간다.
+     */
+    @Override
+    public void append(String roomId, MessageResponse message) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize message for resume cache - roomId: {}, seq: {}", roomId, message.seq(), e);
+            return;
+        }
+        RBatch batch = redissonClient.createBatch();
+        RScoredSortedSetAsync<String> recent = batch.getScoredSortedSet(RECENT_KEY_PREFIX + roomId, StringCodec.INSTANCE);
+        recent.addAsync(message.seq(), json);
+        recent.removeRangeByRankAsync(0, -(capacity + 1));
+        recent.expireAsync(ttlMinutes, TimeUnit.MINUTES);
+        try {
+            batch.execute();
+        } catch (Exception e) {
+            log.warn("Failed to append message to resume cache - roomId: {}, seq: {}", roomId, message.seq(), e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<List<MessageResponse>> since(String roomId, long lastSeq) {
+        RBatch batch = redissonClient.createBatch();
+        batch.getAtomicLong(SEQ_KEY_PREFIX + roomId).getAsync();
+        batch.getScoredSortedSet(RECENT_KEY_PREFIX + roomId, StringCodec.INSTANCE)
+                .entryRangeAsync(lastSeq, false, Double.POSITIVE_INFINITY, true);
+        BatchResult<?> result = batch.execute();
+
+        long currentSeq = (Long) result.getResponses().get(0);
+        Collection<ScoredEntry<String>> entries = (Collection<ScoredEntry<String>>) result.getResponses().get(1);
+        List<MessageResponse> gap = new ArrayList<>(entries.size());
+        for (ScoredEntry<String> entry : entries) {
+            try {
+                gap.add(objectMapper.readValue(entry.getValue(), MessageResponse.class));
+            } catch (JsonProcessingException e) {
+                log.error("Failed to deserialize cached message - roomId: {}, seq: {}", roomId, entry.getScore(), e);
+                return Optional.empty();
+            }
+        }
+        return RoomMessageLog.coversGap(lastSeq, currentSeq, gap) ? Optional.of(gap) : Optional.empty();
+    }
+}
@@ -0,0 +1,56 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.ktb.chatapp.dto.MessageResponse;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 방별 메시지 순번과 최근 메시지 캐시
+ * 재연결한 클라이언트가 마지막으로 받은 순번 이후의 메시지만 받아가도록 한다.
+ */
+public interface RoomMessageLog {
+
+    /**
+     * 방의 다음 메시지 순번 발급 (1부터 단조 증가)
+     *
+     * @param roomId the room ID
+     * @return the new sequence number
+     */
+    long nextSeq(String roomId);
+
+    /**
+     * 순번이 부여된 메시지를 최근 메시지 캐시에 기록 (용량을 넘으면 오래된 메시지부터 제거)
+     * 기록이 끝난 뒤 반환하므로, 브로드캐스트 전에 호출하면 재개 조회가 방송된 메시지를 놓치지 않는다.
+     *
+     * @param roomId the room ID
+     * @param message the message with seq assigned
+     */
+    void append(String roomId, MessageResponse message);
+
+    /**
+     * lastSeq 이후의 메시지 (순번 오름차순)
+     *
+     * @param roomId the room ID
+     * @param lastSeq the last sequence number the client received
+     * @return 캐시가 빠진 구간을 모두 갖고 있지 않으면 empty (전체 재조회 필요)
+     */
+    Optional<List<MessageResponse>> since(String roomId, long lastSeq);
+
+    /**
+     * 조회한 메시지가 lastSeq + 1부터 currentSeq까지 빠짐없이 이어지는지 확인
+     * 중간이 비었거나(캐시 기록 실패) 끝이 모자라면(순번만 발급되고 아직 기록 전) 완전한 구간이 아니다.
+     */
+    static boolean coversGap(long lastSeq, long currentSeq, List<MessageResponse> messages) {
+        if (lastSeq > currentSeq) {
+            return false; // 순번 초기화 (캐시 유실 등)
+        }
+        long expected = lastSeq + 1;
+        for (MessageResponse message : messages) {
+            if (message.seq() != expected) {
+                return false;
+            }
+            expected++;
+        }
+        return expected - 1 == currentSeq;
+    }
+}
@@ -0,0 +1,122 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.AI_MESSAGE_CHUNK;
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.USER_TYPING;
+
+/**
+ * 느린 소비자 보호 정책과 지표
+ * 채널이 unwritable인 동안 쌓이는 프레임을 채널별 SlowConsumerHandler가 붙잡아 두고,
+ * 이벤트별 정책에 따라 버리거나(drop) 최신 것만 남기며(coalesce), 대기량이 한도를 넘으면 연결을 끊는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowConsumerGuard {
+
+    public static final String HANDLER_NAME = "slowConsumerGuard";
+
+    /**
+     * 클라이언트가 밀려 있을 때 이벤트 프레임에 적용할 정책
+     */
+    public enum Policy {
+        /** 순서대로 보관 */
+        KEEP,
+        /** 밀려 있는 동안 새 프레임을 버림 (잠깐 지나면 의미 없는 신호) */
+        DROP,
+        /** 같은 키의 이전 프레임을 버리고 최신 프레임만 보관 (최신 값이 이전 값을 대체) */
+        COALESCE
+    }
+
+    private final Set<String> dropEvents;
+    private final Set<String> coalesceEvents;
+    private final long maxQueuedBytes;
+
+    private final AtomicInteger slowClients = new AtomicInteger();
+    private final Counter slowCounter;
+    private final Counter disconnectCounter;
+    private final Counter droppedBytes;
+    private final Counter coalescedBytes;
+    private final Counter disconnectedBytes;
+
+    public SlowConsumerGuard(
+            MeterRegistry meterRegistry,
+            @Value("${socketio.backpressure.drop-events:" + USER_TYPING + "}") Set<String> dropEvents,
+            @Value("${socketio.backpressure.coalesce-events:" + AI_MESSAGE_CHUNK + "}") Set<String> coalesceEvents,
+            @Value("${socketio.backpressure.max-queued-bytes:1MB}") DataSize maxQueuedBytes) {
+        this.dropEvents = Set.copyOf(dropEvents);
+        this.coalesceEvents = Set.copyOf(coalesceEvents);
+        this.maxQueuedBytes = maxQueuedBytes.toBytes();
+        this.slowCounter = Counter.builder("socketio.outbound.slow")
+                .description("Clients whose channel became unwritable and started buffering frames")
+                .register(meterRegistry);
+        this.disconnectCounter = Counter.builder("socketio.outbound.disconnects")
+                .description("Slow clients disconnected after exceeding the queued byte limit")
+                .register(meterRegistry);
+        this.droppedBytes = droppedBytesCounter(meterRegistry, "drop");
+        this.coalescedBytes = droppedBytesCounter(meterRegistry, "coalesce");
+        this.disconnectedBytes = droppedBytesCounter(meterRegistry, "disconnect");
+        Gauge.builder("socketio.outbound.slow.active", slowClients, AtomicInteger::get)
+                .description("Clients currently buffering frames while unwritable")
+                .register(meterRegistry);
+        log.info("Slow consumer guard - drop: {}, coalesce: {}, max queued: {}",
+                this.dropEvents, this.coalesceEvents, maxQueuedBytes);
+    }
+
+    private static Counter droppedBytesCounter(MeterRegistry meterRegistry, String policy) {
+        return Counter.builder("socketio.outbound.dropped.bytes")
+                .description("Outbound frame bytes discarded for slow clients")
+                .baseUnit("bytes")
+                .tag("policy", policy)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 채널마다 새 핸들러 생성 (핸들러는 채널별 대기열 상태를 가진다)
+     */
+    public SlowConsumerHandler newHandler() {
+        return new SlowConsumerHandler(this);
+    }
+
+    Policy policyFor(String event) {
+        if (event == null) {
+            return Policy.KEEP;
+        }
+        if (dropEvents.contains(event)) {
+            return Policy.DROP;
+        }
+        return coalesceEvents.contains(event) ? Policy.COALESCE : Policy.KEEP;
+    }
+
+    long maxQueuedBytes() {
+        return maxQueuedBytes;
+    }
+
+    void onSlow() {
+        slowCounter.increment();
+        slowClients.incrementAndGet();
+    }
+
+    void onRecovered() {
+        slowClients.decrementAndGet();
+    }
+
+    void onDropped(Policy policy, long bytes) {
+        (policy == Policy.DROP ? droppedBytes : coalescedBytes).increment(bytes);
+    }
+
+    void onDisconnect(long bytes) {
+        disconnectCounter.increment();
+        disconnectedBytes.increment(bytes);
+    }
+}
@@ -0,0 +1,199 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.ktb.chatapp.websocket.socketio.SlowConsumerGuard.Policy;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import io.netty.util.ReferenceCountUtil;
+import java.nio.channels.ClosedChannelException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채널별 느린 소비자 보호 핸들러
+ * 채널이 unwritable이 되면 이후 WebSocket 프레임을 Netty 출력 버퍼 대신 자체 대기열에 보관하고,
+ * 다시 writable이 되면 순서대로 내보낸다. 보관 중에는 SlowConsumerGuard의 이벤트별 정책을 적용하며,
+ * 대기열 크기가 한도를 넘으면 연결을 끊는다. 모든 호출은 채널의 이벤트 루프에서 실행된다.
+ */
+@Slf4j
+public class SlowConsumerHandler extends ChannelDuplexHandler {
+
+    // Engine.IO MESSAGE(4) + Socket.IO EVENT(2)
+    private static final byte ENGINE_MESSAGE = '4';
+    private static final byte SOCKET_EVENT = '2';
+    private static final int NAME_SCAN_LIMIT = 128;
+    private static final ByteBuf MESSAGE_ID_FIELD = Unpooled.unreleasableBuffer(
+            Unpooled.copiedBuffer("\"messageId\":\"", StandardCharsets.US_ASCII));
+
+    private final SlowConsumerGuard guard;
+    private final ArrayDeque<Pending> pending = new ArrayDeque<>();
+    private long queuedBytes;
+    private boolean slow;
+
+    SlowConsumerHandler(SlowConsumerGuard guard) {
+        this.guard = guard;
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+        if (!(msg instanceof WebSocketFrame frame) || (pending.isEmpty() && ctx.channel().isWritable())) {
+            ctx.write(msg, promise);
+            return;
+        }
+        hold(ctx, frame, promise);
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) {
+        drain(ctx);
+        ctx.fireChannelWritabilityChanged();
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) {
+        discardAll();
+        ctx.fireChannelInactive();
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        discardAll();
+    }
+
+    long queuedBytes() {
+        return queuedBytes;
+    }
+
+    int queuedFrames() {
+        return pending.size();
+    }
+
+    private void hold(ChannelHandlerContext ctx, WebSocketFrame frame, ChannelPromise promise) {
+        if (!slow) {
+            slow = true;
+            guard.onSlow();
+            log.debug("Client became unwritable, buffering frames - channel: {}", ctx.channel().remoteAddress());
+        }
+
+        int bytes = frame.content().readableBytes();
+        String key = null;
+        // 단일 프레임으로 완결된 텍스트 패킷만 분류 (조각난 큰 메시지는 순서대로 보관)
+        if (frame instanceof TextWebSocketFrame && frame.isFinalFragment()) {
+            String event = eventName(frame.content());
+            Policy policy = guard.policyFor(event);
+            if (policy == Policy.DROP) {
+                guard.onDropped(Policy.DROP, bytes);
+                release(frame, promise);
+                return;
+            }
+            if (policy == Policy.COALESCE) {
+                key = coalesceKey(event, frame.content());
+                removeQueued(key);
+            }
+        }
+
+        pending.add(new Pending(frame, promise, bytes, key));
+        queuedBytes += bytes;
+        if (queuedBytes > guard.maxQueuedBytes()) {
+            log.warn("Disconnecting slow client - channel: {}, queued: {} bytes in {} frames",
+                    ctx.channel().remoteAddress(), queuedBytes, pending.size());
+            guard.onDisconnect(queuedBytes);
+            discardAll();
+            ctx.close();
+        }
+    }
+
+    private void removeQueued(String key) {
+        Iterator<Pending> it = pending.iterator();
+        while (it.hasNext()) {
+            Pending queued = it.next();
+            if (Objects.equals(queued.key(), key)) {
+                it.remove();
+                queuedBytes -= queued.bytes();
+                guard.onDropped(Policy.COALESCE, queued.bytes());
+                release(queued.frame(), queued.promise());
+                return;
+            }
+        }
+    }
+
+    private void drain(ChannelHandlerContext ctx) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        // 출력 버퍼에 쓰는 즉시 writability가 갱신되므로 high 워터마크까지만 내보낸다
+        while (!pending.isEmpty() && ctx.channel().isWritable()) {
+            Pending next = pending.poll();
+            queuedBytes -= next.bytes();
+            ctx.write(next.frame(), next.promise());
+        }
+        ctx.flush();
+        if (pending.isEmpty()) {
+            recovered();
+        }
+    }
+
+    private void discardAll() {
+        Pending queued;
+        while ((queued = pending.poll()) != null) {
+            ReferenceCountUtil.safeRelease(queued.frame());
+            queued.promise().tryFailure(new ClosedChannelException());
+        }
+        queuedBytes = 0;
+        recovered();
+    }
+
+    private void recovered() {
+        if (slow) {
+            slow = false;
+            guard.onRecovered();
+        }
+    }
+
+    private static void release(WebSocketFrame frame, ChannelPromise promise) {
+        ReferenceCountUtil.safeRelease(frame);
+        promise.trySuccess();
+    }
+
+    /**
+     * 인코딩된 Socket.IO 이벤트 패킷(42["event",...], 42/ns,["event",...])에서 이벤트 이름 추출
+     */
+    static String eventName(ByteBuf content) {
+        int start = content.readerIndex();
+        int end = Math.min(content.writerIndex(), start + NAME_SCAN_LIMIT);
+        if (end - start < 2 || content.getByte(start) != ENGINE_MESSAGE || content.getByte(start + 1) != SOCKET_EVENT) {
+            return null;
+        }
+        for (int i = start + 2; i + 1 < end; i++) {
+            if (content.getByte(i) == '[' && content.getByte(i + 1) == '"') {
+                int nameStart = i + 2;
+                int nameEnd = content.indexOf(nameStart, end, (byte) '"');
+                return nameEnd < 0 ? null : content.toString(nameStart, nameEnd - nameStart, StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 병합 키: 이벤트 이름 + messageId (AI 스트림이 여러 개여도 스트림별 최신 청크만 남긴다)
+     */
+    static String coalesceKey(String event, ByteBuf content) {
+        int field = ByteBufUtil.indexOf(MESSAGE_ID_FIELD, content);
+        if (field < 0) {
+            return event;
+        }
+        int valueStart = field + MESSAGE_ID_FIELD.readableBytes();
+        int valueEnd = content.indexOf(valueStart, content.writerIndex(), (byte) '"');
+        return valueEnd < 0 ? event : event + ':' + content.toString(valueStart, valueEnd - valueStart, StandardCharsets.UTF_8);
+    }
+
+    private record Pending(WebSocketFrame frame, ChannelPromise promise, int bytes, String key) { }
+}
@@ -0,0 +1,203 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Socket.IO 이벤트 디스패처
+ * netty-socketio는 핸들러를 워커 이벤트 루프에서 바로 실행하므로, 핸들러의 Mongo/Redis 호출이 느려지면
+ * 같은 루프의 모든 소켓이 멈춘다. 이벤트를 가상 스레드로 넘기되, 소켓마다 직렬 실행 큐를 두어
+ * 한 클라이언트의 이벤트는 도착 순서대로 하나씩 처리한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class SocketEventDispatcher {
+
+    private final boolean enabled;
+    private final int maxPendingPerSocket;
+    private final MeterRegistry meterRegistry;
+    private final EventLoopMonitor eventLoopMonitor;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<UUID, SerialExecutor> executors = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Map<String, Timer> timerCache = new ConcurrentHashMap<>();
+    private final Timer eventLoopTimer;
+    private final Counter rejectedCounter;
+
+    public SocketEventDispatcher(
+            MeterRegistry meterRegistry,
+            EventLoopMonitor eventLoopMonitor,
+            @Value("${socketio.dispatch.virtual-threads:true}") boolean enabled,
+            @Value("${socketio.dispatch.max-pending-per-socket:256}") int maxPendingPerSocket) {
+        this.meterRegistry = meterRegistry;
+        this.eventLoopMonitor = eventLoopMonitor;
+        this.enabled = enabled;
+        this.maxPendingPerSocket = maxPendingPerSocket;
+        this.eventLoopTimer = Timer.builder("socketio.eventloop.blocked")
+                .description("Time a netty-socketio event loop thread spends inside event listeners")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("socketio.dispatch.rejected")
+                .description("Events dropped because the socket's dispatch queue was full")
+                .register(meterRegistry);
+        Gauge.builder("socketio.dispatch.pending", pending, AtomicInteger::get)
+                .description("Events waiting in per-socket dispatch queues")
+                .register(meterRegistry);
+        Gauge.builder("socketio.dispatch.sockets", executors, Map::size)
+                .description("Sockets with a dispatch queue")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이벤트 처리 예약 (비활성화 시 이벤트 루프에서 바로 실행)
+     * 이벤트 루프 점유 시간은 두 경우 모두 socketio.eventloop.blocked로 기록된다.
+     */
+    public void dispatch(SocketIOClient client, String event, Runnable handler) {
+        dispatch(client, event, handler, false);
+    }
+
+    /**
+     * 연결 해제 처리 예약 후 소켓 큐 정리 (이미 대기 중인 이벤트는 모두 처리한 뒤 해제 핸들러 실행)
+     * 큐가 가득 찬 느린 소켓일수록 정리가 필요하므로 해제 작업은 큐 한도와 관계없이 넣는다.
+     */
+    public void dispatchDisconnect(SocketIOClient client, String event, Runnable handler) {
+        UUID sessionId = client.getSessionId();
+        dispatch(client, event, () -> {
+            try {
+                handler.run();
+            } finally {
+                executors.remove(sessionId);
+            }
+        }, true);
+    }
+
+    private void dispatch(SocketIOClient client, String event, Runnable handler, boolean disconnect) {
+        long started = System.nanoTime();
+        try {
+            if (!enabled) {
+                run(event, handler, started);
+                return;
+            }
+            // 연결 해제 처리로 큐가 정리된 뒤 늦게 도착한 이벤트가 큐를 다시 만들어 남기지 않도록,
+            // 닫힌 소켓에는 새 큐를 만들지 않는다 (해제 작업만 예외)
+            SerialExecutor serial = executors.computeIfAbsent(client.getSessionId(),
+                    id -> disconnect || client.isChannelOpen() ? new SerialExecutor() : null);
+            if (serial == null) {
+                log.debug("Event for closed socket ignored - session: {}, event: {}", client.getSessionId(), event);
+                return;
+            }
+            if (!serial.offer(new Task(event, handler, System.nanoTime()), disconnect)) {
+                rejectedCounter.increment();
+                log.warn("Dispatch queue full, event dropped - session: {}, event: {}", client.getSessionId(), event);
+            }
+        } finally {
+            eventLoopTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void run(String event, Runnable handler, long enqueuedAt) {
+        queueTimer(event).record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Thread tracked = eventLoopMonitor.handlerStarted(event);
+        String outcome = "success";
+        try {
+            handler.run();
+        } catch (Exception e) {
+            outcome = "error";
+            log.error("Socket event handler failed - event: {}", event, e);
+        } finally {
+            eventLoopMonitor.handlerFinished(tracked);
+            sample.stop(handlerTimer(event, outcome));
+        }
+    }
+
+    private Timer handlerTimer(String event, String outcome) {
+        return timerCache.computeIfAbsent("handler:" + event + ":" + outcome, key ->
+                Timer.builder("socketio.dispatch.handler.duration")
+                        .description("Socket event handler execution time")
+                        .tag("event", event)
+                        .tag("outcome", outcome)
+                        .register(meterRegistry));
+    }
+
+    private Timer queueTimer(String event) {
+        return timerCache.computeIfAbsent("queue:" + event, key ->
+                Timer.builder("socketio.dispatch.queue.latency")
+                        .description("Time between event arrival and handler start")
+                        .tag("event", event)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+    }
+
+    int activeSockets() {
+        return executors.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private record Task(String event, Runnable handler, long enqueuedAt) { }
+
+    /**
+     * 소켓 하나의 직렬 실행 큐
+     * 실행 중인 작업이 없을 때만 가상 스레드 하나를 띄워 큐가 빌 때까지 순서대로 처리한다.
+     */
+    private final class SerialExecutor {
+
+        private final Queue<Task> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean running = new AtomicBoolean();
+
+        boolean offer(Task task, boolean bypassLimit) {
+            if (size.incrementAndGet() > maxPendingPerSocket && !bypassLimit) {
+                size.decrementAndGet();
+                return false;
+            }
+            pending.incrementAndGet();
+            queue.add(task);
+            scheduleIfIdle();
+            return true;
+        }
+
+        private void scheduleIfIdle() {
+            if (running.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            Task task;
+            while ((task = queue.poll()) != null) {
+                size.decrementAndGet();
+                pending.decrementAndGet();
+                run(task.event(), task.handler(), task.enqueuedAt());
+            }
+            running.set(false);
+            // 종료 직전에 들어온 작업 처리
+            if (!queue.isEmpty()) {
+                scheduleIfIdle();
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.AckRequest;
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.corundumstudio.socketio.annotation.OnConnect;
+import com.corundumstudio.socketio.annotation.OnDisconnect;
+import com.corundumstudio.socketio.annotation.OnEvent;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * @OnEvent/@OnConnect/@OnDisconnect 메서드를 SocketEventDispatcher를 거쳐 실행하도록 등록하는 스캐너
+ * netty-socketio의 SpringAnnotationScanner를 대체한다. 리스너는 이벤트 루프에서 디스패처에 작업만 넘기고,
+ * 실제 핸들러는 소켓별 직렬 큐의 가상 스레드에서 실행된다.
+ */
+@Slf4j
+public class SocketEventScanner implements BeanPostProcessor {
+
+    private static final Object NO_DATA = new Object();
+
+    private final SocketIOServer socketIOServer;
+    private final SocketEventDispatcher dispatcher;
+
+    public SocketEventScanner(SocketIOServer socketIOServer, SocketEventDispatcher dispatcher) {
+        this.socketIOServer = socketIOServer;
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        Class<?> beanClass = ClassUtils.getUserClass(bean);
+        List<Method> methods = new ArrayList<>();
+        ReflectionUtils.doWithMethods(beanClass, methods::add, method ->
+                method.isAnnotationPresent(OnEvent.class)
+                        || method.isAnnotationPresent(OnConnect.class)
+                        || method.isAnnotationPresent(OnDisconnect.class));
+        if (methods.isEmpty()) {
+            return bean;
+        }
+
+        for (Method method : methods) {
+            ReflectionUtils.makeAccessible(method);
+            if (method.isAnnotationPresent(OnEvent.class)) {
+                registerEvent(bean, method, method.getAnnotation(OnEvent.class).value());
+            } else if (method.isAnnotationPresent(OnConnect.class)) {
+                socketIOServer.addConnectListener(client ->
+                        dispatcher.dispatch(client, "connect", () -> invoke(bean, method, client, null, NO_DATA)));
+            } else {
+                socketIOServer.addDisconnectListener(client ->
+                        dispatcher.dispatchDisconnect(client, "disconnect", () -> invoke(bean, method, client, null, NO_DATA)));
+            }
+        }
+        log.info("{} registered with {} socket handlers", beanName, methods.size());
+        return bean;
+    }
+
+    private void registerEvent(Object bean, Method method, String event) {
+        Class<?> dataType = dataType(method);
+        registerEvent(bean, method, event, dataType);
+    }
+
+    private <T> void registerEvent(Object bean, Method method, String event, Class<T> dataType) {
+        socketIOServer.addEventListener(event, dataType, (client, data, ackRequest) ->
+                dispatcher.dispatch(client, event, () -> invoke(bean, method, client, ackRequest, data)));
+    }
+
+    /**
+     * 이벤트 데이터 파라미터 타입 (SocketIOClient, AckRequest 외의 파라미터는 하나만 허용)
+     */
+    @SuppressWarnings("unchecked")
+    private Class<Object> dataType(Method method) {
+        Class<?> dataType = null;
+        for (Class<?> type : method.getParameterTypes()) {
+            if (SocketIOClient.class.equals(type) || AckRequest.class.equals(type)) {
+                continue;
+            }
+            if (dataType != null) {
+                throw new IllegalArgumentException("이벤트 데이터 파라미터는 하나만 허용됩니다: " + method);
+            }
+            dataType = type;
+        }
+        return (Class<Object>) (dataType != null ? dataType : Object.class);
+    }
+
+    private void invoke(Object bean, Method method, SocketIOClient client, AckRequest ackRequest, Object data) {
+        Class<?>[] types = method.getParameterTypes();
+        Object[] args = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            if (SocketIOClient.class.equals(types[i])) {
+                args[i] = client;
+            } else if (AckRequest.class.equals(types[i])) {
+                args[i] = ackRequest;
+            } else {
+                args[i] = data == NO_DATA ? null : data;
+            }
+        }
+        try {
+            method.invoke(bean, args);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new UndeclaredThrowableException(e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -46,6 +46,18 @@ public final class SocketIOEvents {
      * Payload: { messageId, reaction, type }
      */
     public static final String MESSAGE_REACTION = "messageReaction";
+
+    /**
+     * 참여자 전체 목록 재요청 (diff 버전 누락 시)
+     * Payload: roomId (String)
+     */
+    public static final String FETCH_PARTICIPANTS = "fetchParticipants";
+
+    /**
+     * 재연결 후 놓친 메시지 요청 (마지막으로 받은 순번 이후)
+     * Payload: { roomId, lastSeq }
+     */
+    public static final String RESUME_MESSAGES = "resumeMessages";
     
     // ============================================
     // Server → Client Events (전송 이벤트)
@@ -86,12 +98,36 @@ public final class SocketIOEvents {
      */
     public static final String MESSAGE_LOAD_START = "messageLoadStart";
 
+    /**
+     * 놓친 메시지 전달 (complete=false면 캐시 범위를 벗어나 전체 재조회 필요)
+     * Payload: ResumeMessagesResponse
+     */
+    public static final String MESSAGES_RESUMED = "messagesResumed";
+
     /**
      * 참가자 업데이트
      * Payload: List<UserDto>
      */
     public static final String PARTICIPANTS_UPDATE = "participantsUpdate";
 
+    /**
+     * 참여자 전체 목록 스냅샷 (입장 시, 재요청 시)
+     * Payload: ParticipantsSnapshotResponse
+     */
+    public static final String PARTICIPANTS_SNAPSHOT = "participantsSnapshot";
+
+    /**
+     * 참여자 추가 diff
+     * Payload: ParticipantAddedResponse
+     */
+    public static final String PARTICIPANT_ADDED = "participantAdded";
+
+    /**
+     * 참여자 제거 diff
+     * Payload: ParticipantRemovedResponse
+     */
+    public static final String PARTICIPANT_REMOVED = "participantRemoved";
+
     /**
      * 채팅방 생성 알림
      * Payload: RoomResponse
@@ -168,4 +204,20 @@ public final class SocketIOEvents {
      * Payload: { messageId, error, aiType }
      */
     public static final String AI_MESSAGE_ERROR = "aiMessageError";
+
+    // ============================================
+    // Ephemeral Signals (저장하지 않는 일시 신호)
+    // ============================================
+
+    /**
+     * 입력 중 상태 변경 (Client → Server)
+     * Payload: { roomId, isTyping }
+     */
+    public static final String TYPING = "typing";
+
+    /**
+     * 방 참여자의 입력 중 상태 (Server → Client, 유실 가능)
+     * Payload: { roomId, userId, name, isTyping }
+     */
+    public static final String USER_TYPING = "userTyping";
 }
@@ -0,0 +1,178 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.SocketIOChannelInitializer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.ContinuationWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtension;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionFilter;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionFilterProvider;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketServerExtensionHandler;
+import io.netty.handler.codec.http.websocketx.extensions.compression.PerMessageDeflateServerExtensionHandshaker;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebSocket permessage-deflate 압축 설치와 지표
+ * netty-socketio 기본 압축 핸들러는 모든 프레임(ping 포함)을 압축하므로, 크기 임계값이 있는 핸들러로 대체한다.
+ * 압축 인코더는 핸드셰이크 때 확장 핸들러 바로 뒤에 추가되므로, 그 앞뒤에 측정 핸들러를 두어
+ * 압축 전후 크기와 압축에 걸린 시간(이벤트 루프 CPU)을 기록한다.
+ */
+public class WebSocketCompression {
+
+    static final String METRICS_BEFORE = "compressionMetricsBefore";
+    static final String METRICS_AFTER = "compressionMetricsAfter";
+
+    private final boolean enabled;
+    private final int level;
+    private final int clientMaxWindowBits;
+    private final boolean clientNoContextTakeover;
+    private final WebSocketExtensionFilterProvider filterProvider;
+
+    private final Counter originalBytes;
+    private final Counter compressedBytes;
+    private final Counter skippedFrames;
+    private final DistributionSummary ratio;
+    private final Timer compressTimer;
+
+    public WebSocketCompression(boolean enabled, int level, long minSize, int clientMaxWindowBits,
+                                boolean clientNoContextTakeover, MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.level = level;
+        this.clientMaxWindowBits = clientMaxWindowBits;
+        this.clientNoContextTakeover = clientNoContextTakeover;
+        this.originalBytes = Counter.builder("socketio.compression.bytes")
+                .description("WebSocket payload bytes before and after permessage-deflate")
+                .baseUnit("bytes")
+                .tag("stage", "original")
+                .register(meterRegistry);
+        this.compressedBytes = Counter.builder("socketio.compression.bytes")
+                .description("WebSocket payload bytes before and after permessage-deflate")
+                .baseUnit("bytes")
+                .tag("stage", "compressed")
+                .register(meterRegistry);
+        this.skippedFrames = Counter.builder("socketio.compression.skipped")
+                .description("Frames sent uncompressed because they were below the size threshold")
+                .register(meterRegistry);
+        this.ratio = DistributionSummary.builder("socketio.compression.ratio")
+                .description("Compressed size divided by original size per frame")
+                .register(meterRegistry);
+        this.compressTimer = Timer.builder("socketio.compression.time")
+                .description("Time spent deflating a frame on the event loop")
+                .register(meterRegistry);
+
+        // 연속 프레임은 첫 프레임이 압축 중이면 건너뛸 수 없으므로 텍스트/바이너리 첫 프레임만 판단
+        WebSocketExtensionFilter encoderFilter = frame -> {
+            boolean small = (frame instanceof TextWebSocketFrame || frame instanceof BinaryWebSocketFrame)
+                    && frame.content().readableBytes() < minSize;
+            if (small) {
+                skippedFrames.increment();
+            }
+            return small;
+        };
+        this.filterProvider = new WebSocketExtensionFilterProvider() {
+            @Override
+            public WebSocketExtensionFilter encoderFilter() {
+                return encoderFilter;
+            }
+
+            @Override
+            public WebSocketExtensionFilter decoderFilter() {
+                return WebSocketExtensionFilter.NEVER_SKIP;
+            }
+        };
+    }
+
+    /**
+     * WebSocket 전송 핸들러 앞에 압축 확장 핸들러와 측정 핸들러 추가
+     */
+    public void install(ChannelPipeline pipeline) {
+        if (!enabled) {
+            return;
+        }
+        String extension = SocketIOChannelInitializer.WEB_SOCKET_TRANSPORT_COMPRESSION;
+        pipeline.addBefore(SocketIOChannelInitializer.WEB_SOCKET_TRANSPORT, extension, newExtensionHandler());
+
+        Probe probe = new Probe();
+        pipeline.addBefore(extension, METRICS_AFTER, probe.after);
+        pipeline.addAfter(extension, METRICS_BEFORE, probe.before);
+    }
+
+    private WebSocketServerExtensionHandler newExtensionHandler() {
+        return new WebSocketServerExtensionHandler(handshaker());
+    }
+
+    PerMessageDeflateServerExtensionHandshaker handshaker() {
+        // 서버 윈도 크기 조정은 JZlib이 있어야 하므로 지원될 때만 허용 (아니면 해당 제안은 압축 없이 연결)
+        return new PerMessageDeflateServerExtensionHandshaker(
+                level,
+                ZlibCodecFactory.isSupportingWindowSizeAndMemLevel(),
+                clientMaxWindowBits,
+                true,
+                clientNoContextTakeover,
+                filterProvider);
+    }
+
+    private void record(int original, int compressed, long elapsedNanos) {
+        originalBytes.increment(original);
+        compressedBytes.increment(compressed);
+        if (original > 0) {
+            ratio.record((double) compressed / original);
+        }
+        compressTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 채널별 측정 상태 (before → 압축 인코더 → after 순으로 같은 이벤트 루프에서 동기 실행)
+     */
+    private final class Probe {
+
+        private int pendingBytes;
+        private long startNanos;
+        private boolean compressingMessage;
+
+        private final ChannelOutboundHandlerAdapter before = new ChannelOutboundHandlerAdapter() {
+            @Override
+            public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+                if (msg instanceof TextWebSocketFrame || msg instanceof BinaryWebSocketFrame
+                        || msg instanceof ContinuationWebSocketFrame) {
+                    pendingBytes = ((WebSocketFrame) msg).content().readableBytes();
+                    startNanos = System.nanoTime();
+                }
+                ctx.write(msg, promise);
+            }
+        };
+
+        private final ChannelOutboundHandlerAdapter after = new ChannelOutboundHandlerAdapter() {
+            @Override
+            public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+                if (startNanos != 0 && msg instanceof WebSocketFrame frame) {
+                    long elapsed = System.nanoTime() - startNanos;
+                    startNanos = 0;
+                    if (compressed(frame)) {
+                        record(pendingBytes, frame.content().readableBytes(), elapsed);
+                    }
+                }
+                ctx.write(msg, promise);
+            }
+        };
+
+        // 압축된 메시지는 첫 프레임에만 RSV1이 설정되고, 이어지는 연속 프레임은 첫 프레임을 따른다
+        private boolean compressed(WebSocketFrame frame) {
+            boolean compressed = frame instanceof ContinuationWebSocketFrame
+                    ? compressingMessage
+                    : (frame.rsv() & WebSocketExtension.RSV1) != 0;
+            compressingMessage = compressed && !frame.isFinalFragment();
+            return compressed;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.ktb.chatapp.websocket.socketio.ai;
 
 import com.ktb.chatapp.dto.MessageContent;
+import com.ktb.chatapp.dto.MessageResponse;
 import com.ktb.chatapp.event.AiMessageCompleteEvent;
 import com.ktb.chatapp.event.AiMessageSavedEvent;
 import com.ktb.chatapp.event.AiMessageStartEvent;
@@ -8,6 +9,8 @@ import com.ktb.chatapp.model.AiType;
 import com.ktb.chatapp.model.Message;
 import com.ktb.chatapp.model.MessageType;
 import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.websocket.socketio.RoomMessageLog;
+import com.ktb.chatapp.websocket.socketio.handler.MessageResponseMapper;
 import com.ktb.chatapp.websocket.socketio.handler.StreamingSession;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -31,14 +34,20 @@ public class AiService {
     private final ChatClient chatClient;
     private final ApplicationEventPublisher eventPublisher;
     private final MessageRepository messageRepository;
+    private final RoomMessageLog roomMessageLog;
+    private final MessageResponseMapper messageResponseMapper;
 
     public AiService(
             ChatClient.Builder chatClientBuilder,
             ApplicationEventPublisher eventPublisher,
-            MessageRepository messageRepository) {
+            MessageRepository messageRepository,
+            RoomMessageLog roomMessageLog,
+            MessageResponseMapper messageResponseMapper) {
         this.chatClient = chatClientBuilder.build();
         this.eventPublisher = eventPublisher;
         this.messageRepository = messageRepository;
+        this.roomMessageLog = roomMessageLog;
+        this.messageResponseMapper = messageResponseMapper;
     }
 
     public void handleAIMentions(String roomId, String userId, MessageContent messageContent) {
@@ -106,14 +115,18 @@ public class AiService {
     @EventListener
     public void onAiMessageCompleteEvent(AiMessageCompleteEvent event) {
         try {
-            // 메시지 저장
-            Message savedMessage = messageRepository.save(getMessage(event));
-            log.info("AI message saved - messageId: {}, savedId: {}, roomId: {}",
-                event.getMessageId(), savedMessage.getId(), event.getRoomId());
+            // 방별 순번 부여 후 저장, 재연결 구간 조회용 캐시에 기록 (완료 브로드캐스트 전)
+            Message aiMessage = getMessage(event);
+            aiMessage.setSeq(roomMessageLog.nextSeq(event.getRoomId()));
+            Message savedMessage = messageRepository.save(aiMessage);
+            MessageResponse response = messageResponseMapper.mapToMessageResponse(savedMessage, null);
+            roomMessageLog.append(event.getRoomId(), response);
+            log.info("AI message saved - messageId: {}, savedId: {}, roomId: {}, seq: {}",
+                event.getMessageId(), savedMessage.getId(), event.getRoomId(), savedMessage.getSeq());
 
             // savedMessageId를 포함한 새로운 이벤트 발행
             eventPublisher.publishEvent(new AiMessageSavedEvent(
-                this, event, savedMessage.getId()
+                this, event, savedMessage.getId(), savedMessage.getSeq()
             ));
         } catch (Exception e) {
             log.error("Failed to save AI message - messageId: {}, roomId: {}",
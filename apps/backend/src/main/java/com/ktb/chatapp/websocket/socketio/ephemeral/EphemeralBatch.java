@@ -0,0 +1,12 @@
+package com.ktb.chatapp.websocket.socketio.ephemeral;
+
+import com.ktb.chatapp.dto.TypingSignal;
+import java.util.List;
+
+/**
+ * 노드 간 전달되는 일시 신호 묶음 (flush 주기마다 노드당 한 번 발행)
+ */
+record EphemeralBatch(
+        String serverId,            // 발행 노드 ID (자기 메시지 무시용)
+        List<TypingSignal> signals
+) { }
@@ -0,0 +1,155 @@
+package com.ktb.chatapp.websocket.socketio.ephemeral;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.dto.TypingSignal;
+import com.ktb.chatapp.websocket.socketio.PreEncodedPayload;
+import com.ktb.chatapp.websocket.socketio.SocketUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.USER_TYPING;
+
+/**
+ * 일시 신호(입력 중 표시) 처리기
+ * 세션 검증, 메시지 저장, chat:broadcast 발행을 거치지 않고 메모리에서만 처리한다.
+ * 사용자·방별로 같은 상태가 반복되면 최소 간격 안에서는 버리고(rate limit), flush 주기 동안은 마지막 상태만 남긴 뒤(coalesce)
+ * 이 노드의 방 참여자에게 직접 보내고 다른 노드에는 EphemeralSignalRelay로 한 묶음만 발행한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class EphemeralSignalHub {
+
+    private final SocketIOServer socketIOServer;
+    private final EphemeralSignalRelay relay;
+    private final long minIntervalNanos;
+    private final int maxPending;
+
+    private final Counter acceptedCounter;
+    private final Counter rateLimitedCounter;
+    private final Counter coalescedCounter;
+    private final Counter droppedCounter;
+    private final Counter deliveredCounter;
+
+    // 방:사용자 → 마지막으로 받아들인 상태 (최소 간격이 지나면 flush 때 정리)
+    private final Map<String, Accepted> lastAccepted = new ConcurrentHashMap<>();
+    // 방:사용자 → 다음 flush에 보낼 최신 신호
+    private final Map<String, TypingSignal> pending = new ConcurrentHashMap<>();
+
+    public EphemeralSignalHub(
+            SocketIOServer socketIOServer,
+            EphemeralSignalRelay relay,
+            MeterRegistry meterRegistry,
+            @Value("${socketio.ephemeral.min-interval-ms:1000}") long minIntervalMs,
+            @Value("${socketio.ephemeral.max-pending:10000}") int maxPending) {
+        this.socketIOServer = socketIOServer;
+        this.relay = relay;
+        this.minIntervalNanos = TimeUnit.MILLISECONDS.toNanos(minIntervalMs);
+        this.maxPending = maxPending;
+        this.acceptedCounter = signalCounter(meterRegistry, "accepted");
+        this.rateLimitedCounter = signalCounter(meterRegistry, "rate_limited");
+        this.coalescedCounter = signalCounter(meterRegistry, "coalesced");
+        this.droppedCounter = signalCounter(meterRegistry, "dropped");
+        this.deliveredCounter = Counter.builder("socketio.ephemeral.delivered")
+                .description("Ephemeral signals sent to local clients")
+                .register(meterRegistry);
+    }
+
+    private static Counter signalCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("socketio.ephemeral.signals")
+                .description("Ephemeral signals received from clients by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        relay.subscribe(this::deliver);
+    }
+
+    /**
+     * 클라이언트가 보낸 신호 접수 (이벤트 루프에서 호출되므로 I/O 없이 메모리만 갱신)
+     */
+    public void submit(TypingSignal signal) {
+        String key = signal.roomId() + ':' + signal.userId();
+        long now = System.nanoTime();
+
+        Accepted previous = lastAccepted.get(key);
+        if (previous != null && previous.typing() == signal.isTyping()
+                && now - previous.atNanos() < minIntervalNanos) {
+            rateLimitedCounter.increment();
+            return;
+        }
+        if (pending.size() >= maxPending && !pending.containsKey(key)) {
+            droppedCounter.increment();
+            return;
+        }
+
+        lastAccepted.put(key, new Accepted(signal.isTyping(), now));
+        if (pending.put(key, signal) != null) {
+            coalescedCounter.increment();
+        }
+        acceptedCounter.increment();
+    }
+
+    /**
+     * 모인 신호를 이 노드의 방 참여자에게 보내고 다른 노드로 한 묶음 발행
+     */
+    @Scheduled(fixedDelayString = "${socketio.ephemeral.flush-interval-ms:200}")
+    public void flush() {
+        long expiredBefore = System.nanoTime() - minIntervalNanos;
+        lastAccepted.values().removeIf(accepted -> accepted.atNanos() < expiredBefore);
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<TypingSignal> batch = new ArrayList<>(pending.size());
+        for (String key : List.copyOf(pending.keySet())) {
+            TypingSignal signal = pending.remove(key);
+            if (signal != null) {
+                batch.add(signal);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        deliver(batch);
+        relay.publish(batch);
+    }
+
+    /**
+     * 방 참여자에게 직접 전송 (보낸 사용자 제외)
+     * BroadcastOperations.sendEvent는 저장소로도 발행하므로 쓰지 않고 이 노드의 클라이언트에만 쓴다.
+     */
+    void deliver(List<TypingSignal> signals) {
+        for (TypingSignal signal : signals) {
+            try {
+                PreEncodedPayload payload = PreEncodedPayload.of(signal);
+                for (SocketIOClient client : socketIOServer.getRoomOperations(signal.roomId()).getClients()) {
+                    SocketUser user = client.get("user");
+                    if (user != null && !user.id().equals(signal.userId())) {
+                        client.sendEvent(USER_TYPING, payload);
+                        deliveredCounter.increment();
+                    }
+                }
+            } catch (Exception e) {
+                log.debug("Ephemeral signal delivery failed - roomId: {}: {}", signal.roomId(), e.getMessage());
+            }
+        }
+    }
+
+    private record Accepted(boolean typing, long atNanos) { }
+}
@@ -0,0 +1,22 @@
+package com.ktb.chatapp.websocket.socketio.ephemeral;
+
+import com.ktb.chatapp.dto.TypingSignal;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 일시 신호의 노드 간 전달 경로
+ * 채팅 메시지 경로(socketio:dispatch, chat:broadcast)와 분리되어 있으며, 전달을 보장하지 않는다.
+ */
+public interface EphemeralSignalRelay {
+
+    /**
+     * 다른 노드로 신호 묶음 발행 (실패하거나 밀리면 버린다)
+     */
+    void publish(List<TypingSignal> signals);
+
+    /**
+     * 다른 노드가 발행한 신호 묶음 수신 리스너 등록
+     */
+    void subscribe(Consumer<List<TypingSignal>> listener);
+}
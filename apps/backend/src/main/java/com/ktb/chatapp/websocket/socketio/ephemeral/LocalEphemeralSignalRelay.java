@@ -0,0 +1,26 @@
+package com.ktb.chatapp.websocket.socketio.ephemeral;
+
+import com.ktb.chatapp.dto.TypingSignal;
+import java.util.List;
+import java.util.function.Consumer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local implementation of EphemeralSignalRelay.
+ * 단일 노드 전용: 다른 노드가 없으므로 발행과 수신 모두 하지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnMissingBean(EphemeralSignalRelay.class)
+public class LocalEphemeralSignalRelay implements EphemeralSignalRelay {
+
+    @Override
+    public void publish(List<TypingSignal> signals) {
+    }
+
+    @Override
+    public void subscribe(Consumer<List<TypingSignal>> listener) {
+    }
+}
@@ -0,0 +1,127 @@
+package com.ktb.chatapp.websocket.socketio.ephemeral;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.dto.TypingSignal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis Pub/Sub 기반 EphemeralSignalRelay
+ * 채팅 브로드캐스트와 다른 토픽을 쓰고, 비동기로 발행한 뒤 결과를 기다리지 않는다.
+ * 응답을 기다리는 발행이 한도만큼 쌓이면(Redis 지연) 새 묶음은 바로 버려 채팅 메시지 발행보다 먼저 양보한다.
+ */
+@Slf4j
+@Component
+@Primary
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnBean(RedissonClient.class)
+public class RedisEphemeralSignalRelay implements EphemeralSignalRelay {
+
+    static final String TOPIC_NAME = "socketio:ephemeral";
+
+    private final RTopic topic;
+    private final ObjectMapper objectMapper;
+    private final String serverId;
+    private final Semaphore inFlight;
+    private final Counter publishedCounter;
+    private final Counter receivedCounter;
+    private final Counter droppedCounter;
+
+    private volatile int listenerId = -1;
+
+    public RedisEphemeralSignalRelay(
+            RedissonClient redissonClient,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${server.id:#{T(java.util.UUID).randomUUID().toString()}}") String serverId,
+            @Value("${socketio.ephemeral.max-in-flight:32}") int maxInFlight) {
+        // StringCodec 사용하여 @class 타입 정보 문제 우회
+        this.topic = redissonClient.getTopic(TOPIC_NAME, StringCodec.INSTANCE);
+        this.objectMapper = objectMapper;
+        this.serverId = serverId;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.publishedCounter = Counter.builder("socketio.ephemeral.relay")
+                .description("Ephemeral signal batches relayed between Socket.IO nodes")
+                .tag("direction", "out")
+                .register(meterRegistry);
+        this.receivedCounter = Counter.builder("socketio.ephemeral.relay")
+                .description("Ephemeral signal batches relayed between Socket.IO nodes")
+                .tag("direction", "in")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("socketio.ephemeral.relay.dropped")
+                .description("Ephemeral signal batches dropped because Redis was slow or failed")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(List<TypingSignal> signals) {
+        if (signals.isEmpty()) {
+            return;
+        }
+        if (!inFlight.tryAcquire()) {
+            droppedCounter.increment();
+            return;
+        }
+        try {
+            String json = objectMapper.writeValueAsString(new EphemeralBatch(serverId, signals));
+            topic.publishAsync(json).whenComplete((receivers, error) -> {
+                inFlight.release();
+                if (error != null) {
+                    droppedCounter.increment();
+                    log.debug("Ephemeral signal publish failed: {}", error.getMessage());
+                }
+            });
+            publishedCounter.increment();
+        } catch (JsonProcessingException | RuntimeException e) {
+            inFlight.release();
+            droppedCounter.increment();
+            log.debug("Ephemeral signal publish skipped: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<List<TypingSignal>> listener) {
+        listenerId = topic.addListener(String.class, (channel, json) -> {
+            EphemeralBatch batch = decode(json);
+            if (batch != null) {
+                receivedCounter.increment();
+                listener.accept(batch.signals());
+            }
+        });
+        log.info("Ephemeral signal relay subscribed - serverId: {}, topic: {}", serverId, TOPIC_NAME);
+    }
+
+    /**
+     * 수신한 신호 묶음 복원 (자기 노드가 보낸 묶음이나 해석할 수 없는 묶음은 null)
+     */
+    EphemeralBatch decode(String json) {
+        try {
+            EphemeralBatch batch = objectMapper.readValue(json, EphemeralBatch.class);
+            return serverId.equals(batch.serverId()) || batch.signals() == null ? null : batch;
+        } catch (JsonProcessingException e) {
+            log.debug("Ignoring malformed ephemeral batch: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (listenerId != -1) {
+            topic.removeListener(listenerId);
+        }
+    }
+}
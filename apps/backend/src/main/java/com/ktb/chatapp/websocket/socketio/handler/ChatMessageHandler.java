@@ -19,9 +19,8 @@ import com.ktb.chatapp.service.SessionService;
 import com.ktb.chatapp.service.SessionValidationResult;
 import com.ktb.chatapp.service.RateLimitService;
 import com.ktb.chatapp.service.RateLimitCheckResult;
+import com.ktb.chatapp.websocket.socketio.RoomMessageLog;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
-import com.ktb.chatapp.pubsub.RedisBroadcastMessage;
-import com.ktb.chatapp.pubsub.RedisPubSubService;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -52,7 +51,8 @@ public class ChatMessageHandler {
 	private final MeterRegistry meterRegistry;
 	private final MessageRepository messageRepository;
 	private final RoomRepository roomRepository;
-	private final RedisPubSubService redisPubSubService;
+	private final RoomMessageLog roomMessageLog;
+	private final MessageResponseMapper messageResponseMapper;
 	
 	// Metrics 캐시 (매번 등록하지 않고 재사용)
 	private final Map<String, Timer> timerCache = new ConcurrentHashMap<>();
@@ -177,18 +177,15 @@ public class ChatMessageHandler {
 				return;
 			}
 			
-			// 브로드캐스트 먼저 실행 (실시간 응답 보장)
+			// 방별 순번 부여 후 재연결 구간 조회용 캐시에 기록 (브로드캐스트 전에 기록 완료)
+			message.setSeq(roomMessageLog.nextSeq(roomId));
 			MessageResponse messageResponse = createMessageResponse(message, sender);
+			roomMessageLog.append(roomId, messageResponse);
+
+			// 브로드캐스트 먼저 실행 (실시간 응답 보장)
 			socketIOServer.getRoomOperations(roomId)
 					.sendEvent(MESSAGE, messageResponse);
 
-			// Redis Pub/Sub으로 다른 서버에 브로드캐스트 (멀티 서버 환경)
-			redisPubSubService.publish(
-					RedisBroadcastMessage.EVENT_MESSAGE,
-					roomId,
-					messageResponse
-			);
-
 			// MongoDB에 비동기 저장 (Virtual Thread가 처리)
 			CompletableFuture.runAsync(() -> {
 				try {
@@ -235,23 +232,20 @@ public class ChatMessageHandler {
 			throw new IllegalStateException("파일을 찾을 수 없거나 접근 권한이 없습니다.");
 		}
 		
+		// 다운로드 권한 검증 시 메시지 조회를 생략할 수 있도록 소속 방 기록
+		if (file.getRoomId() == null) {
+			fileRepository.assignRoomIfAbsent(fileId, roomId);
+		}
+		
 		Message message = new Message();
 		message.setId(UUID.randomUUID().toString());
 		message.setRoomId(roomId);
 		message.setSenderId(userId);
 		message.setType(MessageType.file);
-		message.setFileId(fileId);
 		message.setContent(messageContent.getTrimmedContent());
 		message.setTimestamp(LocalDateTime.now());
 		message.setMentions(messageContent.aiMentions());
-		
-		// 메타데이터는 Map<String, Object>
-		Map<String, Object> metadata = new HashMap<>();
-		metadata.put("fileType", file.getMimetype());
-		metadata.put("fileSize", file.getSize());
-		metadata.put("originalName", file.getOriginalname());
-		metadata.put("fileName", file.getFilename());
-		message.setMetadata(metadata);
+		message.attachFileMetadata(file);
 		
 		return message;
 	}
@@ -274,7 +268,7 @@ public class ChatMessageHandler {
 	}
 	
 	private MessageResponse createMessageResponse(Message message, User sender) {
-		FileResponse fileResponse = buildFileResponse(message);
+		FileResponse fileResponse = messageResponseMapper.toFileResponse(message);
 		
 		return new MessageResponse(
 				message.getId(),
@@ -284,7 +278,8 @@ public class ChatMessageHandler {
 				fileResponse,
 				message.toTimestampMillis(),
 				message.getReactions() != null ? message.getReactions() : Collections.emptyMap(),
-				message.getReaders() != null ? message.getReaders() : Collections.emptyList()
+				message.getReaders() != null ? message.getReaders() : Collections.emptyList(),
+				message.getSeq()
 		);
 	}
 	
@@ -320,31 +315,4 @@ public class ChatMessageHandler {
 						.register(meterRegistry)
 		).increment();
 	}
-	
-	private FileResponse buildFileResponse(Message message) {
-		if (message.getFileId() == null) {
-			return null;
-		}
-		
-		Map<String, Object> metadata = message.getMetadata();
-		if (metadata != null) {
-			Object sizeObj = metadata.get("fileSize");
-			Long size = null;
-			if (sizeObj instanceof Number number) {
-				size = number.longValue();
-			}
-			
-			String filename = metadata.get("fileName") instanceof String fn ? fn : null;
-			String originalName = metadata.get("originalName") instanceof String on ? on : null;
-			String fileType = metadata.get("fileType") instanceof String ft ? ft : null;
-			
-			if (filename != null && originalName != null && fileType != null && size != null) {
-				return new FileResponse(filename, originalName, fileType, size);
-			}
-		}
-		
-		return fileRepository.findById(message.getFileId())
-				.map(FileResponse::from)
-				.orElse(null);
-	}
 }
@@ -2,13 +2,16 @@ package com.ktb.chatapp.websocket.socketio.handler;
 
 import com.corundumstudio.socketio.SocketIOClient;
 import com.corundumstudio.socketio.SocketIOServer;
+import com.corundumstudio.socketio.annotation.OnConnect;
 import com.corundumstudio.socketio.annotation.OnDisconnect;
+import com.ktb.chatapp.repository.RoomRepository;
 import com.ktb.chatapp.websocket.socketio.ConnectedUsers;
+import com.ktb.chatapp.websocket.socketio.SocketEventDispatcher;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import com.ktb.chatapp.websocket.socketio.UserRooms;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
-import java.time.Duration;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -33,24 +36,27 @@ public class ConnectionLoginHandler {
     private final SocketIOServer socketIOServer;
     private final ConnectedUsers connectedUsers;
     private final UserRooms userRooms;
-    private final RoomJoinHandler roomJoinHandler;
-    private final RoomLeaveHandler roomLeaveHandler;
+    private final RoomRepository roomRepository;
+    private final PresenceDebouncer presenceDebouncer;
     private final TaskScheduler taskScheduler;
+    private final SocketEventDispatcher socketEventDispatcher;
 
     public ConnectionLoginHandler(
             SocketIOServer socketIOServer,
             ConnectedUsers connectedUsers,
             UserRooms userRooms,
-            RoomJoinHandler roomJoinHandler,
-            RoomLeaveHandler roomLeaveHandler,
+            RoomRepository roomRepository,
+            PresenceDebouncer presenceDebouncer,
             MeterRegistry meterRegistry,
-            TaskScheduler taskScheduler) {
+            TaskScheduler taskScheduler,
+            SocketEventDispatcher socketEventDispatcher) {
         this.socketIOServer = socketIOServer;
         this.connectedUsers = connectedUsers;
         this.userRooms = userRooms;
-        this.roomJoinHandler = roomJoinHandler;
-        this.roomLeaveHandler = roomLeaveHandler;
+        this.roomRepository = roomRepository;
+        this.presenceDebouncer = presenceDebouncer;
         this.taskScheduler = taskScheduler;
+        this.socketEventDispatcher = socketEventDispatcher;
 
         // Register gauge metric for concurrent users
         Gauge.builder("socketio.concurrent.users", connectedUsers::size)
@@ -59,27 +65,32 @@ public class ConnectionLoginHandler {
     }
     
     /**
-     * auth 처리가 선행되어야 해서 @OnConnect 대신 별도 메서드로 구현
+     * AuthTokenListener 인증이 성공한 뒤(핸드셰이크 완료 후) 호출된다.
+     * 인증 단계에서 바인딩한 사용자 정보를 사용하며, 방 재입장(Mongo 조회)은 소켓별 디스패치 큐에 따로 넣어
+     * 공용 스케줄러 스레드를 점유하지 않고 이 소켓의 이후 이벤트와 순서대로 처리한다.
      */
-    public void onConnect(SocketIOClient client, SocketUser user) {
+    @OnConnect
+    public void onConnect(SocketIOClient client) {
+        SocketUser user = getUserDto(client);
+        if (user == null) {
+            log.warn("Socket.IO connection without authenticated user: {}", client.getSessionId());
+            return;
+        }
         String userId = user.id();
         
         try {
             notifyDuplicateLogin(client, userId);
-            client.set("user", user);
-            
-            userRooms.get(userId).forEach(roomId -> {
-                // 재접속 시 기존 참여 방 재입장 처리
-                roomJoinHandler.handleJoinRoom(client, roomId);
-            });
+            presenceDebouncer.cancelLeave(userId);
             
             connectedUsers.set(userId, user);
 
             log.info("Socket.IO user connected: {} ({}) - Total concurrent users: {}",
-                    getUserName(client), userId, connectedUsers.size());
+                    user.name(), userId, connectedUsers.size());
 
             client.joinRooms(Set.of("user:" + userId, "room-list"));
             
+            socketEventDispatcher.dispatch(client, "resumeRooms", () -> resumeRooms(client, userId));
+            
         } catch (Exception e) {
             log.error("Error handling Socket.IO connection", e);
             client.sendEvent(ERROR, Map.of(
@@ -88,6 +99,36 @@ public class ConnectionLoginHandler {
         }
     }
     
+    /**
+     * 재접속 시 기존 참여 방 재입장
+     * 입장 메시지 저장/사용자 조회 없이 UserRooms 상태와 한 번의 참여 여부 조회만으로 소켓 방에 다시 참여한다.
+     * 더 이상 참여자가 아닌 방은 UserRooms에서 정리한다.
+     */
+    void resumeRooms(SocketIOClient client, String userId) {
+        try {
+            Set<String> roomIds = userRooms.get(userId);
+            if (roomIds.isEmpty() || !client.isChannelOpen()) {
+                return;
+            }
+            
+            Set<String> participating = new HashSet<>();
+            roomRepository.findParticipatingRoomIds(roomIds, userId)
+                    .forEach(room -> participating.add(room.getId()));
+            
+            if (!participating.isEmpty()) {
+                client.joinRooms(participating);
+            }
+            roomIds.stream()
+                    .filter(roomId -> !participating.contains(roomId))
+                    .forEach(roomId -> userRooms.remove(userId, roomId));
+            
+            log.debug("Socket.IO rooms resumed for user {} - rejoined: {}, stale: {}",
+                    userId, participating.size(), roomIds.size() - participating.size());
+        } catch (Exception e) {
+            log.error("Error resuming rooms for user {}", userId, e);
+        }
+    }
+    
     @OnDisconnect
     public void onDisconnect(SocketIOClient client) {
         String userId = getUserId(client);
@@ -98,15 +139,14 @@ public class ConnectionLoginHandler {
                 return;
             }
             
-            userRooms.get(userId).forEach(roomId -> {
-                roomLeaveHandler.handleLeaveRoom(client, roomId);
-            });
             String socketId = client.getSessionId().toString();
             
             // 해당 사용자의 현재 활성 연결인 경우에만 정리
             var socketUser = connectedUsers.get(userId);
             if (socketUser != null && socketId.equals(socketUser.socketId())) {
                 connectedUsers.del(userId);
+                // 방 퇴장은 유예 시간 동안 보류 (재접속 시 취소)
+                presenceDebouncer.scheduleLeave(userId, userName);
             } else {
                 log.warn("Socket.IO disconnect: User {} has a different active connection. Skipping cleanup.", userId);
             }
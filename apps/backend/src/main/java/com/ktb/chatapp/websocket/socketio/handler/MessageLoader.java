@@ -8,15 +8,18 @@ import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.service.MessageReadStatusService;
-import jakarta.annotation.Nullable;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
@@ -53,26 +56,27 @@ public class MessageLoader {
             String userId) {
         Pageable pageable = PageRequest.of(0, limit, Sort.by("timestamp").descending());
 
-        Page<Message> messagePage = messageRepository
-                .findByRoomIdAndIsDeletedAndTimestampBefore(roomId, false, before, pageable);
+        // 응답에 쓰는 필드만 조회 (readers 전체, metadata 등은 읽지 않음)
+        Slice<Message> messageSlice = messageRepository.findHistoryPage(roomId, before, pageable);
 
-        List<Message> messages = messagePage.getContent();
+        List<Message> messages = messageSlice.getContent();
 
         // DESC로 조회했으므로 ASC로 재정렬 (채팅 UI 표시 순서)
         List<Message> sortedMessages = messages.reversed();
         
         var messageIds = sortedMessages.stream().map(Message::getId).toList();
         messageReadStatusService.updateReadStatus(messageIds, userId);
-        
+
+        // 발신자는 페이지당 한 번에 조회
+        Map<String, User> senders = findSenders(sortedMessages);
+
         // 메시지 응답 생성
         List<MessageResponse> messageResponses = sortedMessages.stream()
-                .map(message -> {
-                    var user = findUserById(message.getSenderId());
-                    return messageResponseMapper.mapToMessageResponse(message, user);
-                })
+                .map(message -> messageResponseMapper.mapToMessageResponse(
+                        message, message.getSenderId() != null ? senders.get(message.getSenderId()) : null))
                 .collect(Collectors.toList());
 
-        boolean hasMore = messagePage.hasNext();
+        boolean hasMore = messageSlice.hasNext();
 
         log.debug("Messages loaded - roomId: {}, limit: {}, count: {}, hasMore: {}",
                 roomId, limit, messageResponses.size(), hasMore);
@@ -81,14 +85,17 @@ public class MessageLoader {
     }
 
     /**
-     * AI 경우 null 반환 가능
+     * AI 메시지는 발신자가 없으므로 제외
      */
-    @Nullable
-    private User findUserById(String id) {
-        if (id == null) {
-            return null;
+    private Map<String, User> findSenders(List<Message> messages) {
+        Set<String> senderIds = messages.stream()
+                .map(Message::getSenderId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (senderIds.isEmpty()) {
+            return Map.of();
         }
-        return userRepository.findById(id)
-                .orElse(null);
+        return userRepository.findAllById(senderIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
     }
 }
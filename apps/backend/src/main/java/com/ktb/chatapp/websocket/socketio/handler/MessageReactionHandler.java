@@ -8,8 +8,6 @@ import com.ktb.chatapp.dto.MessageReactionResponse;
 import com.ktb.chatapp.model.Message;
 import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
-import com.ktb.chatapp.pubsub.RedisBroadcastMessage;
-import com.ktb.chatapp.pubsub.RedisPubSubService;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,7 +28,6 @@ public class MessageReactionHandler {
 
     private final SocketIOServer socketIOServer;
     private final MessageRepository messageRepository;
-    private final RedisPubSubService redisPubSubService;
     
     @OnEvent(MESSAGE_REACTION)
     public void handleMessageReaction(SocketIOClient client, MessageReactionRequest data) {
@@ -69,13 +66,6 @@ public class MessageReactionHandler {
             socketIOServer.getRoomOperations(message.getRoomId())
                 .sendEvent(MESSAGE_REACTION_UPDATE, response);
 
-            // Redis Pub/Sub으로 다른 서버에 리액션 업데이트 브로드캐스트
-            redisPubSubService.publish(
-                    RedisBroadcastMessage.EVENT_MESSAGE_REACTION_UPDATE,
-                    message.getRoomId(),
-                    response
-            );
-
         } catch (Exception e) {
             log.error("Error handling messageReaction", e);
             client.sendEvent(ERROR, Map.of(
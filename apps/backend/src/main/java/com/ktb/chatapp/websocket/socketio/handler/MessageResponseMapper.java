@@ -8,7 +8,7 @@ import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.FileRepository;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Optional;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -43,10 +43,7 @@ public class MessageResponseMapper {
         }
 
         // 파일 정보 설정
-        FileResponse fileResponse = Optional.ofNullable(message.getFileId())
-                .flatMap(fileRepository::findById)
-                .map(file -> new FileResponse(file.getFilename(), file.getOriginalname(), file.getMimetype(), file.getSize()))
-                .orElse(null);
+        FileResponse fileResponse = toFileResponse(message);
 
         return new MessageResponse(
                 message.getId(),
@@ -56,7 +53,44 @@ public class MessageResponseMapper {
                 fileResponse,
                 message.toTimestampMillis(),
                 message.getReactions() != null ? message.getReactions() : new HashMap<>(),
-                message.getReaders() != null ? message.getReaders() : new ArrayList<>()
+                message.getReaders() != null ? message.getReaders() : new ArrayList<>(),
+                message.getSeq()
         );
     }
+
+    /**
+     * 메시지의 파일 정보 변환
+     * 스냅샷 → (백필 전 메시지) metadata 맵 → files 컬렉션 순으로 사용한다.
+     */
+    FileResponse toFileResponse(Message message) {
+        if (message.getFileId() == null) {
+            return null;
+        }
+        if (message.getFileSnapshot() != null) {
+            return FileResponse.from(message.getFileSnapshot());
+        }
+
+        FileResponse legacy = fromLegacyMetadata(message.getMetadata());
+        if (legacy != null) {
+            return legacy;
+        }
+
+        log.debug("File snapshot missing, falling back to files collection: message={}", message.getId());
+        return fileRepository.findById(message.getFileId())
+                .map(FileResponse::from)
+                .orElse(null);
+    }
+
+    private FileResponse fromLegacyMetadata(Map<String, Object> metadata) {
+        if (metadata == null) {
+            return null;
+        }
+        if (metadata.get("fileName") instanceof String filename
+                && metadata.get("originalName") instanceof String originalName
+                && metadata.get("fileType") instanceof String fileType
+                && metadata.get("fileSize") instanceof Number size) {
+            return new FileResponse(filename, originalName, fileType, size.longValue());
+        }
+        return null;
+    }
 }
@@ -0,0 +1,103 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.annotation.OnEvent;
+import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.dto.ResumeMessagesRequest;
+import com.ktb.chatapp.dto.ResumeMessagesResponse;
+import com.ktb.chatapp.websocket.socketio.RoomMessageLog;
+import com.ktb.chatapp.websocket.socketio.SocketUser;
+import com.ktb.chatapp.websocket.socketio.UserRooms;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+
+/**
+ * 재연결 메시지 재개 핸들러
+ * 클라이언트가 마지막으로 받은 순번 이후의 메시지만 최근 메시지 캐시에서 보내,
+ * 잠깐 끊겼다 붙은 클라이언트가 이전 메시지 전체를 다시 불러오지 않게 한다.
+ * 소켓 방에 먼저 다시 참여한 뒤 구간을 조회하므로 경계의 메시지가 중복될 수 있으며, 클라이언트는 순번으로 걸러낸다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class MessageResumeHandler {
+
+    private final RoomMessageLog roomMessageLog;
+    private final UserRooms userRooms;
+    private final Counter resumedCounter;
+    private final Counter reloadCounter;
+    private final DistributionSummary gapSummary;
+
+    public MessageResumeHandler(RoomMessageLog roomMessageLog, UserRooms userRooms, MeterRegistry meterRegistry) {
+        this.roomMessageLog = roomMessageLog;
+        this.userRooms = userRooms;
+        this.resumedCounter = Counter.builder("socketio.messages.resume")
+                .description("Reconnect resume requests")
+                .tag("result", "resumed")
+                .register(meterRegistry);
+        this.reloadCounter = Counter.builder("socketio.messages.resume")
+                .description("Reconnect resume requests")
+                .tag("result", "reload")
+                .register(meterRegistry);
+        this.gapSummary = DistributionSummary.builder("socketio.messages.resume.gap")
+                .description("Messages delivered per successful resume")
+                .register(meterRegistry);
+    }
+
+    @OnEvent(RESUME_MESSAGES)
+    public void handleResume(SocketIOClient client, ResumeMessagesRequest data) {
+        SocketUser user = client.get("user");
+        if (user == null) {
+            client.sendEvent(ERROR, Map.of(
+                    "code", "UNAUTHORIZED",
+                    "message", "인증이 필요합니다."
+            ));
+            return;
+        }
+        if (data == null || data.roomId() == null) {
+            client.sendEvent(ERROR, Map.of(
+                    "code", "RESUME_ERROR",
+                    "message", "채팅방 정보가 없습니다."
+            ));
+            return;
+        }
+
+        String roomId = data.roomId();
+        try {
+            long lastSeq = data.lastSeqOrZero();
+            // 퇴장 유예 시간이 지나 방에서 빠졌다면 joinRoom부터 다시 하도록 재조회 응답
+            boolean member = userRooms.isInRoom(user.id(), roomId);
+            if (member) {
+                client.joinRoom(roomId);
+            }
+            Optional<List<MessageResponse>> gap = member ? roomMessageLog.since(roomId, lastSeq) : Optional.empty();
+            if (gap.isEmpty()) {
+                reloadCounter.increment();
+                log.debug("Resume gap not cached, client must reload - room: {}, lastSeq: {}", roomId, lastSeq);
+                client.sendEvent(MESSAGES_RESUMED, new ResumeMessagesResponse(roomId, List.of(), lastSeq, false));
+                return;
+            }
+
+            List<MessageResponse> messages = gap.get();
+            long newLastSeq = messages.isEmpty() ? lastSeq : messages.getLast().seq();
+            resumedCounter.increment();
+            gapSummary.record(messages.size());
+            client.sendEvent(MESSAGES_RESUMED, new ResumeMessagesResponse(roomId, messages, newLastSeq, true));
+        } catch (Exception e) {
+            log.error("Error handling resumeMessages - room: {}", roomId, e);
+            client.sendEvent(ERROR, Map.of(
+                    "code", "RESUME_ERROR",
+                    "message", "메시지를 재개하는 중 오류가 발생했습니다."
+            ));
+        }
+    }
+}
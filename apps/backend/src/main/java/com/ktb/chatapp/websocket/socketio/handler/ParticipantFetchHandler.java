@@ -0,0 +1,56 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.annotation.OnEvent;
+import com.ktb.chatapp.websocket.socketio.ParticipantRoster;
+import com.ktb.chatapp.websocket.socketio.SocketUser;
+import com.ktb.chatapp.websocket.socketio.UserRooms;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+
+/**
+ * 참여자 목록 재동기화 핸들러
+ * 클라이언트가 diff 버전 누락을 감지했을 때 전체 스냅샷을 다시 전송
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ParticipantFetchHandler {
+
+    private final UserRooms userRooms;
+    private final ParticipantRoster participantRoster;
+
+    @OnEvent(FETCH_PARTICIPANTS)
+    public void handleFetchParticipants(SocketIOClient client, String roomId) {
+        SocketUser user = client.get("user");
+        if (user == null) {
+            client.sendEvent(ERROR, Map.of(
+                    "code", "UNAUTHORIZED",
+                    "message", "인증이 필요합니다."
+            ));
+            return;
+        }
+
+        if (!userRooms.isInRoom(user.id(), roomId)) {
+            log.debug("User {} requested participants of room {} without joining", user.id(), roomId);
+            return;
+        }
+
+        try {
+            participantRoster.snapshot(roomId)
+                    .ifPresent(snapshot -> client.sendEvent(PARTICIPANTS_SNAPSHOT, snapshot));
+        } catch (Exception e) {
+            log.error("Error handling fetchParticipants", e);
+            client.sendEvent(ERROR, Map.of(
+                    "code", "LOAD_ERROR",
+                    "message", "참여자 목록을 불러오는 중 오류가 발생했습니다."
+            ));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.ktb.chatapp.websocket.socketio.ConnectedUsers;
+import com.ktb.chatapp.websocket.socketio.UserRooms;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * 연결 해제 퇴장 유예 처리기
+ * 연결이 끊기면 바로 방에서 내보내지 않고 유예 시간 동안 퇴장을 보류한다.
+ * 유예 시간 안에 재접속하면 퇴장을 취소하여 퇴장/입장 시스템 메시지 쌍이 생기지 않게 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class PresenceDebouncer {
+
+    private final TaskScheduler taskScheduler;
+    private final ConnectedUsers connectedUsers;
+    private final UserRooms userRooms;
+    private final RoomLeaveHandler roomLeaveHandler;
+    private final long leaveGraceMs;
+    private final Counter scheduledCounter;
+    private final Counter cancelledCounter;
+    private final Counter expiredCounter;
+
+    private final Map<String, ScheduledFuture<?>> pendingLeaves = new ConcurrentHashMap<>();
+
+    public PresenceDebouncer(
+            TaskScheduler taskScheduler,
+            ConnectedUsers connectedUsers,
+            UserRooms userRooms,
+            RoomLeaveHandler roomLeaveHandler,
+            MeterRegistry meterRegistry,
+            @Value("${socketio.presence.leave-grace-ms:10000}") long leaveGraceMs) {
+        this.taskScheduler = taskScheduler;
+        this.connectedUsers = connectedUsers;
+        this.userRooms = userRooms;
+        this.roomLeaveHandler = roomLeaveHandler;
+        this.leaveGraceMs = leaveGraceMs;
+        this.scheduledCounter = leaveCounter(meterRegistry, "scheduled");
+        this.cancelledCounter = leaveCounter(meterRegistry, "cancelled");
+        this.expiredCounter = leaveCounter(meterRegistry, "expired");
+    }
+
+    /**
+     * 연결 해제 시 유예 후 퇴장 예약 (이미 예약된 경우 새로 예약)
+     */
+    public void scheduleLeave(String userId, String userName) {
+        ScheduledFuture<?> future = taskScheduler.schedule(
+                () -> expire(userId, userName),
+                Instant.now().plusMillis(leaveGraceMs));
+        ScheduledFuture<?> previous = pendingLeaves.put(userId, future);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+        scheduledCounter.increment();
+    }
+
+    /**
+     * 재접속 시 보류 중인 퇴장 취소
+     *
+     * @return 보류 중인 퇴장이 취소되었으면 true
+     */
+    public boolean cancelLeave(String userId) {
+        ScheduledFuture<?> future = pendingLeaves.remove(userId);
+        if (future == null) {
+            return false;
+        }
+        boolean cancelled = future.cancel(false);
+        if (cancelled) {
+            cancelledCounter.increment();
+            log.debug("Pending leave cancelled by reconnect: {}", userId);
+        }
+        return cancelled;
+    }
+
+    void expire(String userId, String userName) {
+        pendingLeaves.remove(userId);
+
+        // 다른 노드/소켓으로 이미 재접속한 경우 퇴장하지 않음
+        if (connectedUsers.get(userId) != null) {
+            log.debug("User {} reconnected elsewhere, skipping deferred leave", userId);
+            return;
+        }
+
+        Set<String> roomIds = userRooms.get(userId);
+        roomIds.forEach(roomId -> {
+            try {
+                roomLeaveHandler.leaveRoom(userId, userName, roomId);
+            } catch (Exception e) {
+                log.error("Error handling deferred leave - userId: {}, roomId: {}", userId, roomId, e);
+            }
+        });
+        expiredCounter.increment();
+        log.debug("Deferred leave applied - userId: {}, rooms: {}", userId, roomIds.size());
+    }
+
+    private Counter leaveCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("socketio.presence.leave")
+                .description("Deferred disconnect leaves by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
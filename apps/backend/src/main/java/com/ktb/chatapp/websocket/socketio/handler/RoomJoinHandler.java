@@ -4,20 +4,15 @@ import com.corundumstudio.socketio.SocketIOClient;
 import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnEvent;
 import com.ktb.chatapp.dto.JoinRoomSuccessResponse;
+import com.ktb.chatapp.dto.ParticipantAddedResponse;
 import com.ktb.chatapp.dto.UserResponse;
-import com.ktb.chatapp.model.Message;
-import com.ktb.chatapp.model.MessageType;
 import com.ktb.chatapp.model.Room;
-import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.RoomRepository;
-import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.service.CacheService;
+import com.ktb.chatapp.websocket.socketio.ParticipantRoster;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import com.ktb.chatapp.websocket.socketio.UserRooms;
-import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -38,13 +33,12 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 public class RoomJoinHandler {
 
     private final SocketIOServer socketIOServer;
-    private final MessageRepository messageRepository;
     private final RoomRepository roomRepository;
-    private final UserRepository userRepository;
     private final UserRooms userRooms;
-    private final MessageResponseMapper messageResponseMapper;
+    private final SystemMessageBatcher systemMessageBatcher;
     private final CacheService cacheService;
-    
+    private final ParticipantRoster participantRoster;
+
     @OnEvent(JOIN_ROOM)
     public void handleJoinRoom(SocketIOClient client, String roomId) {
         try {
@@ -55,72 +49,54 @@ public class RoomJoinHandler {
                 client.sendEvent(JOIN_ROOM_ERROR, Map.of("message", "Unauthorized"));
                 return;
             }
-            
-            if (userRepository.findById(userId).isEmpty()) {
+
+            User user = cacheService.findUserById(userId).orElse(null);
+            if (user == null) {
                 client.sendEvent(JOIN_ROOM_ERROR, Map.of("message", "User not found"));
                 return;
             }
-            
-            if (roomRepository.findById(roomId).isEmpty()) {
-                client.sendEvent(JOIN_ROOM_ERROR, Map.of("message", "채팅방을 찾을 수 없습니다."));
-                return;
-            }
-            
+
             // 이미 해당 방에 참여 중인지 확인
             if (userRooms.isInRoom(userId, roomId)) {
                 log.debug("User {} already in room {}", userId, roomId);
                 client.joinRoom(roomId);
                 client.sendEvent(JOIN_ROOM_SUCCESS, Map.of("roomId", roomId));
+                sendParticipantsSnapshot(client, roomId);
                 return;
             }
 
-            // MongoDB의 $addToSet 연산자를 사용한 원자적 업데이트
-            roomRepository.addParticipant(roomId, userId);
+            // $addToSet + 버전 증가를 하나의 findAndModify로 처리
+            // 추가되지 않았다면 방이 없거나(REST 입장 등으로) 이미 참여자인 경우
+            Optional<Room> updated = roomRepository.addParticipantWithVersion(roomId, userId);
+            long version;
+            if (updated.isPresent()) {
+                version = updated.get().getParticipantsVersion();
+            } else {
+                Room room = roomRepository.findById(roomId).orElse(null);
+                if (room == null) {
+                    client.sendEvent(JOIN_ROOM_ERROR, Map.of("message", "채팅방을 찾을 수 없습니다."));
+                    return;
+                }
+                version = room.getParticipantsVersion();
+            }
             cacheService.evictRoom(roomId); // 참여자 변경 즉시 캐시 무효화
 
             // Join socket room and add to user's room set
             client.joinRoom(roomId);
             userRooms.add(userId, roomId);
 
-            Message joinMessage = Message.builder()
-                .roomId(roomId)
-                .content(userName + "님이 입장하였습니다.")
-                .type(MessageType.system)
-                .timestamp(LocalDateTime.now())
-                .mentions(new ArrayList<>())
-                .isDeleted(false)
-                .reactions(new HashMap<>())
-                .readers(new ArrayList<>())
-                .metadata(new HashMap<>())
-                .build();
-
-            joinMessage = messageRepository.save(joinMessage);
-
-            // 업데이트된 room 다시 조회하여 최신 participantIds 가져오기
-            Optional<Room> roomOpt = roomRepository.findById(roomId);
-            if (roomOpt.isEmpty()) {
-                client.sendEvent(JOIN_ROOM_ERROR, Map.of("message", "채팅방을 찾을 수 없습니다."));
-                return;
-            }
-
-            // 참가자 정보 조회 - findAllById로 N+1 문제 해결 (N번 쿼리 → 1번 쿼리)
-            List<UserResponse> participants = userRepository
-                    .findAllById(roomOpt.get().getParticipantIds())
-                    .stream()
-                    .map(UserResponse::from)
-                    .toList();
-            
-            JoinRoomSuccessResponse response = new JoinRoomSuccessResponse(roomId);
+            UserResponse participant = UserResponse.from(user);
+            participantRoster.applyAdded(roomId, version, participant);
 
-            client.sendEvent(JOIN_ROOM_SUCCESS, response);
+            client.sendEvent(JOIN_ROOM_SUCCESS, new JoinRoomSuccessResponse(roomId));
+            sendParticipantsSnapshot(client, roomId);
 
-            // 입장 메시지 브로드캐스트
-            socketIOServer.getRoomOperations(roomId)
-                .sendEvent(MESSAGE, messageResponseMapper.mapToMessageResponse(joinMessage, null));
+            // 입장 메시지는 배치로 합쳐 저장/브로드캐스트
+            systemMessageBatcher.joined(roomId, userName);
 
-            // 참가자 목록 업데이트 브로드캐스트
+            // 참가자 전체 목록 대신 추가된 1명만 브로드캐스트
             socketIOServer.getRoomOperations(roomId)
-                .sendEvent(PARTICIPANTS_UPDATE, participants);
+                .sendEvent(PARTICIPANT_ADDED, new ParticipantAddedResponse(roomId, version, participant));
 
             log.info("User {} joined room {} successfully", userName, roomId);
 
@@ -131,7 +107,15 @@ public class RoomJoinHandler {
             ));
         }
     }
-    
+
+    /**
+     * 입장한 클라이언트에게만 버전이 포함된 전체 참여자 목록 전송
+     */
+    private void sendParticipantsSnapshot(SocketIOClient client, String roomId) {
+        participantRoster.snapshot(roomId)
+                .ifPresent(snapshot -> client.sendEvent(PARTICIPANTS_SNAPSHOT, snapshot));
+    }
+
     private SocketUser getUser(SocketIOClient client) {
         return client.get("user");
     }
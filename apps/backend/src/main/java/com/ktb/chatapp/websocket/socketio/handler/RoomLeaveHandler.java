@@ -3,21 +3,14 @@ package com.ktb.chatapp.websocket.socketio.handler;
 import com.corundumstudio.socketio.SocketIOClient;
 import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnEvent;
-import com.ktb.chatapp.dto.MessageResponse;
-import com.ktb.chatapp.dto.UserResponse;
-import com.ktb.chatapp.model.Message;
-import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.dto.ParticipantRemovedResponse;
 import com.ktb.chatapp.model.Room;
-import com.ktb.chatapp.model.User;
-import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.RoomRepository;
-import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.service.CacheService;
+import com.ktb.chatapp.service.FileAccessAuthorizer;
+import com.ktb.chatapp.websocket.socketio.ParticipantRoster;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import com.ktb.chatapp.websocket.socketio.UserRooms;
-import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -38,12 +31,12 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 public class RoomLeaveHandler {
 
     private final SocketIOServer socketIOServer;
-    private final MessageRepository messageRepository;
     private final RoomRepository roomRepository;
-    private final UserRepository userRepository;
     private final UserRooms userRooms;
-    private final MessageResponseMapper messageResponseMapper;
+    private final SystemMessageBatcher systemMessageBatcher;
     private final CacheService cacheService;
+    private final FileAccessAuthorizer fileAccessAuthorizer;
+    private final ParticipantRoster participantRoster;
     
     @OnEvent(LEAVE_ROOM)
     public void handleLeaveRoom(SocketIOClient client, String roomId) {
@@ -61,31 +54,8 @@ public class RoomLeaveHandler {
                 return;
             }
 
-            User user = userRepository.findById(userId).orElse(null);
-            Room room = roomRepository.findById(roomId).orElse(null);
-            
-            if (user == null || room == null) {
-                log.warn("Room {} not found or user {} has no access", roomId, userId);
-                return;
-            }
-            
-            roomRepository.removeParticipant(roomId, userId);
-            cacheService.evictRoom(roomId); // 참여자 변경 즉시 캐시 무효화
-            
             client.leaveRoom(roomId);
-            userRooms.remove(userId, roomId);
-            
-            log.info("User {} left room {}", userName, room.getName());
-            
-            log.debug("Leave room cleanup - roomId: {}, userId: {}", roomId, userId);
-            
-            sendSystemMessage(roomId, userName + "님이 퇴장하였습니다.");
-            broadcastParticipantList(roomId);
-            socketIOServer.getRoomOperations(roomId)
-                    .sendEvent(USER_LEFT, Map.of(
-                            "userId", userId,
-                            "userName", userName
-                    ));
+            leaveRoom(userId, userName, roomId);
             
         } catch (Exception e) {
             log.error("Error handling leaveRoom", e);
@@ -93,51 +63,40 @@ public class RoomLeaveHandler {
         }
     }
     
-    private void sendSystemMessage(String roomId, String content) {
-        try {
-            Message systemMessage = new Message();
-            systemMessage.setRoomId(roomId);
-            systemMessage.setContent(content);
-            systemMessage.setType(MessageType.system);
-            systemMessage.setTimestamp(LocalDateTime.now());
-            systemMessage.setMentions(new ArrayList<>());
-            systemMessage.setIsDeleted(false);
-            systemMessage.setReactions(new HashMap<>());
-            systemMessage.setReaders(new ArrayList<>());
-            systemMessage.setMetadata(new HashMap<>());
-
-            Message savedMessage = messageRepository.save(systemMessage);
-            MessageResponse response = messageResponseMapper.mapToMessageResponse(savedMessage, null);
-
-            socketIOServer.getRoomOperations(roomId)
-                    .sendEvent(MESSAGE, response);
-
-        } catch (Exception e) {
-            log.error("Error sending system message", e);
-        }
-    }
-    
-    private void broadcastParticipantList(String roomId) {
-        Optional<Room> roomOpt = roomRepository.findById(roomId);
-        if (roomOpt.isEmpty()) {
+    /**
+     * 소켓 없이 참여자 제거 및 diff 브로드캐스트
+     * 명시적 퇴장과 재접속 유예가 만료된 연결 해제 퇴장(PresenceDebouncer)에서 공통으로 사용한다.
+     */
+    public void leaveRoom(String userId, String userName, String roomId) {
+        // $pull + 버전 증가를 하나의 findAndModify로 처리
+        Optional<Room> updated = roomRepository.removeParticipantWithVersion(roomId, userId);
+        cacheService.evictRoom(roomId); // 참여자 변경 즉시 캐시 무효화
+        fileAccessAuthorizer.evictRoom(roomId); // 퇴장한 사용자의 파일 접근 권한 캐시 제거
+        userRooms.remove(userId, roomId);
+        
+        if (updated.isEmpty()) {
+            log.warn("Room {} not found or user {} is not a participant", roomId, userId);
             return;
         }
         
-        // findAllById로 N+1 문제 해결 (N번 쿼리 → 1번 쿼리)
-        var participantList = userRepository
-                .findAllById(roomOpt.get().getParticipantIds())
-                .stream()
-                .map(UserResponse::from)
-                .toList();
+        long version = updated.get().getParticipantsVersion();
+        participantRoster.applyRemoved(roomId, version, userId);
         
-        if (participantList.isEmpty()) {
-            return;
-        }
+        log.info("User {} left room {}", userName, roomId);
+        
+        // 퇴장 메시지는 배치로 합쳐 저장/브로드캐스트
+        systemMessageBatcher.left(roomId, userName);
         
+        // 참가자 전체 목록 대신 제거된 사용자 ID만 브로드캐스트
+        socketIOServer.getRoomOperations(roomId)
+                .sendEvent(PARTICIPANT_REMOVED, new ParticipantRemovedResponse(roomId, version, userId));
         socketIOServer.getRoomOperations(roomId)
-                .sendEvent(PARTICIPANTS_UPDATE, participantList);
+                .sendEvent(USER_LEFT, Map.of(
+                        "userId", userId,
+                        "userName", userName
+                ));
     }
-
+    
     private SocketUser getUserDto(SocketIOClient client) {
         return client.get("user");
     }
@@ -0,0 +1,169 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.websocket.socketio.RoomMessageLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.MESSAGE;
+
+/**
+ * 입장/퇴장 시스템 메시지 배치 처리기
+ * 방별로 입퇴장을 도착 순서대로 모아, 주기적으로 같은 종류가 연속된 구간마다 하나의 시스템 메시지로 합쳐
+ * 저장(saveAll)하고 브로드캐스트한다. 종류가 바뀌는 지점에서 메시지를 나누므로 "퇴장"이 "입장"보다 먼저 나가지 않는다.
+ * 재시작 등으로 입퇴장이 몰릴 때 메시지 저장과 브로드캐스트 횟수를 방 단위로 줄인다.
+ * 합친 메시지도 방별 순번을 받아 재연결 구간 조회 캐시에 기록된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class SystemMessageBatcher {
+
+    private static final int MAX_NAMES_PER_MESSAGE = 5;
+
+    private final SocketIOServer socketIOServer;
+    private final MessageRepository messageRepository;
+    private final MessageResponseMapper messageResponseMapper;
+    private final RoomMessageLog roomMessageLog;
+    private final Counter enqueuedCounter;
+    private final Counter savedCounter;
+
+    private final Map<String, List<Presence>> pending = new ConcurrentHashMap<>();
+
+    public SystemMessageBatcher(
+            SocketIOServer socketIOServer,
+            MessageRepository messageRepository,
+            MessageResponseMapper messageResponseMapper,
+            RoomMessageLog roomMessageLog,
+            MeterRegistry meterRegistry) {
+        this.socketIOServer = socketIOServer;
+        this.messageRepository = messageRepository;
+        this.messageResponseMapper = messageResponseMapper;
+        this.roomMessageLog = roomMessageLog;
+        this.enqueuedCounter = Counter.builder("socketio.system.messages")
+                .description("Join/leave system events enqueued for batching")
+                .tag("stage", "enqueued")
+                .register(meterRegistry);
+        this.savedCounter = Counter.builder("socketio.system.messages")
+                .description("Batched system messages persisted and broadcast")
+                .tag("stage", "saved")
+                .register(meterRegistry);
+    }
+
+    public void joined(String roomId, String userName) {
+        enqueue(roomId, new Presence(Kind.JOIN, userName));
+    }
+
+    public void left(String roomId, String userName) {
+        enqueue(roomId, new Presence(Kind.LEAVE, userName));
+    }
+
+    private void enqueue(String roomId, Presence presence) {
+        pending.compute(roomId, (key, events) -> {
+            List<Presence> updated = events != null ? events : new ArrayList<>();
+            updated.add(presence);
+            return updated;
+        });
+        enqueuedCounter.increment();
+    }
+
+    /**
+     * 대기 중인 입퇴장을 방별로 도착 순서를 지켜 합친 뒤 저장 후 브로드캐스트
+     */
+    @Scheduled(fixedDelayString = "${socketio.presence.flush-interval-ms:1000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Message> batch = new ArrayList<>();
+        for (String roomId : List.copyOf(pending.keySet())) {
+            List<Presence> events = pending.remove(roomId);
+            if (events == null || events.isEmpty()) {
+                continue;
+            }
+            // 같은 종류가 연속된 구간마다 한 건 (입장 → 퇴장 → 입장이면 세 건)
+            int runStart = 0;
+            for (int i = 1; i <= events.size(); i++) {
+                if (i == events.size() || events.get(i).kind() != events.get(runStart).kind()) {
+                    List<String> names = events.subList(runStart, i).stream().map(Presence::userName).toList();
+                    batch.add(buildSystemMessage(roomId, buildContent(events.get(runStart).kind(), names)));
+                    runStart = i;
+                }
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // 채팅 메시지와 같은 방별 순번을 부여해 재연결 구간 조회에서 빠지지 않게 한다.
+        // 저장에 실패하면 발급된 순번이 캐시에 없으므로 재개 조회는 불완전 구간으로 판단한다.
+        batch.forEach(message -> message.setSeq(roomMessageLog.nextSeq(message.getRoomId())));
+
+        try {
+            List<Message> saved = messageRepository.saveAll(batch);
+            for (Message message : saved) {
+                MessageResponse response = messageResponseMapper.mapToMessageResponse(message, null);
+                roomMessageLog.append(message.getRoomId(), response);
+                socketIOServer.getRoomOperations(message.getRoomId()).sendEvent(MESSAGE, response);
+            }
+            savedCounter.increment(saved.size());
+            log.debug("System messages flushed: {}", saved.size());
+        } catch (Exception e) {
+            log.error("Error flushing system messages", e);
+        }
+    }
+
+    static String buildContent(Kind kind, List<String> names) {
+        String suffix = kind == Kind.JOIN ? "입장하였습니다." : "퇴장하였습니다.";
+        List<String> distinct = names.stream().distinct().toList();
+        if (distinct.size() == 1) {
+            return distinct.get(0) + "님이 " + suffix;
+        }
+        StringBuilder content = new StringBuilder();
+        int shown = Math.min(distinct.size(), MAX_NAMES_PER_MESSAGE);
+        for (int i = 0; i < shown; i++) {
+            if (i > 0) {
+                content.append(", ");
+            }
+            content.append(distinct.get(i)).append("님");
+        }
+        if (distinct.size() > shown) {
+            content.append(" 외 ").append(distinct.size() - shown).append("명");
+        }
+        return content.append("이 ").append(suffix).toString();
+    }
+
+    private Message buildSystemMessage(String roomId, String content) {
+        return Message.builder()
+                .roomId(roomId)
+                .content(content)
+                .type(MessageType.system)
+                .timestamp(LocalDateTime.now())
+                .mentions(new ArrayList<>())
+                .isDeleted(false)
+                .reactions(new HashMap<>())
+                .readers(new ArrayList<>())
+                .metadata(new HashMap<>())
+                .build();
+    }
+
+    enum Kind { JOIN, LEAVE }
+
+    private record Presence(Kind kind, String userName) {
+    }
+}
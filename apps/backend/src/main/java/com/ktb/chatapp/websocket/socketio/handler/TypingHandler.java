@@ -0,0 +1,49 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.dto.TypingRequest;
+import com.ktb.chatapp.dto.TypingSignal;
+import com.ktb.chatapp.websocket.socketio.SocketUser;
+import com.ktb.chatapp.websocket.socketio.ephemeral.EphemeralSignalHub;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.TYPING;
+
+/**
+ * 입력 중 표시 처리기
+ * @OnEvent로 등록하면 SocketEventDispatcher의 소켓별 대기열에서 채팅 메시지와 같은 순서로 처리되므로,
+ * 리스너를 직접 등록해 이벤트 루프에서 메모리 검사만 하고 EphemeralSignalHub에 넘긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class TypingHandler {
+
+    private final SocketIOServer socketIOServer;
+    private final EphemeralSignalHub ephemeralSignalHub;
+
+    @PostConstruct
+    public void register() {
+        socketIOServer.addEventListener(TYPING, TypingRequest.class,
+                (client, data, ackRequest) -> handleTyping(client, data));
+    }
+
+    void handleTyping(SocketIOClient client, TypingRequest data) {
+        SocketUser user = client.get("user");
+        if (user == null || data == null || data.roomId() == null) {
+            return;
+        }
+        // 참여 중인 방에만 신호 허용 (joinRoom 때 들어간 Socket.IO 방으로 판단, DB 조회 없음)
+        if (!client.getAllRooms().contains(data.roomId())) {
+            log.debug("Typing signal for a room not joined - userId: {}, roomId: {}", user.id(), data.roomId());
+            return;
+        }
+        ephemeralSignalHub.submit(new TypingSignal(data.roomId(), user.id(), user.name(), data.isTyping()));
+    }
+}
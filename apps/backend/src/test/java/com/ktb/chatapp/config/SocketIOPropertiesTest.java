@@ -0,0 +1,58 @@
+package com.ktb.chatapp.config;
+
+import com.corundumstudio.socketio.SocketConfig;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SocketIOPropertiesTest {
+
+    @Test
+    void defaults_enableNoDelayAndLeaveBuffersToKernel() {
+        SocketIOProperties properties = bind(Map.of());
+
+        assertThat(properties.port()).isEqualTo(5002);
+        assertThat(properties.bossThreads()).isEqualTo(1);
+        assertThat(properties.tcp().noDelay()).isTrue();
+        assertThat(properties.buffer().pooledAllocator()).isTrue();
+
+        SocketConfig socketConfig = SocketIOConfig.socketConfig(properties);
+        assertThat(socketConfig.isTcpNoDelay()).isTrue();
+        assertThat(socketConfig.getTcpSendBufferSize()).isEqualTo(-1);
+        assertThat(socketConfig.getTcpReceiveBufferSize()).isEqualTo(-1);
+        assertThat(socketConfig.getWriteBufferWaterMarkLow()).isEqualTo(32 * 1024);
+        assertThat(socketConfig.getWriteBufferWaterMarkHigh()).isEqualTo(128 * 1024);
+        assertThat(socketConfig.getAcceptBackLog()).isEqualTo(1024);
+    }
+
+    @Test
+    void bind_mapsSizesAndDisablesWaterMarksWhenZero() {
+        SocketIOProperties properties = bind(Map.of(
+                "socketio.server.worker-threads", "8",
+                "socketio.server.tcp.no-delay", "false",
+                "socketio.server.tcp.send-buffer-size", "4KB",
+                "socketio.server.tcp.receive-buffer-size", "4KB",
+                "socketio.server.buffer.write-low-water-mark", "0",
+                "socketio.server.buffer.write-high-water-mark", "0",
+                "socketio.server.epoll.tcp-quick-ack", "true"
+        ));
+
+        assertThat(properties.workerThreads()).isEqualTo(8);
+        assertThat(properties.epoll().tcpQuickAck()).isTrue();
+
+        SocketConfig socketConfig = SocketIOConfig.socketConfig(properties);
+        assertThat(socketConfig.isTcpNoDelay()).isFalse();
+        assertThat(socketConfig.getTcpSendBufferSize()).isEqualTo(4096);
+        assertThat(socketConfig.getTcpReceiveBufferSize()).isEqualTo(4096);
+        assertThat(socketConfig.getWriteBufferWaterMarkLow()).isEqualTo(-1);
+        assertThat(socketConfig.getWriteBufferWaterMarkHigh()).isEqualTo(-1);
+    }
+
+    private SocketIOProperties bind(Map<String, String> values) {
+        return new Binder(new MapConfigurationPropertySource(values))
+                .bindOrCreate("socketio.server", SocketIOProperties.class);
+    }
+}
@@ -0,0 +1,124 @@
+package com.ktb.chatapp.controller;
+
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.service.DownloadableFile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FileRangeResponderTest {
+
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.US_ASCII);
+
+    private FileRangeResponder responder;
+    private DownloadableFile download;
+
+    @BeforeEach
+    void setUp() {
+        responder = new FileRangeResponder(new SimpleMeterRegistry());
+        File file = File.builder()
+                .filename("video.mp4")
+                .originalname("video.mp4")
+                .mimetype("video/mp4")
+                .size(CONTENT.length)
+                .build();
+        download = new DownloadableFile() {
+            @Override
+            public File file() {
+                return file;
+            }
+
+            @Override
+            public long length() {
+                return CONTENT.length;
+            }
+
+            @Override
+            public void transferTo(long start, long count, OutputStream out) throws IOException {
+                out.write(CONTENT, (int) start, (int) count);
+            }
+        };
+    }
+
+    @Test
+    void noRange_sendsFullContent() throws IOException {
+        MockHttpServletResponse response = respond(new MockHttpServletRequest("GET", "/"));
+
+        assertEquals(200, response.getStatus());
+        assertEquals("0123456789", response.getContentAsString());
+        assertEquals("bytes", response.getHeader(HttpHeaders.ACCEPT_RANGES));
+    }
+
+    @Test
+    void singleRange_sendsPartialContent() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+
+        MockHttpServletResponse response = respond(request);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("2345", response.getContentAsString());
+        assertEquals("bytes 2-5/10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals(4, response.getContentLengthLong());
+    }
+
+    @Test
+    void suffixRange_sendsTail() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.RANGE, "bytes=-3");
+
+        MockHttpServletResponse response = respond(request);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("789", response.getContentAsString());
+    }
+
+    @Test
+    void unsatisfiableRange_returns416() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.RANGE, "bytes=20-30");
+
+        MockHttpServletResponse response = respond(request);
+
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void ifRangeMismatch_sendsFullContent() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"other-etag\"");
+
+        MockHttpServletResponse response = respond(request);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("0123456789", response.getContentAsString());
+    }
+
+    @Test
+    void ifRangeMatchingEtag_sendsPartialContent() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-0");
+        request.addHeader(HttpHeaders.IF_RANGE, FileRangeResponder.buildEtag(download.file(), CONTENT.length));
+
+        MockHttpServletResponse response = respond(request);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("0", response.getContentAsString());
+    }
+
+    private MockHttpServletResponse respond(MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        responder.respond(request, response, download, "attachment", "no-store");
+        return response;
+    }
+}
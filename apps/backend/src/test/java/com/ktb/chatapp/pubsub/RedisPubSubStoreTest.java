@@ -0,0 +1,129 @@
+package com.ktb.chatapp.pubsub;
+
+import com.corundumstudio.socketio.protocol.Packet;
+import com.corundumstudio.socketio.protocol.PacketType;
+import com.corundumstudio.socketio.store.pubsub.DispatchMessage;
+import com.corundumstudio.socketio.store.pubsub.JoinLeaveMessage;
+import com.corundumstudio.socketio.store.pubsub.PubSubType;
+import com.ktb.chatapp.websocket.socketio.PreEncodedPayload;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.client.codec.StringCodec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedisPubSubStoreTest {
+
+    private RTopic topic;
+    private SimpleMeterRegistry meterRegistry;
+    private RedisPubSubStore nodeA;
+    private RedisPubSubStore nodeB;
+
+    @BeforeEach
+    void setUp() {
+        topic = mock(RTopic.class);
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        when(redissonClient.getTopic(RedisPubSubStore.TOPIC_NAME, StringCodec.INSTANCE)).thenReturn(topic);
+        meterRegistry = new SimpleMeterRegistry();
+        nodeA = new RedisPubSubStore(redissonClient, RedisStoreFactory.socketJsonMapper(), 1L, meterRegistry);
+        nodeB = new RedisPubSubStore(redissonClient, RedisStoreFactory.socketJsonMapper(), 2L, meterRegistry);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void publish_roomBroadcastIsRebuiltOnOtherNode() {
+        LocalDateTime timestamp = LocalDateTime.of(2024, 5, 1, 12, 30);
+        nodeA.publish(PubSubType.DISPATCH, dispatch("room1", "message",
+                Map.of("content", "안녕하세요", "timestamp", timestamp)));
+
+        DispatchMessage received = nodeB.decode(publishedJson());
+
+        assertThat(received).isNotNull();
+        assertThat(received.getRoom()).isEqualTo("room1");
+        assertThat(received.getNamespace()).isEmpty();
+        assertThat(received.getNodeId()).isEqualTo(1L);
+        Packet packet = received.getPacket();
+        assertThat(packet.getType()).isEqualTo(PacketType.MESSAGE);
+        assertThat(packet.getSubType()).isEqualTo(PacketType.EVENT);
+        assertThat(packet.getName()).isEqualTo("message");
+        List<Object> args = packet.getData();
+        assertThat(args).hasSize(1);
+        assertThat(args.get(0)).isInstanceOf(PreEncodedPayload.class);
+        assertThat((Map<String, Object>) ((PreEncodedPayload) args.get(0)).value())
+                .containsEntry("content", "안녕하세요")
+                .containsEntry("timestamp", List.of(2024, 5, 1, 12, 30));
+        assertThat(meterRegistry.get("socketio.cluster.dispatch").tag("direction", "out").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void decode_ignoresOwnBroadcast() {
+        nodeA.publish(PubSubType.DISPATCH, dispatch("room1", "message", Map.of("content", "hi")));
+
+        assertThat(nodeA.decode(publishedJson())).isNull();
+    }
+
+    @Test
+    void publish_joinAndLeaveStayLocal() {
+        nodeA.publish(PubSubType.JOIN, new JoinLeaveMessage(UUID.randomUUID(), "room1", ""));
+        nodeA.publish(PubSubType.LEAVE, new JoinLeaveMessage(UUID.randomUUID(), "room1", ""));
+
+        verify(topic, never()).publish(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void subscribe_deliversOnlyRemoteBroadcasts() {
+        List<DispatchMessage> delivered = new ArrayList<>();
+        nodeB.subscribe(PubSubType.DISPATCH, delivered::add, DispatchMessage.class);
+        ArgumentCaptor<MessageListener<String>> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(topic).addListener(eq(String.class), listener.capture());
+
+        nodeA.publish(PubSubType.DISPATCH, dispatch("room1", "participantsUpdate", List.of("user1")));
+        String fromA = publishedJson();
+        listener.getValue().onMessage(RedisPubSubStore.TOPIC_NAME, fromA);
+        nodeB.publish(PubSubType.DISPATCH, dispatch("room1", "userLeft", Map.of("userId", "user1")));
+        listener.getValue().onMessage(RedisPubSubStore.TOPIC_NAME, publishedJson());
+
+        assertThat(delivered).hasSize(1);
+        assertThat(delivered.get(0).getPacket().getName()).isEqualTo("participantsUpdate");
+    }
+
+    @Test
+    void subscribe_ignoresOtherPubSubTypes() {
+        nodeA.subscribe(PubSubType.JOIN, message -> { }, JoinLeaveMessage.class);
+
+        verify(topic, never()).addListener(eq(String.class), any());
+    }
+
+    private DispatchMessage dispatch(String room, String event, Object data) {
+        Packet packet = new Packet(PacketType.MESSAGE);
+        packet.setSubType(PacketType.EVENT);
+        packet.setName(event);
+        packet.setData(List.of(data));
+        return new DispatchMessage(room, packet, "");
+    }
+
+    private String publishedJson() {
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(topic, atLeastOnce()).publish(json.capture());
+        return json.getValue();
+    }
+}
@@ -0,0 +1,181 @@
+package com.ktb.chatapp.pubsub;
+
+import com.corundumstudio.socketio.protocol.Packet;
+import com.corundumstudio.socketio.protocol.PacketType;
+import com.corundumstudio.socketio.store.pubsub.DispatchMessage;
+import com.corundumstudio.socketio.store.pubsub.PubSubType;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.redisson.Redisson;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.config.Config;
+import org.testcontainers.containers.GenericContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 방 브로드캐스트 노드 간 전달: 핸들러별 JSON 릴레이(chat:broadcast) vs StoreFactory DISPATCH 비교 벤치마크
+ * 두 Redisson 클라이언트를 서로 다른 노드로 보고, 발행부터 상대 노드 수신·복원까지의 처리량과 메시지 크기를 잰다.
+ * 기본 테스트 실행에서는 제외되며 다음과 같이 실행한다.
+ * mvn test -Dtest=RoomBroadcastRelayBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class RoomBroadcastRelayBenchmark {
+
+    private static final int WARMUP = 2_000;
+    private static final int MESSAGES = 20_000;
+
+    private static GenericContainer<?> redis;
+    private static RedissonClient publisherNode;
+    private static RedissonClient subscriberNode;
+
+    private final ObjectMapper springMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @BeforeAll
+    static void startRedis() {
+        redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+        redis.start();
+        publisherNode = client();
+        subscriberNode = client();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        publisherNode.shutdown();
+        subscriberNode.shutdown();
+        redis.stop();
+    }
+
+    @Test
+    void compareHandlerRelayAndStoreFactoryDispatch() throws Exception {
+        Map<String, Object> payload = messagePayload();
+
+        Result relay = measureRelay(payload);
+        Result dispatch = measureDispatch(payload);
+
+        System.out.printf("[relay-benchmark] messages=%d%n", MESSAGES);
+        System.out.printf("[relay-benchmark] handler JSON relay : %,d bytes/msg, %,.0f msg/s%n", relay.bytes, relay.perSecond);
+        System.out.printf("[relay-benchmark] store dispatch     : %,d bytes/msg, %,.0f msg/s%n", dispatch.bytes, dispatch.perSecond);
+
+        assertThat(dispatch.bytes).isLessThan(relay.bytes);
+    }
+
+    /**
+     * 기존 방식: payload를 문자열로 직렬화한 뒤 RedisBroadcastMessage로 한 번 더 감싸 발행하고,
+     * 수신 측에서 봉투와 payload를 각각 역직렬화한다.
+     */
+    private Result measureRelay(Map<String, Object> payload) throws Exception {
+        RTopic publishTopic = publisherNode.getTopic("benchmark:relay", StringCodec.INSTANCE);
+        RTopic receiveTopic = subscriberNode.getTopic("benchmark:relay", StringCodec.INSTANCE);
+        AtomicLong bytes = new AtomicLong();
+
+        return run(receiveTopic, json -> {
+            try {
+                RedisBroadcastMessage message = springMapper.readValue(json, RedisBroadcastMessage.class);
+                springMapper.readValue(message.payload(), new TypeReference<Map<String, Object>>() {});
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }, () -> {
+            try {
+                String inner = springMapper.writeValueAsString(payload);
+                String json = springMapper.writeValueAsString(new RedisBroadcastMessage(
+                        "node-a", "MESSAGE", "benchmark-room", inner));
+                bytes.set(json.getBytes(StandardCharsets.UTF_8).length);
+                publishTopic.publish(json);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }, bytes);
+    }
+
+    /**
+     * 새 방식: sendEvent가 만든 패킷을 RedisPubSubStore가 한 번만 직렬화해 발행하고,
+     * 수신 측은 DispatchMessage로 복원한다.
+     */
+    private Result measureDispatch(Map<String, Object> payload) throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RedisPubSubStore nodeA = new RedisPubSubStore(publisherNode, RedisStoreFactory.socketJsonMapper(), 1L, registry);
+        RedisPubSubStore nodeB = new RedisPubSubStore(subscriberNode, RedisStoreFactory.socketJsonMapper(), 2L, registry);
+        RTopic receiveTopic = subscriberNode.getTopic(RedisPubSubStore.TOPIC_NAME, StringCodec.INSTANCE);
+        AtomicLong bytes = new AtomicLong();
+
+        Result result = run(receiveTopic, json -> {
+            bytes.set(json.getBytes(StandardCharsets.UTF_8).length);
+            assertThat(nodeB.decode(json)).isNotNull();
+        }, () -> {
+            Packet packet = new Packet(PacketType.MESSAGE);
+            packet.setSubType(PacketType.EVENT);
+            packet.setName("message");
+            packet.setData(List.of(payload));
+            nodeA.publish(PubSubType.DISPATCH, new DispatchMessage("benchmark-room", packet, ""));
+        }, bytes);
+        nodeA.shutdown();
+        return result;
+    }
+
+    private Result run(RTopic receiveTopic, Consumer<String> onReceive, Runnable publish, AtomicLong bytes)
+            throws InterruptedException {
+        CountDownLatch warmup = new CountDownLatch(WARMUP);
+        CountDownLatch measured = new CountDownLatch(WARMUP + MESSAGES);
+        int listenerId = receiveTopic.addListener(String.class, (channel, json) -> {
+            onReceive.accept(json);
+            warmup.countDown();
+            measured.countDown();
+        });
+        try {
+            for (int i = 0; i < WARMUP; i++) {
+                publish.run();
+            }
+            assertThat(warmup.await(30, TimeUnit.SECONDS)).isTrue();
+
+            long started = System.nanoTime();
+            for (int i = 0; i < MESSAGES; i++) {
+                publish.run();
+            }
+            assertThat(measured.await(60, TimeUnit.SECONDS)).isTrue();
+            double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+            return new Result(bytes.get(), MESSAGES / seconds);
+        } finally {
+            receiveTopic.removeListener(listenerId);
+        }
+    }
+
+    private Map<String, Object> messagePayload() {
+        return Map.of(
+                "_id", "6650f1c2a7b3c45d6e7f8091",
+                "room", "benchmark-room",
+                "content", "벤치마크 메시지입니다. 노드 간 전달 비용을 비교합니다.",
+                "type", "text",
+                "sender", Map.of("_id", "user-1", "name", "사용자1", "email", "user1@example.com"),
+                "timestamp", LocalDateTime.now(),
+                "reactions", Map.of(),
+                "readers", List.of()
+        );
+    }
+
+    private static RedissonClient client() {
+        Config config = new Config();
+        config.useSingleServer()
+                .setAddress(String.format("redis://%s:%d", redis.getHost(), redis.getMappedPort(6379)));
+        return Redisson.create(config);
+    }
+
+    private record Result(long bytes, double perSecond) { }
+}
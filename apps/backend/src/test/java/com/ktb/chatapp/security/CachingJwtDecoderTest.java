@@ -0,0 +1,94 @@
+package com.ktb.chatapp.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingJwtDecoderTest {
+
+    @Mock private JwtDecoder delegate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CachingJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        decoder = new CachingJwtDecoder(delegate, 1, meterRegistry);
+    }
+
+    private static Jwt jwt(String token, Instant expiresAt) {
+        return Jwt.withTokenValue(token)
+                .header("alg", "HS256")
+                .claim("userId", "u1")
+                .issuedAt(expiresAt.minusSeconds(3600))
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 만료 전까지 한 번만 검증")
+    void decode_reusesVerifiedJwtUntilExpiry() {
+        Jwt verified = jwt("t1", Instant.now().plusSeconds(60));
+        when(delegate.decode("t1")).thenReturn(verified);
+
+        assertThat(decoder.decode("t1")).isSameAs(verified);
+        assertThat(decoder.decode("t1")).isSameAs(verified);
+
+        verify(delegate, times(1)).decode("t1");
+        assertThat(meterRegistry.counter("auth.jwt.cache", "result", "hit").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer("auth.jwt.decode", "result", "miss").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료된 Jwt는 재사용하지 않고 다시 검증")
+    void decode_revalidatesExpiredJwt() {
+        when(delegate.decode("t1")).thenReturn(jwt("t1", Instant.now().minusSeconds(1)));
+
+        decoder.decode("t1");
+        decoder.decode("t1");
+
+        verify(delegate, times(2)).decode("t1");
+    }
+
+    @Test
+    @DisplayName("검증 실패는 캐싱하지 않음")
+    void decode_doesNotCacheFailures() {
+        when(delegate.decode("bad")).thenThrow(new BadJwtException("invalid"));
+
+        assertThatThrownBy(() -> decoder.decode("bad")).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> decoder.decode("bad")).isInstanceOf(BadJwtException.class);
+
+        verify(delegate, times(2)).decode("bad");
+        assertThat(decoder.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("상한에 이르면 새 토큰은 캐싱하지 않음")
+    void decode_skipsNewTokensWhenFull() {
+        when(delegate.decode("t1")).thenReturn(jwt("t1", Instant.now().plusSeconds(60)));
+        when(delegate.decode("t2")).thenReturn(jwt("t2", Instant.now().plusSeconds(60)));
+
+        decoder.decode("t1");
+        decoder.decode("t2");
+        decoder.decode("t2");
+
+        verify(delegate, times(2)).decode("t2");
+        assertThat(decoder.size()).isEqualTo(1);
+        assertThat(meterRegistry.counter("auth.jwt.cache", "result", "full").count()).isEqualTo(2);
+    }
+}
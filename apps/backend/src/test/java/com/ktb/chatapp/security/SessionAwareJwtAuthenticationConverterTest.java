@@ -4,11 +4,11 @@ import com.ktb.chatapp.exception.SessionExpiredException;
 import com.ktb.chatapp.service.SessionData;
 import com.ktb.chatapp.service.SessionService;
 import com.ktb.chatapp.service.SessionValidationResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
@@ -29,7 +29,6 @@ class SessionAwareJwtAuthenticationConverterTest {
     @Mock
     private SessionService sessionService;
 
-    @InjectMocks
     private SessionAwareJwtAuthenticationConverter converter;
 
     private Jwt validJwt;
@@ -39,6 +38,7 @@ class SessionAwareJwtAuthenticationConverterTest {
 
     @BeforeEach
     void setUp() {
+        converter = new SessionAwareJwtAuthenticationConverter(sessionService, new SimpleMeterRegistry());
         validJwt = createJwt(TEST_EMAIL, TEST_USER_ID, TEST_SESSION_ID);
     }
 
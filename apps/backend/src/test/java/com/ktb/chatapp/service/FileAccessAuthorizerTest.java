@@ -0,0 +1,103 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.repository.FileRepository;
+import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.repository.RoomRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FileAccessAuthorizerTest {
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    private FileAccessAuthorizer authorizer;
+
+    @BeforeEach
+    void setUp() {
+        authorizer = new FileAccessAuthorizer(fileRepository, messageRepository, roomRepository,
+                new SimpleMeterRegistry(), 60, 100);
+    }
+
+    @Test
+    void authorize_usesStoredRoomIdAndCachesGrant() {
+        when(fileRepository.findByFilename("a.png")).thenReturn(Optional.of(file("room-1")));
+        when(roomRepository.isParticipant("room-1", "user-1")).thenReturn(true);
+
+        authorizer.authorize("a.png", "user-1");
+        File second = authorizer.authorize("a.png", "user-1");
+
+        assertEquals("a.png", second.getFilename());
+        verify(fileRepository, times(1)).findByFilename("a.png");
+        verify(messageRepository, never()).findByFileId(any());
+    }
+
+    @Test
+    void authorize_legacyFile_backfillsRoomIdFromMessage() {
+        when(fileRepository.findByFilename("a.png")).thenReturn(Optional.of(file(null)));
+        Message message = new Message();
+        message.setRoomId("room-1");
+        when(messageRepository.findByFileId("file-1")).thenReturn(Optional.of(message));
+        when(roomRepository.isParticipant("room-1", "user-1")).thenReturn(true);
+
+        File file = authorizer.authorize("a.png", "user-1");
+
+        assertEquals("room-1", file.getRoomId());
+        verify(fileRepository).assignRoomIfAbsent("file-1", "room-1");
+    }
+
+    @Test
+    void authorize_nonParticipant_isDeniedAndNotCached() {
+        when(fileRepository.findByFilename("a.png")).thenReturn(Optional.of(file("room-1")));
+        when(roomRepository.isParticipant("room-1", "user-2")).thenReturn(false, true);
+        when(roomRepository.existsById("room-1")).thenReturn(true);
+
+        assertThrows(RuntimeException.class, () -> authorizer.authorize("a.png", "user-2"));
+        // 이후 참여하면 바로 허용
+        authorizer.authorize("a.png", "user-2");
+
+        verify(roomRepository, times(2)).isParticipant("room-1", "user-2");
+    }
+
+    @Test
+    void evictRoom_forcesRecheckAfterParticipantChange() {
+        when(fileRepository.findByFilename("a.png")).thenReturn(Optional.of(file("room-1")));
+        when(roomRepository.isParticipant("room-1", "user-1")).thenReturn(true, false);
+        when(roomRepository.existsById("room-1")).thenReturn(true);
+
+        authorizer.authorize("a.png", "user-1");
+        authorizer.evictRoom("room-1");
+
+        assertThrows(RuntimeException.class, () -> authorizer.authorize("a.png", "user-1"));
+    }
+
+    private File file(String roomId) {
+        return File.builder()
+                .id("file-1")
+                .filename("a.png")
+                .roomId(roomId)
+                .build();
+    }
+}
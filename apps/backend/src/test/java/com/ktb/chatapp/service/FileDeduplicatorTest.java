@@ -0,0 +1,209 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.repository.FileRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FileDeduplicatorTest {
+
+    private static final String HASH = "abc123";
+
+    @Mock
+    private FileRepository fileRepository;
+
+    private FileDeduplicator deduplicator;
+    private final List<String> deletedBlobs = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        deduplicator = new FileDeduplicator(fileRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void save_newContent_keepsUploadedCopy() {
+        when(fileRepository.findFirstByContentHashAndSize(HASH, 10)).thenReturn(Optional.empty());
+        when(fileRepository.save(any(File.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        File saved = deduplicator.save(uploaded(), path -> true, deletedBlobs::add);
+
+        assertEquals("uploads/new.png", saved.getPath());
+        assertTrue(deletedBlobs.isEmpty());
+    }
+
+    @Test
+    void save_duplicateContent_sharesExistingCopyAndDeletesUploaded() {
+        when(fileRepository.findFirstByContentHashAndSize(HASH, 10)).thenReturn(Optional.of(existing()));
+        when(fileRepository.save(any(File.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        File saved = deduplicator.save(uploaded(), path -> true, deletedBlobs::add);
+
+        assertEquals("new.png", saved.getFilename());
+        assertEquals("uploads/old.png", saved.getPath());
+        assertEquals("https://bucket/uploads/old.png", saved.getUrl());
+        assertEquals(Map.of("thumb", 1024L), saved.getDerivatives());
+        assertEquals(List.of("uploads/new.png"), deletedBlobs);
+    }
+
+    @Test
+    void save_existingCopyRemovedConcurrently_fallsBackToUploadedCopy() {
+        when(fileRepository.findFirstByContentHashAndSize(HASH, 10)).thenReturn(Optional.of(existing()));
+        when(fileRepository.save(any(File.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        File saved = deduplicator.save(uploaded(), path -> false, deletedBlobs::add);
+
+        assertEquals("uploads/new.png", saved.getPath());
+        assertEquals("https://bucket/uploads/new.png", saved.getUrl());
+        assertNull(saved.getDerivatives());
+        assertTrue(deletedBlobs.isEmpty());
+    }
+
+    @Test
+    void delete_stillReferenced_keepsBlob() {
+        File file = existing();
+        when(fileRepository.countByPath("uploads/old.png")).thenReturn(1L);
+
+        assertFalse(deduplicator.delete(file, deletedBlobs::add));
+
+        verify(fileRepository).delete(file);
+        assertTrue(deletedBlobs.isEmpty());
+    }
+
+    @Test
+    void delete_lastReference_releasesBlob() {
+        File file = existing();
+        when(fileRepository.countByPath("uploads/old.png")).thenReturn(0L);
+
+        assertTrue(deduplicator.delete(file, deletedBlobs::add));
+
+        assertEquals(List.of("uploads/old.png"), deletedBlobs);
+    }
+
+    @Test
+    void save_whileReleaseIsClaimed_keepsUploadedCopy() {
+        when(fileRepository.findFirstByContentHashAndSize(HASH, 10)).thenReturn(Optional.of(existing()));
+        when(fileRepository.save(any(File.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(fileRepository.isBlobReleaseClaimed("uploads/old.png")).thenReturn(true);
+
+        File saved = deduplicator.save(uploaded(), path -> true, deletedBlobs::add);
+
+        assertEquals("uploads/new.png", saved.getPath());
+        assertTrue(deletedBlobs.isEmpty());
+    }
+
+    @Test
+    void concurrentSaveAfterFirstCount_deleteKeepsSharedBlob() {
+        InMemoryStore store = new InMemoryStore();
+        File existing = store.add(existing());
+
+        // 삭제가 첫 참조 수 확인을 마친 직후(예고 등록 직전) 중복 업로드가 같은 경로를 공유함
+        doAnswer(invocation -> {
+            store.saved.add(deduplicator.save(uploaded(), store.blobs::contains, store.blobs::remove));
+            store.claims.incrementAndGet();
+            return null;
+        }).when(fileRepository).claimBlobRelease("uploads/old.png");
+
+        assertFalse(deduplicator.delete(existing, store.blobs::remove));
+
+        store.assertEveryFileHasItsBlob();
+        assertEquals("uploads/old.png", store.saved.get(0).getPath());
+    }
+
+    @Test
+    void concurrentSaveWhileBlobIsBeingDeleted_keepsItsOwnCopy() {
+        InMemoryStore store = new InMemoryStore();
+        File existing = store.add(existing());
+
+        // 두 번째 참조 수 확인까지 통과해 저장소 삭제 직전에 중복 업로드가 같은 경로로 저장됨
+        assertTrue(deduplicator.delete(existing, path -> {
+            store.saved.add(deduplicator.save(uploaded(), store.blobs::contains, store.blobs::remove));
+            store.blobs.remove(path);
+        }));
+
+        store.assertEveryFileHasItsBlob();
+        assertEquals("uploads/new.png", store.saved.get(0).getPath());
+    }
+
+    /**
+     * File 문서, 저장소 사본, 삭제 예고를 메모리에 두고 두 호출을 한 스레드에서 교차 실행
+     */
+    private class InMemoryStore {
+
+        private final List<File> files = new ArrayList<>();
+        private final Set<String> blobs = new HashSet<>(Set.of("uploads/old.png", "uploads/new.png"));
+        private final AtomicInteger claims = new AtomicInteger();
+        private final List<File> saved = new ArrayList<>();
+
+        InMemoryStore() {
+            lenient().when(fileRepository.findFirstByContentHashAndSize(HASH, 10)).thenReturn(Optional.of(existing()));
+            lenient().when(fileRepository.save(any(File.class))).thenAnswer(invocation -> {
+                File file = invocation.getArgument(0);
+                files.remove(file);
+                files.add(file);
+                return file;
+            });
+            lenient().doAnswer(invocation -> files.remove((File) invocation.getArgument(0)))
+                    .when(fileRepository).delete(any(File.class));
+            lenient().when(fileRepository.countByPath(anyString())).thenAnswer(invocation -> files.stream()
+                    .filter(file -> invocation.getArgument(0).equals(file.getPath()))
+                    .count());
+            lenient().doAnswer(invocation -> claims.incrementAndGet()).when(fileRepository).claimBlobRelease(anyString());
+            lenient().doAnswer(invocation -> claims.decrementAndGet()).when(fileRepository).finishBlobRelease(anyString());
+            lenient().when(fileRepository.isBlobReleaseClaimed(anyString())).thenAnswer(invocation -> claims.get() > 0);
+        }
+
+        File add(File file) {
+            files.add(file);
+            return file;
+        }
+
+        void assertEveryFileHasItsBlob() {
+            files.forEach(file -> assertTrue(blobs.contains(file.getPath()), file.getFilename() + " -> " + file.getPath()));
+        }
+    }
+
+    private File uploaded() {
+        return File.builder()
+                .filename("new.png")
+                .size(10)
+                .path("uploads/new.png")
+                .url("https://bucket/uploads/new.png")
+                .contentHash(HASH)
+                .build();
+    }
+
+    private File existing() {
+        return File.builder()
+                .id("file-1")
+                .filename("old.png")
+                .size(10)
+                .path("uploads/old.png")
+                .url("https://bucket/uploads/old.png")
+                .contentHash(HASH)
+                .derivatives(Map.of("thumb", 1024L))
+                .build();
+    }
+}
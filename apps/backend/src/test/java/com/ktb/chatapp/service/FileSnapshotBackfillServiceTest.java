@@ -0,0 +1,89 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.model.FileSnapshot;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.repository.FileRepository;
+import com.ktb.chatapp.repository.MessageRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FileSnapshotBackfillServiceTest {
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private FileRepository fileRepository;
+
+    private FileSnapshotBackfillService backfillService;
+
+    @BeforeEach
+    void setUp() {
+        backfillService = new FileSnapshotBackfillService(messageRepository, fileRepository);
+    }
+
+    @Test
+    void backfill_readsIdOrderedPagesUntilNothingIsLeft() {
+        when(messageRepository.findFileMessagesWithoutSnapshot(any(Pageable.class)))
+                .thenReturn(List.of(message("m1", "f1"), message("m2", "f1")))
+                .thenReturn(List.of(message("m3", "f2")))
+                .thenReturn(List.of());
+        when(fileRepository.findAllById(anyIterable()))
+                .thenReturn(List.of(file("f1")))
+                .thenReturn(List.of(file("f2")));
+
+        assertEquals(3, backfillService.backfill());
+
+        verify(messageRepository).updateFileSnapshot(eq("m1"), any(FileSnapshot.class));
+        verify(messageRepository).updateFileSnapshot(eq("m3"), any(FileSnapshot.class));
+        ArgumentCaptor<Pageable> page = ArgumentCaptor.forClass(Pageable.class);
+        verify(messageRepository, times(3)).findFileMessagesWithoutSnapshot(page.capture());
+        assertEquals(Sort.by(Sort.Direction.ASC, "id"), page.getValue().getSort());
+    }
+
+    @Test
+    void backfill_stopsWhenPreviousBatchComesBackAgain() {
+        List<Message> stuck = List.of(message("m1", "f1"));
+        when(messageRepository.findFileMessagesWithoutSnapshot(any(Pageable.class))).thenReturn(stuck);
+        when(fileRepository.findAllById(anyIterable())).thenReturn(List.of(file("f1")));
+
+        assertEquals(1, backfillService.backfill());
+
+        verify(messageRepository, times(2)).findFileMessagesWithoutSnapshot(any(Pageable.class));
+        verify(messageRepository, times(1)).updateFileSnapshot(eq("m1"), any(FileSnapshot.class));
+    }
+
+    private Message message(String id, String fileId) {
+        Message message = new Message();
+        message.setId(id);
+        message.setFileId(fileId);
+        return message;
+    }
+
+    private File file(String id) {
+        return File.builder()
+                .id(id)
+                .filename(id + ".png")
+                .originalname(id + ".png")
+                .mimetype("image/png")
+                .size(10)
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.repository.FileRepository;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(MockitoExtension.class)
+class LocalFileServiceTest {
+
+    @TempDir
+    Path uploadDir;
+
+    @Mock private FileRepository fileRepository;
+    @Mock private FileAccessAuthorizer fileAccessAuthorizer;
+    @Mock private FileDeduplicator fileDeduplicator;
+
+    private LocalFileService fileService;
+
+    @BeforeEach
+    void setUp() {
+        fileService = new LocalFileService(uploadDir.toString(), fileRepository, fileAccessAuthorizer,
+                fileDeduplicator, null);
+    }
+
+    @Test
+    void transferTo_copiesRequestedRange() throws Exception {
+        Files.write(uploadDir.resolve("a.bin"), new byte[] {0, 1, 2, 3, 4, 5});
+        DownloadableFile download = fileService.openStored(file("a.bin"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        download.transferTo(2, 3, out);
+
+        assertArrayEquals(new byte[] {2, 3, 4}, out.toByteArray());
+    }
+
+    @Test
+    void transferTo_failsWhenFileShrinksAfterLengthWasTaken() throws Exception {
+        Path stored = uploadDir.resolve("b.bin");
+        Files.write(stored, new byte[10]);
+        DownloadableFile download = fileService.openStored(file("b.bin"));
+        Files.write(stored, new byte[4]);
+
+        assertThrows(EOFException.class,
+                () -> download.transferTo(0, download.length(), new ByteArrayOutputStream()));
+    }
+
+    private File file(String filename) {
+        return File.builder()
+                .filename(filename)
+                .originalname(filename)
+                .mimetype("application/octet-stream")
+                .build();
+    }
+}
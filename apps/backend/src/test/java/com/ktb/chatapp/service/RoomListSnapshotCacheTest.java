@@ -0,0 +1,105 @@
+package com.ktb.chatapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ktb.chatapp.dto.PageMetadata;
+import com.ktb.chatapp.dto.PageRequest;
+import com.ktb.chatapp.dto.RoomResponse;
+import com.ktb.chatapp.dto.RoomsResponse;
+import com.ktb.chatapp.event.RoomCreatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoomListSnapshotCacheTest {
+
+    private RoomListSnapshotCache cache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        cache = new RoomListSnapshotCache(objectMapper, new SimpleMeterRegistry(), 60_000, 2);
+        loadCount = new AtomicInteger();
+    }
+
+    private Supplier<RoomsResponse> loader(boolean success) {
+        return () -> {
+            loadCount.incrementAndGet();
+            RoomResponse room = new RoomResponse("room1", "방", false, List.of(), LocalDateTime.now(), 0);
+            return new RoomsResponse(success, success ? List.of(room) : List.of(), new PageMetadata(false));
+        };
+    }
+
+    private static PageRequest page(int page, String search) {
+        return new PageRequest(page, 10, "createdAt", "desc", search);
+    }
+
+    @Test
+    @DisplayName("같은 키는 캐시된 스냅샷을 재사용")
+    void get_reusesSnapshotForSameKey() {
+        var first = cache.get(page(0, null), loader(true));
+        var second = cache.get(page(0, null), loader(true));
+
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 정렬값은 기본 키로 정규화")
+    void get_normalizesInvalidSort() {
+        cache.get(page(0, null), loader(true));
+        cache.get(new PageRequest(0, 10, "unknown", "sideways", "  "), loader(true));
+
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("방 생성 이벤트 수신 시 스냅샷 무효화")
+    void roomCreatedEvent_invalidatesSnapshots() {
+        cache.get(page(0, null), loader(true));
+        cache.handleRoomCreatedEvent(new RoomCreatedEvent(this, null));
+        cache.get(page(0, null), loader(true));
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("실패 응답은 캐싱하지 않음")
+    void get_doesNotCacheFailedResponse() {
+        cache.get(page(0, null), loader(false));
+        cache.get(page(0, null), loader(false));
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘으면 새 키는 저장하지 않음")
+    void get_respectsMaxEntries() {
+        cache.get(page(0, "a"), loader(true));
+        cache.get(page(0, "b"), loader(true));
+        cache.get(page(0, "c"), loader(true));
+        cache.get(page(0, "c"), loader(true));
+
+        assertThat(loadCount.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("If-None-Match 일치 여부 판단 (weak/목록/와일드카드)")
+    void isNotModified_matchesEtag() {
+        var snapshot = cache.get(page(0, null), loader(true));
+
+        assertThat(cache.isNotModified(snapshot.etag(), snapshot)).isTrue();
+        assertThat(cache.isNotModified("\"other\", W/" + snapshot.etag(), snapshot)).isTrue();
+        assertThat(cache.isNotModified("*", snapshot)).isTrue();
+        assertThat(cache.isNotModified("\"other\"", snapshot)).isFalse();
+        assertThat(cache.isNotModified(null, snapshot)).isFalse();
+    }
+}
@@ -0,0 +1,138 @@
+package com.ktb.chatapp.service.s3;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class S3MultipartUploaderTest {
+
+    private static final long PART_SIZE = 4;
+
+    @Mock
+    private S3Client s3Client;
+
+    private SimpleMeterRegistry meterRegistry;
+    private S3MultipartUploader uploader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        uploader = new S3MultipartUploader(s3Client, "chat-bucket", PART_SIZE, 2, 3, 0, 4, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        uploader.shutdown();
+    }
+
+    @Test
+    void smallObject_usesSinglePut() throws Exception {
+        uploader.upload("uploads/a.png", "image/png", new ByteArrayInputStream(new byte[3]), 3);
+
+        verify(s3Client).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    @Test
+    void smallObject_sendsObjectSizedBodyWithoutBorrowingPartBuffer() throws Exception {
+        ArgumentCaptor<RequestBody> body = ArgumentCaptor.forClass(RequestBody.class);
+
+        uploader.upload("uploads/a.png", "image/png", new ByteArrayInputStream(new byte[] {1, 2, 3}), 3);
+
+        verify(s3Client).putObject(any(PutObjectRequest.class), body.capture());
+        assertArrayEquals(new byte[] {1, 2, 3},
+                body.getValue().contentStreamProvider().newStream().readAllBytes());
+        assertEquals(0.0, meterRegistry.get("buffers.direct.allocated.bytes").gauge().value());
+    }
+
+    @Test
+    void largeObject_retriesFailedPartAndCompletesInOrder() throws Exception {
+        stubCreate();
+        AtomicInteger part2Calls = new AtomicInteger();
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            if (request.partNumber() == 2 && part2Calls.incrementAndGet() == 1) {
+                throw SdkClientException.create("connection reset");
+            }
+            return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+        });
+
+        uploader.upload("uploads/b.mp4", "video/mp4", new ByteArrayInputStream(new byte[10]), 10);
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> captor =
+                ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(captor.capture());
+        List<CompletedPart> parts = captor.getValue().multipartUpload().parts();
+        assertEquals(List.of(1, 2, 3), parts.stream().map(CompletedPart::partNumber).toList());
+        assertEquals("etag-2", parts.get(1).eTag());
+        assertEquals(2, part2Calls.get());
+        assertEquals(1.0, meterRegistry.counter("files.upload.part.retries").count());
+        verify(s3Client, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+
+    @Test
+    void largeObject_abortsWhenPartKeepsFailing() {
+        stubCreate();
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenThrow(SdkClientException.create("connection reset"));
+
+        assertThrows(SdkClientException.class, () ->
+                uploader.upload("uploads/c.mp4", "video/mp4", new ByteArrayInputStream(new byte[10]), 10));
+
+        verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+
+    @Test
+    void largeObject_returnsEveryPartBufferWhenPartFailsWithLaterPartsPending() {
+        stubCreate();
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            if (request.partNumber() == 1) {
+                throw SdkClientException.create("connection reset");
+            }
+            Thread.sleep(50); // 실패 시점에 뒤 파트가 아직 진행 중이도록
+            return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+        });
+
+        assertThrows(SdkClientException.class, () ->
+                uploader.upload("uploads/d.mp4", "video/mp4", new ByteArrayInputStream(new byte[20]), 20));
+
+        verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        assertEquals(0.0, meterRegistry.get("buffers.direct.in_use").gauge().value());
+    }
+
+    private void stubCreate() {
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+    }
+}
@@ -0,0 +1,122 @@
+package com.ktb.chatapp.service.s3;
+
+import com.ktb.chatapp.dto.PresignedUploadResponse;
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.repository.FileRepository;
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class S3PresignServiceTest {
+
+    private static final String KEY = "uploads/1700000000000_0123456789abcdef.png";
+
+    @Mock
+    private S3Client s3Client;
+
+    @Mock
+    private S3FileService s3FileService;
+
+    @Mock
+    private FileRepository fileRepository;
+
+    private S3Presigner presigner;
+    private S3PresignService service;
+
+    @BeforeEach
+    void setUp() {
+        // 서명은 로컬 계산이므로 실제 Presigner 사용 (네트워크 호출 없음)
+        presigner = S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+                .endpointOverride(URI.create("http://localhost:9000"))
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+                .build();
+        service = new S3PresignService(s3Client, presigner, s3FileService, fileRepository,
+                "chat-bucket", "http://localhost:9000/chat-bucket", 300, 60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        presigner.close();
+    }
+
+    @Test
+    void presignUpload_signsKeyAndUploaderMetadata() {
+        PresignedUploadResponse response = service.presignUpload("photo.png", "image/png", 1024, "user-1");
+
+        assertTrue(response.key().startsWith("uploads/"));
+        assertTrue(response.uploadUrl().startsWith("http://localhost:9000/chat-bucket/" + response.key()));
+        assertEquals("PUT", response.method());
+        assertEquals("user-1", response.headers().get("x-amz-meta-uploader"));
+        assertEquals("image/png", response.headers().get("content-type"));
+    }
+
+    @Test
+    void presignUpload_rejectsDisallowedType() {
+        assertThrows(RuntimeException.class,
+                () -> service.presignUpload("run.exe", "application/x-msdownload", 1024, "user-1"));
+    }
+
+    @Test
+    void confirmUpload_rejectsForeignKey() {
+        assertThrows(RuntimeException.class, () -> service.confirmUpload("profiles/../secret.png", "user-1"));
+        verify(s3Client, never()).headObject(any(HeadObjectRequest.class));
+    }
+
+    @Test
+    void confirmUpload_rejectsUploaderMismatch() {
+        when(fileRepository.findByFilename("1700000000000_0123456789abcdef.png")).thenReturn(Optional.empty());
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(HeadObjectResponse.builder()
+                .contentType("image/png")
+                .contentLength(1024L)
+                .metadata(Map.of("uploader", "someone-else", "originalname", "photo.png"))
+                .build());
+
+        assertThrows(RuntimeException.class, () -> service.confirmUpload(KEY, "user-1"));
+        verify(fileRepository, never()).save(any());
+    }
+
+    @Test
+    void confirmUpload_savesFileFromObjectMetadata() {
+        when(fileRepository.findByFilename("1700000000000_0123456789abcdef.png")).thenReturn(Optional.empty());
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(HeadObjectResponse.builder()
+                .contentType("image/png")
+                .contentLength(1024L)
+                .metadata(Map.of("uploader", "user-1", "originalname", "%EC%82%AC%EC%A7%84.png"))
+                .build());
+        when(fileRepository.save(any(File.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        File file = service.confirmUpload(KEY, "user-1");
+
+        assertEquals("1700000000000_0123456789abcdef.png", file.getFilename());
+        assertEquals("사진.png", file.getOriginalname());
+        assertEquals(1024L, file.getSize());
+        assertEquals(KEY, file.getPath());
+        assertEquals("http://localhost:9000/chat-bucket/" + KEY, file.getUrl());
+        assertEquals("user-1", file.getUser());
+    }
+}
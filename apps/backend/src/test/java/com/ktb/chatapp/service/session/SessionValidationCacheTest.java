@@ -0,0 +1,128 @@
+package com.ktb.chatapp.service.session;
+
+import com.ktb.chatapp.service.SessionData;
+import com.ktb.chatapp.service.SessionValidationResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SessionValidationCacheTest {
+
+    @Mock private SessionInvalidationBus invalidationBus;
+
+    private SessionValidationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SessionValidationCache(invalidationBus, new SimpleMeterRegistry(), 60_000, 2);
+    }
+
+    private void cache(String userId, String sessionId) {
+        cache.put(userId, sessionId, valid(userId, sessionId), cache.generation(userId));
+    }
+
+    private static SessionValidationResult valid(String userId, String sessionId) {
+        return SessionValidationResult.valid(SessionData.builder().userId(userId).sessionId(sessionId).build());
+    }
+
+    @Test
+    @DisplayName("사용자 무효화는 해당 사용자의 세션만 제거하고 다른 노드로 발행")
+    void invalidateUser_removesOnlyThatUserAndPublishes() {
+        cache("u1", "s1");
+        cache("u2", "s2");
+
+        cache.invalidateUser("u1");
+
+        assertThat(cache.get("u1", "s1")).isNull();
+        assertThat(cache.get("u2", "s2")).isNotNull();
+        assertThat(cache.size()).isEqualTo(1);
+        verify(invalidationBus).publish("u1", null);
+    }
+
+    @Test
+    @DisplayName("상한에 이르면 새 항목을 저장하지 않음")
+    void put_skipsNewEntriesWhenFull() {
+        cache("u1", "s1");
+        cache("u2", "s2");
+        cache("u3", "s3");
+
+        assertThat(cache.get("u3", "s3")).isNull();
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회 중 무효화가 있었으면 결과를 저장하지 않음")
+    void put_skipsResultLoadedBeforeInvalidation() {
+        long loadGeneration = cache.generation("u1");
+        cache.invalidateUser("u1");
+
+        cache.put("u1", "s1", valid("u1", "s1"), loadGeneration);
+
+        assertThat(cache.get("u1", "s1")).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 무효화는 조회 중인 결과 저장을 막지 않음")
+    void put_keepsResultWhenOnlyAnotherUserWasInvalidated() {
+        long loadGeneration = cache.generation("u1");
+        cache.invalidateUser("u2"); // 예: u2 로그인으로 기존 세션 전체 제거
+        cache.invalidate("u3", "s3");
+
+        cache.put("u1", "s1", valid("u1", "s1"), loadGeneration);
+
+        assertThat(cache.get("u1", "s1")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("정리로 세대가 제거된 뒤에도 이전 세대로 조회한 결과는 저장하지 않음")
+    void put_skipsStaleResultAfterGenerationIsSwept() {
+        SessionValidationCache shortLived = new SessionValidationCache(invalidationBus, new SimpleMeterRegistry(), -1, 10);
+        shortLived.invalidateUser("u1");
+        long loadGeneration = shortLived.generation("u1");
+        shortLived.invalidateUser("u1");
+        shortLived.evictExpired();
+
+        shortLived.put("u1", "s1", valid("u1", "s1"), loadGeneration);
+
+        assertThat(shortLived.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료 항목은 스케줄러 정리 때 제거")
+    void evictExpired_removesExpiredEntries() {
+        SessionValidationCache shortLived = new SessionValidationCache(invalidationBus, new SimpleMeterRegistry(), -1, 10);
+        shortLived.put("u1", "s1", valid("u1", "s1"), shortLived.generation("u1"));
+        assertThat(shortLived.size()).isEqualTo(1);
+
+        shortLived.evictExpired();
+
+        assertThat(shortLived.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화는 다시 발행하지 않고 로컬에서만 제거")
+    @SuppressWarnings("unchecked")
+    void remoteInvalidation_evictsLocallyWithoutRepublishing() {
+        cache("u1", "s1");
+        cache.subscribe();
+        ArgumentCaptor<Consumer<SessionInvalidation>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(invalidationBus).subscribe(listener.capture());
+
+        listener.getValue().accept(new SessionInvalidation("other-node", "u1", "s1"));
+
+        assertThat(cache.get("u1", "s1")).isNull();
+        verify(invalidationBus, never()).publish(any(), any());
+    }
+}
@@ -0,0 +1,73 @@
+package com.ktb.chatapp.service.thumbnail;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Optional;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ThumbnailGeneratorTest {
+
+    @Test
+    void render_scalesLongestSideToVariantLimit() throws IOException {
+        BufferedImage source = new BufferedImage(1000, 500, BufferedImage.TYPE_INT_RGB);
+
+        Optional<byte[]> rendered = ThumbnailGenerator.render(source, ImageVariant.THUMBNAIL, "image/jpeg");
+
+        assertTrue(rendered.isPresent());
+        BufferedImage thumbnail = ThumbnailGenerator.read(rendered.get(), Long.MAX_VALUE);
+        assertEquals(200, thumbnail.getWidth());
+        assertEquals(100, thumbnail.getHeight());
+    }
+
+    @Test
+    void render_smallImage_isNotUpscaled() throws IOException {
+        BufferedImage source = new BufferedImage(120, 80, BufferedImage.TYPE_INT_ARGB);
+
+        assertTrue(ThumbnailGenerator.render(source, ImageVariant.THUMBNAIL, "image/png").isEmpty());
+    }
+
+    @Test
+    void read_rejectsImagesOverPixelLimit() throws IOException {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB), "png", png);
+
+        assertThrows(IOException.class, () -> ThumbnailGenerator.read(png.toByteArray(), 9_999));
+    }
+
+    @Test
+    void read_subsamplesLargeSourceButKeepsEnoughForLargestVariant() throws IOException {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(4000, 1000, BufferedImage.TYPE_INT_RGB), "png", png);
+
+        BufferedImage decoded = ThumbnailGenerator.read(png.toByteArray(), Long.MAX_VALUE,
+                ImageVariant.largestDimension());
+
+        assertEquals(2000, decoded.getWidth());
+        assertEquals(500, decoded.getHeight());
+        assertTrue(decoded.getWidth() >= 2 * ImageVariant.PREVIEW.maxDimension());
+    }
+
+    @Test
+    void read_doesNotSubsampleWhenSourceIsAlreadySmall() throws IOException {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(1500, 900, BufferedImage.TYPE_INT_RGB), "png", png);
+
+        BufferedImage decoded = ThumbnailGenerator.read(png.toByteArray(), Long.MAX_VALUE,
+                ImageVariant.largestDimension());
+
+        assertEquals(1500, decoded.getWidth());
+    }
+
+    @Test
+    void variant_fromKey() {
+        assertEquals(Optional.of(ImageVariant.PREVIEW), ImageVariant.fromKey("preview"));
+        assertTrue(ImageVariant.fromKey("original").isEmpty());
+        assertTrue(ImageVariant.fromKey(null).isEmpty());
+    }
+}
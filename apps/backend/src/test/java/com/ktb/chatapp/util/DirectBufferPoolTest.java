@@ -0,0 +1,63 @@
+package com.ktb.chatapp.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DirectBufferPoolTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DirectBufferPool pool;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pool = new DirectBufferPool("test", 8, 2, 10, meterRegistry);
+    }
+
+    @Test
+    void acquire_returnsDirectBufferAndReusesReleasedOne() throws Exception {
+        ByteBuffer first = pool.acquire();
+        first.put((byte) 1);
+        pool.release(first);
+
+        ByteBuffer second = pool.acquire();
+
+        assertTrue(second.isDirect());
+        assertSame(first, second);
+        assertEquals(0, second.position());
+        assertEquals(8, second.capacity());
+    }
+
+    @Test
+    void acquire_whenExhausted_failsAfterTimeout() throws Exception {
+        pool.acquire();
+        pool.acquire();
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, pool::acquire);
+        assertTrue(e.getMessage().contains("잠시 후"));
+        assertEquals(2.0, meterRegistry.get("buffers.direct.in_use").gauge().value());
+        assertEquals(16.0, meterRegistry.get("buffers.direct.allocated.bytes").gauge().value());
+    }
+
+    @Test
+    void asInputStream_readsRemainingBytesWithoutMovingBuffer() throws Exception {
+        ByteBuffer buffer = pool.acquire();
+        buffer.put(new byte[]{1, 2, 3}).flip();
+
+        try (InputStream in = DirectBufferPool.asInputStream(buffer)) {
+            assertArrayEquals(new byte[]{1, 2, 3}, in.readAllBytes());
+        }
+        // SDK 재시도처럼 다시 열어도 처음부터 읽힘
+        assertArrayEquals(new byte[]{1, 2, 3}, DirectBufferPool.asInputStream(buffer).readAllBytes());
+        assertEquals(0, buffer.position());
+    }
+}
@@ -0,0 +1,37 @@
+package com.ktb.chatapp.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileUtilSignatureTest {
+
+    @Test
+    void validateSignature_acceptsMatchingMagicNumbers() {
+        byte[] png = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0};
+        byte[] webp = {'R', 'I', 'F', 'F', 0, 0, 0, 0, 'W', 'E', 'B', 'P'};
+        byte[] mp4 = {0, 0, 0, 0x20, 'f', 't', 'y', 'p', 'i', 's', 'o', 'm'};
+
+        assertDoesNotThrow(() -> FileUtil.validateSignature("image/png", png, png.length));
+        assertDoesNotThrow(() -> FileUtil.validateSignature("image/webp", webp, webp.length));
+        assertDoesNotThrow(() -> FileUtil.validateSignature("video/mp4", mp4, mp4.length));
+    }
+
+    @Test
+    void validateSignature_rejectsDisguisedContent() {
+        byte[] html = "<html><script>".getBytes();
+
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> FileUtil.validateSignature("image/png", html, html.length));
+        assertTrue(e.getMessage().contains("형식"));
+    }
+
+    @Test
+    void validateSignature_rejectsTooShortHead() {
+        byte[] head = {(byte) 0xFF, (byte) 0xD8};
+
+        assertThrows(RuntimeException.class, () -> FileUtil.validateSignature("image/jpeg", head, head.length));
+    }
+}
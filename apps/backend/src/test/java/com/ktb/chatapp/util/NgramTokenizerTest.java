@@ -0,0 +1,41 @@
+package com.ktb.chatapp.util;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NgramTokenizerTest {
+
+    @Test
+    void normalize_lowercasesAndCollapsesWhitespace() {
+        assertEquals("project room", NgramTokenizer.normalize("  Project   ROOM "));
+        assertEquals("", NgramTokenizer.normalize(null));
+    }
+
+    @Test
+    void indexTokens_containsUnigramsAndBigrams() {
+        List<String> tokens = NgramTokenizer.indexTokens("AbC");
+        assertEquals(List.of("a", "b", "c", "ab", "bc"), tokens);
+    }
+
+    @Test
+    void indexTokens_skipsWhitespaceOnlyGrams() {
+        List<String> tokens = NgramTokenizer.indexTokens("a b");
+        assertEquals(List.of("a", "b", "a ", " b"), tokens);
+    }
+
+    @Test
+    void queryTokens_singleCharacterUsesUnigram() {
+        assertEquals(List.of("프"), NgramTokenizer.queryTokens("프"));
+    }
+
+    @Test
+    void queryTokens_areSubsetOfIndexTokensForSubstring() {
+        List<String> indexed = NgramTokenizer.indexTokens("주간 프로젝트 논의방");
+        List<String> query = NgramTokenizer.queryTokens("프로젝트");
+        assertEquals(List.of("프로", "로젝", "젝트"), query);
+        assertTrue(indexed.containsAll(query));
+    }
+}
@@ -0,0 +1,84 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.channel.DefaultEventLoop;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventLoopMonitorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DefaultEventLoop eventLoop;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        eventLoop = new DefaultEventLoop();
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventLoop.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    void probe_recordsSchedulingLagPerLoop() throws Exception {
+        EventLoopMonitor monitor = new EventLoopMonitor(null, meterRegistry, 100, false, 200);
+        monitor.register(eventLoop);
+        monitor.register(eventLoop);
+
+        monitor.probe();
+        drain();
+
+        assertThat(meterRegistry.get("socketio.eventloop.lag").tag("loop", "0").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void probe_inDebugMode_samplesBlockedLoopOnce() throws Exception {
+        EventLoopMonitor monitor = new EventLoopMonitor(null, meterRegistry, 100, true, 10);
+        monitor.register(eventLoop);
+        monitor.probe();
+        drain();
+
+        CountDownLatch release = new CountDownLatch(1);
+        eventLoop.execute(() -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        monitor.probe();
+        Thread.sleep(50);
+        monitor.probe();
+        monitor.probe();
+        release.countDown();
+
+        assertThat(meterRegistry.get("socketio.blocked.samples").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void handlerTracking_inDebugMode_samplesSlowHandler() throws Exception {
+        EventLoopMonitor monitor = new EventLoopMonitor(null, meterRegistry, 100, true, 10);
+
+        Thread tracked = monitor.handlerStarted("chatMessage");
+        Thread.sleep(30);
+        monitor.probe();
+        monitor.handlerFinished(tracked);
+        monitor.probe();
+
+        assertThat(meterRegistry.get("socketio.blocked.samples").counter().count()).isEqualTo(1.0);
+    }
+
+    /**
+     * 이벤트 루프는 작업을 순서대로 실행하므로, 뒤에 넣은 작업이 끝나면 앞선 탐침도 실행된 상태
+     */
+    private void drain() throws Exception {
+        eventLoop.submit(() -> { }).get(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,76 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.model.MessageType;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalRoomMessageLogTest {
+
+    private final LocalRoomMessageLog log = new LocalRoomMessageLog(3);
+
+    @Test
+    void nextSeq_increasesPerRoom() {
+        assertThat(log.nextSeq("room1")).isEqualTo(1);
+        assertThat(log.nextSeq("room1")).isEqualTo(2);
+        assertThat(log.nextSeq("room2")).isEqualTo(1);
+    }
+
+    @Test
+    void since_returnsOnlyMessagesAfterLastSeq() {
+        appendMessages("room1", 3);
+
+        assertThat(log.since("room1", 1)).hasValueSatisfying(gap ->
+                assertThat(gap).extracting(MessageResponse::seq).containsExactly(2L, 3L));
+        assertThat(log.since("room1", 3)).hasValue(List.of());
+    }
+
+    @Test
+    void since_isEmptyWhenGapIsOlderThanCache() {
+        appendMessages("room1", 5);
+
+        assertThat(log.since("room1", 1)).isEmpty();
+        assertThat(log.since("room1", 2)).hasValueSatisfying(gap ->
+                assertThat(gap).extracting(MessageResponse::seq).containsExactly(3L, 4L, 5L));
+    }
+
+    @Test
+    void since_isEmptyWhenClientIsAheadOfSequence() {
+        appendMessages("room1", 2);
+
+        assertThat(log.since("room1", 10)).isEmpty();
+        assertThat(log.since("unknown-room", 4)).isEmpty();
+        assertThat(log.since("unknown-room", 0)).hasValue(List.of());
+    }
+
+    @Test
+    void since_isEmptyWhenSequenceIsIssuedButNotYetAppended() {
+        appendMessages("room1", 2);
+        log.nextSeq("room1");
+
+        assertThat(log.since("room1", 1)).isEmpty();
+    }
+
+    @Test
+    void coversGap_requiresContiguousRunThroughCurrentSeq() {
+        assertThat(RoomMessageLog.coversGap(1, 3, List.of(message(2), message(3)))).isTrue();
+        assertThat(RoomMessageLog.coversGap(1, 4, List.of(message(2), message(4)))).isFalse();
+        assertThat(RoomMessageLog.coversGap(1, 4, List.of(message(2), message(3)))).isFalse();
+        assertThat(RoomMessageLog.coversGap(3, 3, List.of())).isTrue();
+    }
+
+    private static MessageResponse message(long seq) {
+        return new MessageResponse("m" + seq, "content " + seq, null, MessageType.text,
+                null, seq, Map.of(), List.of(), seq);
+    }
+
+    private void appendMessages(String roomId, int count) {
+        for (int i = 0; i < count; i++) {
+            long seq = log.nextSeq(roomId);
+            log.append(roomId, message(seq));
+        }
+    }
+}
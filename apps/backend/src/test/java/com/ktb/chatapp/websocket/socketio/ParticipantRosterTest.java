@@ -0,0 +1,125 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.ktb.chatapp.dto.ParticipantsSnapshotResponse;
+import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.model.User;
+import com.ktb.chatapp.repository.RoomRepository;
+import com.ktb.chatapp.repository.UserRepository;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ParticipantRosterTest {
+
+    private static final String ROOM_ID = "room1";
+
+    @Mock private RoomRepository roomRepository;
+    @Mock private UserRepository userRepository;
+
+    private ParticipantRoster roster;
+
+    @BeforeEach
+    void setUp() {
+        roster = new ParticipantRoster(roomRepository, userRepository);
+
+        when(roomRepository.findById(ROOM_ID)).thenReturn(Optional.of(room(3)));
+        when(userRepository.findAllById(any())).thenReturn(List.of(user("u1")));
+    }
+
+    @Test
+    void applyAdded_nextVersionIsAppliedWithoutReload() {
+        roster.snapshot(ROOM_ID);
+
+        roster.applyAdded(ROOM_ID, 4, UserResponse.from(user("u2")));
+        ParticipantsSnapshotResponse snapshot = roster.snapshot(ROOM_ID).orElseThrow();
+
+        assertEquals(4, snapshot.version());
+        assertEquals(List.of("u1", "u2"), snapshot.participants().stream().map(UserResponse::id).toList());
+        verify(roomRepository, times(1)).findById(ROOM_ID);
+    }
+
+    @Test
+    void applyAdded_sameVersionIsIdempotent() {
+        roster.snapshot(ROOM_ID);
+
+        roster.applyAdded(ROOM_ID, 3, UserResponse.from(user("u1")));
+
+        assertEquals(1, roster.snapshot(ROOM_ID).orElseThrow().participants().size());
+        verify(roomRepository, times(1)).findById(ROOM_ID);
+    }
+
+    @Test
+    void applyRemoved_versionGapDropsRosterAndReloads() {
+        roster.snapshot(ROOM_ID);
+
+        roster.applyRemoved(ROOM_ID, 6, "u1");
+        roster.snapshot(ROOM_ID);
+
+        verify(roomRepository, times(2)).findById(ROOM_ID);
+    }
+
+    @Test
+    void load_doesNotOverwriteNewerRosterLoadedConcurrently() {
+        Room newer = new Room();
+        newer.setId(ROOM_ID);
+        newer.setParticipantIds(new HashSet<>(Set.of("u1", "u2")));
+        newer.setParticipantsVersion(4);
+        when(roomRepository.findById(ROOM_ID)).thenReturn(Optional.of(room(3)), Optional.of(newer));
+        // 첫 로드가 참여자를 조회하는 사이 다른 요청이 v4를 로드해 저장
+        when(userRepository.findAllById(any()))
+                .thenAnswer(invocation -> {
+                    roster.snapshot(ROOM_ID);
+                    return List.of(user("u1"));
+                })
+                .thenReturn(List.of(user("u1"), user("u2")));
+
+        ParticipantsSnapshotResponse snapshot = roster.snapshot(ROOM_ID).orElseThrow();
+
+        assertEquals(4, snapshot.version());
+        assertEquals(4, roster.snapshot(ROOM_ID).orElseThrow().version());
+        verify(roomRepository, times(2)).findById(ROOM_ID);
+    }
+
+    @Test
+    void evictExpired_removesRostersPastTtl() {
+        roster.snapshot(ROOM_ID);
+
+        roster.evictExpired(System.currentTimeMillis());
+        roster.snapshot(ROOM_ID);
+        verify(roomRepository, times(1)).findById(ROOM_ID);
+
+        roster.evictExpired(System.currentTimeMillis() + ParticipantRoster.ROSTER_TTL_MS + 1);
+        roster.snapshot(ROOM_ID);
+        verify(roomRepository, times(2)).findById(ROOM_ID);
+    }
+
+    private Room room(long version) {
+        Room room = new Room();
+        room.setId(ROOM_ID);
+        room.setParticipantIds(new HashSet<>(Set.of("u1")));
+        room.setParticipantsVersion(version);
+        return room;
+    }
+
+    private User user(String id) {
+        User user = new User();
+        user.setId(id);
+        user.setName("name-" + id);
+        user.setEmail(id + "@example.com");
+        return user;
+    }
+}
@@ -0,0 +1,103 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.BroadcastOperations;
+import com.corundumstudio.socketio.protocol.JacksonJsonSupport;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ktb.chatapp.pubsub.RedisStoreFactory;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class PreEncodedPayloadTest {
+
+    @Test
+    void serialize_encodesOnceForEveryRecipientAndRelay() throws Exception {
+        CountingPayload value = new CountingPayload("안녕하세요");
+        PreEncodedPayload payload = PreEncodedPayload.of(value);
+        JacksonJsonSupport socketJson = new JacksonJsonSupport(new JavaTimeModule());
+
+        String first = writeWithSocketJson(socketJson, List.of("message", payload));
+        String second = writeWithSocketJson(socketJson, List.of("message", payload));
+        String relayed = RedisStoreFactory.socketJsonMapper().writeValueAsString(Map.of("args", List.of(payload)));
+
+        assertThat(value.reads.get()).isEqualTo(1);
+        assertThat(first).isEqualTo("[\"message\",{\"content\":\"안녕하세요\"}]").isEqualTo(second);
+        assertThat(relayed).isEqualTo("{\"args\":[{\"content\":\"안녕하세요\"}]}");
+    }
+
+    @Test
+    void serialize_matchesSocketJsonOutput() throws Exception {
+        Map<String, Object> message = Map.of(
+                "timestamp", LocalDateTime.of(2024, 5, 1, 12, 30),
+                "reactions", Map.of("👍", List.of("user1")));
+        JacksonJsonSupport socketJson = new JacksonJsonSupport(new JavaTimeModule());
+
+        assertThat(writeWithSocketJson(socketJson, List.of("message", PreEncodedPayload.of(message))))
+                .isEqualTo(writeWithSocketJson(socketJson, List.of("message", message)));
+    }
+
+    @Test
+    void wrap_leavesScalarsAndExistingPayloads() {
+        PreEncodedPayload existing = PreEncodedPayload.of(Map.of("a", 1));
+
+        Object[] wrapped = PreEncodedPayload.wrap("text", 3, null, existing, Map.of("b", 2));
+
+        assertThat(wrapped[0]).isEqualTo("text");
+        assertThat(wrapped[1]).isEqualTo(3);
+        assertThat(wrapped[2]).isNull();
+        assertThat(wrapped[3]).isSameAs(existing);
+        assertThat(wrapped[4]).isInstanceOf(PreEncodedPayload.class);
+        assertThat(((PreEncodedPayload) wrapped[4]).json()).isEqualTo("{\"b\":2}");
+    }
+
+    @Test
+    void roomOperations_wrapBroadcastArguments() {
+        BroadcastOperations delegate = mock(BroadcastOperations.class);
+        Map<String, Object> response = Map.of("content", "hi");
+
+        new PreEncodedBroadcastOperations(delegate).sendEvent("message", response);
+
+        ArgumentCaptor<Object> args = ArgumentCaptor.forClass(Object.class);
+        verify(delegate).sendEvent(eq("message"), args.capture());
+        assertThat(args.getValue()).isInstanceOf(PreEncodedPayload.class);
+        assertThat(((PreEncodedPayload) args.getValue()).value()).isSameAs(response);
+    }
+
+    private String writeWithSocketJson(JacksonJsonSupport socketJson, Object value) throws Exception {
+        ByteBuf buf = Unpooled.buffer();
+        try {
+            socketJson.writeValue(new ByteBufOutputStream(buf), value);
+            return buf.toString(StandardCharsets.UTF_8);
+        } finally {
+            buf.release();
+        }
+    }
+
+    static class CountingPayload {
+
+        private final String content;
+        private final AtomicInteger reads = new AtomicInteger();
+
+        CountingPayload(String content) {
+            this.content = content;
+        }
+
+        public String getContent() {
+            reads.incrementAndGet();
+            return content;
+        }
+    }
+
+}
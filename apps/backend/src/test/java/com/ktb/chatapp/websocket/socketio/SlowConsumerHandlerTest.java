@@ -0,0 +1,123 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlowConsumerHandlerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SlowConsumerHandler handler;
+    private EmbeddedChannel channel;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        SlowConsumerGuard guard = new SlowConsumerGuard(meterRegistry,
+                Set.of("typing"), Set.of("aiMessageChunk"), DataSize.ofBytes(512));
+        handler = guard.newHandler();
+        channel = new EmbeddedChannel(handler);
+    }
+
+    @Test
+    void write_passesThroughWhileWritable() {
+        channel.writeAndFlush(frame("42[\"message\",{\"content\":\"hi\"}]"));
+
+        assertThat(readText()).isEqualTo("42[\"message\",{\"content\":\"hi\"}]");
+        assertThat(handler.queuedFrames()).isZero();
+    }
+
+    @Test
+    void write_buffersWhileUnwritableAndDrainsInOrder() {
+        setWritable(false);
+        channel.writeAndFlush(frame("42[\"message\",{\"content\":\"1\"}]"));
+        channel.writeAndFlush(frame("42[\"message\",{\"content\":\"2\"}]"));
+
+        assertThat((Object) channel.readOutbound()).isNull();
+        assertThat(handler.queuedFrames()).isEqualTo(2);
+        assertThat(meterRegistry.get("socketio.outbound.slow").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("socketio.outbound.slow.active").gauge().value()).isEqualTo(1.0);
+
+        setWritable(true);
+
+        assertThat(readText()).isEqualTo("42[\"message\",{\"content\":\"1\"}]");
+        assertThat(readText()).isEqualTo("42[\"message\",{\"content\":\"2\"}]");
+        assertThat(handler.queuedBytes()).isZero();
+        assertThat(meterRegistry.get("socketio.outbound.slow.active").gauge().value()).isZero();
+    }
+
+    @Test
+    void write_coalescesChunksPerStreamAndDropsLossyEvents() {
+        setWritable(false);
+        String older = "42[\"aiMessageChunk\",{\"messageId\":\"ai-1\",\"fullContent\":\"안\"}]";
+        channel.writeAndFlush(frame(older));
+        channel.writeAndFlush(frame("42[\"aiMessageChunk\",{\"messageId\":\"ai-2\",\"fullContent\":\"A\"}]"));
+        channel.writeAndFlush(frame("42[\"typing\",{\"userId\":\"u1\"}]"));
+        channel.writeAndFlush(frame("42[\"aiMessageChunk\",{\"messageId\":\"ai-1\",\"fullContent\":\"안녕\"}]"));
+
+        setWritable(true);
+
+        assertThat(readText()).contains("ai-2");
+        assertThat(readText()).contains("안녕");
+        assertThat((Object) channel.readOutbound()).isNull();
+        assertThat(droppedBytes("coalesce")).isEqualTo(older.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(droppedBytes("drop")).isEqualTo(28.0);
+    }
+
+    @Test
+    void write_disconnectsWhenQueuedBytesExceedLimit() {
+        setWritable(false);
+        String payload = "42[\"message\",{\"content\":\"" + "x".repeat(200) + "\"}]";
+        channel.writeAndFlush(frame(payload));
+        channel.writeAndFlush(frame(payload));
+        channel.writeAndFlush(frame(payload));
+        channel.runPendingTasks();
+
+        assertThat(channel.isOpen()).isFalse();
+        assertThat(handler.queuedFrames()).isZero();
+        assertThat(meterRegistry.get("socketio.outbound.disconnects").counter().count()).isEqualTo(1.0);
+        assertThat(droppedBytes("disconnect")).isGreaterThan(512.0);
+    }
+
+    @Test
+    void eventName_readsSocketIoEventPackets() {
+        assertThat(SlowConsumerHandler.eventName(Unpooled.copiedBuffer("42[\"aiMessageChunk\",{}]", StandardCharsets.UTF_8)))
+                .isEqualTo("aiMessageChunk");
+        assertThat(SlowConsumerHandler.eventName(Unpooled.copiedBuffer("42/chat,7[\"message\"]", StandardCharsets.UTF_8)))
+                .isEqualTo("message");
+        assertThat(SlowConsumerHandler.eventName(Unpooled.copiedBuffer("3", StandardCharsets.UTF_8))).isNull();
+        assertThat(SlowConsumerHandler.eventName(Unpooled.copiedBuffer("43[{\"ok\":true}]", StandardCharsets.UTF_8))).isNull();
+    }
+
+    private void setWritable(boolean writable) {
+        channel.unsafe().outboundBuffer().setUserDefinedWritability(1, writable);
+        // writability 변경 이벤트는 이벤트 루프 작업으로 전달된다
+        channel.runPendingTasks();
+    }
+
+    private TextWebSocketFrame frame(String text) {
+        return new TextWebSocketFrame(text);
+    }
+
+    private String readText() {
+        TextWebSocketFrame frame = channel.readOutbound();
+        assertThat(frame).isNotNull();
+        try {
+            return frame.text();
+        } finally {
+            frame.release();
+        }
+    }
+
+    private double droppedBytes(String policy) {
+        return meterRegistry.get("socketio.outbound.dropped.bytes").tag("policy", policy).counter().count();
+    }
+}
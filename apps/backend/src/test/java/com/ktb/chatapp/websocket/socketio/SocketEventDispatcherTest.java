@@ -0,0 +1,181 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SocketEventDispatcherTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SocketEventDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        EventLoopMonitor monitor = new EventLoopMonitor(null, meterRegistry, 100, false, 200);
+        dispatcher = new SocketEventDispatcher(meterRegistry, monitor, true, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void dispatch_runsEventsOfOneSocketInArrivalOrder() throws Exception {
+        SocketIOClient client = client();
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+
+        for (int i = 0; i < 3; i++) {
+            int index = i;
+            dispatcher.dispatch(client, "chatMessage", () -> {
+                sleep(index == 0 ? 50 : 0);
+                order.add(index);
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(order).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void dispatch_slowSocketDoesNotBlockOtherSockets() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch fastDone = new CountDownLatch(1);
+
+        dispatcher.dispatch(client(), "fetchPreviousMessages", () -> await(release));
+        dispatcher.dispatch(client(), "chatMessage", fastDone::countDown);
+
+        assertThat(fastDone.await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+    }
+
+    @Test
+    void dispatch_dropsEventsBeyondPerSocketLimit() throws Exception {
+        SocketIOClient client = client();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        dispatcher.dispatch(client, "joinRoom", () -> {
+            started.countDown();
+            await(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        for (int i = 0; i < 6; i++) {
+            dispatcher.dispatch(client, "chatMessage", () -> { });
+        }
+
+        assertThat(meterRegistry.get("socketio.dispatch.rejected").counter().count()).isEqualTo(2.0);
+        release.countDown();
+    }
+
+    @Test
+    void dispatchDisconnect_releasesSocketQueueAfterPendingEvents() throws Exception {
+        SocketIOClient client = client();
+        List<String> order = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        dispatcher.dispatch(client, "leaveRoom", () -> order.add("leaveRoom"));
+        dispatcher.dispatchDisconnect(client, "disconnect", () -> {
+            order.add("disconnect");
+            done.countDown();
+        });
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(order).containsExactly("leaveRoom", "disconnect");
+        Thread.sleep(50);
+        assertThat(dispatcher.activeSockets()).isZero();
+    }
+
+    @Test
+    void dispatchDisconnect_runsEvenWhenSocketQueueIsFull() throws Exception {
+        SocketIOClient client = client();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch disconnected = new CountDownLatch(1);
+        dispatcher.dispatch(client, "joinRoom", () -> {
+            started.countDown();
+            await(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 4; i++) {
+            dispatcher.dispatch(client, "chatMessage", () -> { });
+        }
+
+        dispatcher.dispatchDisconnect(client, "disconnect", disconnected::countDown);
+        release.countDown();
+
+        assertThat(disconnected.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("socketio.dispatch.rejected").counter().count()).isZero();
+        Thread.sleep(50);
+        assertThat(dispatcher.activeSockets()).isZero();
+    }
+
+    @Test
+    void dispatch_lateEventAfterDisconnectDoesNotRecreateSocketQueue() throws Exception {
+        SocketIOClient client = client();
+        CountDownLatch disconnected = new CountDownLatch(1);
+        dispatcher.dispatchDisconnect(client, "disconnect", disconnected::countDown);
+        assertThat(disconnected.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(50);
+        when(client.isChannelOpen()).thenReturn(false);
+
+        List<String> handled = new CopyOnWriteArrayList<>();
+        dispatcher.dispatch(client, "chatMessage", () -> handled.add("chatMessage"));
+
+        Thread.sleep(50);
+        assertThat(handled).isEmpty();
+        assertThat(dispatcher.activeSockets()).isZero();
+    }
+
+    @Test
+    void dispatch_reusesTimersPerEvent() throws Exception {
+        SocketIOClient client = client();
+        CountDownLatch done = new CountDownLatch(3);
+        for (int i = 0; i < 3; i++) {
+            dispatcher.dispatch(client, "chatMessage", done::countDown);
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(50);
+        assertThat(meterRegistry.get("socketio.dispatch.queue.latency").tag("event", "chatMessage")
+                .timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("socketio.dispatch.handler.duration").timers()).hasSize(1);
+    }
+
+    private SocketIOClient client() {
+        SocketIOClient client = mock(SocketIOClient.class);
+        when(client.getSessionId()).thenReturn(UUID.randomUUID());
+        when(client.isChannelOpen()).thenReturn(true);
+        return client;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
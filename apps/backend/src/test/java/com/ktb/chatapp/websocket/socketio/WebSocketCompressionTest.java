@@ -0,0 +1,90 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.SocketIOChannelInitializer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtension;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionData;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebSocketCompressionTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private WebSocketCompression compression;
+    private EmbeddedChannel channel;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        compression = new WebSocketCompression(true, 6, 1024, 15, false, meterRegistry);
+        channel = new EmbeddedChannel();
+        channel.pipeline().addLast(SocketIOChannelInitializer.WEB_SOCKET_TRANSPORT, new ChannelOutboundHandlerAdapter());
+        compression.install(channel.pipeline());
+        // 핸드셰이크 성공 시 확장 핸들러가 하는 것처럼 압축 인코더를 바로 뒤에 추가
+        channel.pipeline().addAfter(SocketIOChannelInitializer.WEB_SOCKET_TRANSPORT_COMPRESSION, "deflateEncoder",
+                compression.handshaker()
+                        .handshakeExtension(new WebSocketExtensionData("permessage-deflate", Map.of()))
+                        .newExtensionEncoder());
+    }
+
+    @Test
+    void install_placesProbesAroundExtensionHandler() {
+        assertThat(channel.pipeline().names()).containsSubsequence(
+                WebSocketCompression.METRICS_AFTER,
+                SocketIOChannelInitializer.WEB_SOCKET_TRANSPORT_COMPRESSION,
+                "deflateEncoder",
+                WebSocketCompression.METRICS_BEFORE,
+                SocketIOChannelInitializer.WEB_SOCKET_TRANSPORT);
+    }
+
+    @Test
+    void write_compressesLargeFramesAndRecordsRatio() {
+        String participants = "42[\"participantsUpdate\",[" +
+                "{\"_id\":\"user\",\"name\":\"참가자\",\"email\":\"user@example.com\",\"profileImage\":\"\"},".repeat(60) +
+                "{}]]";
+        int original = new TextWebSocketFrame(participants).content().readableBytes();
+
+        channel.writeOutbound(new TextWebSocketFrame(participants));
+
+        TextWebSocketFrame sent = channel.readOutbound();
+        assertThat(sent.rsv() & WebSocketExtension.RSV1).isNotZero();
+        assertThat(sent.content().readableBytes()).isLessThan(original / 4);
+        sent.release();
+        assertThat(bytes("original")).isEqualTo(original);
+        assertThat(bytes("compressed")).isLessThan(original / 4.0);
+        assertThat(meterRegistry.get("socketio.compression.ratio").summary().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("socketio.compression.time").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void write_sendsSmallFramesUncompressed() {
+        channel.writeOutbound(new TextWebSocketFrame("42[\"message\",{\"content\":\"hi\"}]"));
+
+        TextWebSocketFrame sent = channel.readOutbound();
+        assertThat(sent.rsv()).isZero();
+        assertThat(sent.text()).isEqualTo("42[\"message\",{\"content\":\"hi\"}]");
+        sent.release();
+        assertThat(meterRegistry.get("socketio.compression.skipped").counter().count()).isEqualTo(1.0);
+        assertThat(bytes("original")).isZero();
+    }
+
+    @Test
+    void install_skippedWhenDisabled() {
+        EmbeddedChannel plain = new EmbeddedChannel();
+        plain.pipeline().addLast(SocketIOChannelInitializer.WEB_SOCKET_TRANSPORT, new ChannelOutboundHandlerAdapter());
+
+        new WebSocketCompression(false, 6, 1024, 15, false, meterRegistry).install(plain.pipeline());
+
+        assertThat(plain.pipeline().get(SocketIOChannelInitializer.WEB_SOCKET_TRANSPORT_COMPRESSION)).isNull();
+    }
+
+    private double bytes(String stage) {
+        return meterRegistry.get("socketio.compression.bytes").tag("stage", stage).counter().count();
+    }
+}
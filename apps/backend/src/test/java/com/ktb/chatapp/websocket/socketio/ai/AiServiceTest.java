@@ -0,0 +1,76 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.event.AiMessageCompleteEvent;
+import com.ktb.chatapp.event.AiMessageSavedEvent;
+import com.ktb.chatapp.model.AiType;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.repository.FileRepository;
+import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.websocket.socketio.LocalRoomMessageLog;
+import com.ktb.chatapp.websocket.socketio.RoomMessageLog;
+import com.ktb.chatapp.websocket.socketio.handler.MessageResponseMapper;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AiServiceTest {
+
+    @Mock private ChatClient.Builder chatClientBuilder;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private MessageRepository messageRepository;
+    @Mock private FileRepository fileRepository;
+
+    private LocalRoomMessageLog roomMessageLog;
+    private AiService aiService;
+
+    @BeforeEach
+    void setUp() {
+        roomMessageLog = new LocalRoomMessageLog(10);
+        aiService = new AiService(chatClientBuilder, eventPublisher, messageRepository, roomMessageLog,
+                new MessageResponseMapper(fileRepository));
+    }
+
+    @Test
+    void completedAiMessageBetweenChatMessagesIsPartOfResumeGap() {
+        when(messageRepository.save(any(Message.class))).thenAnswer(invocation -> {
+            Message message = invocation.getArgument(0);
+            message.setId("ai1");
+            return message;
+        });
+        appendChatMessage(); // 클라이언트가 마지막으로 받은 메시지 (seq 1)
+
+        aiService.onAiMessageCompleteEvent(new AiMessageCompleteEvent(this, "room1", "wayneAI-1",
+                "answer", AiType.WAYNE_AI, System.currentTimeMillis(), "question", 10L));
+        appendChatMessage();
+
+        ArgumentCaptor<AiMessageSavedEvent> saved = ArgumentCaptor.forClass(AiMessageSavedEvent.class);
+        verify(eventPublisher).publishEvent(saved.capture());
+        assertThat(saved.getValue().getSeq()).isEqualTo(2L);
+        List<MessageResponse> missed = roomMessageLog.since("room1", 1L).orElseThrow();
+        assertThat(missed).extracting(MessageResponse::type)
+                .containsExactly(MessageType.ai, MessageType.text);
+        assertThat(missed.get(0).id()).isEqualTo("ai1");
+        assertThat(RoomMessageLog.coversGap(1L, 3L, missed)).isTrue();
+    }
+
+    private void appendChatMessage() {
+        long seq = roomMessageLog.nextSeq("room1");
+        roomMessageLog.append("room1", new MessageResponse("m" + seq, "hi", null, MessageType.text,
+                null, seq, Map.of(), List.of(), seq));
+    }
+}
@@ -0,0 +1,108 @@
+package com.ktb.chatapp.websocket.socketio.ephemeral;
+
+import com.corundumstudio.socketio.BroadcastOperations;
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.dto.TypingSignal;
+import com.ktb.chatapp.websocket.socketio.PreEncodedPayload;
+import com.ktb.chatapp.websocket.socketio.SocketUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.USER_TYPING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EphemeralSignalHubTest {
+
+    private static final String ROOM_ID = "room1";
+
+    @Mock private SocketIOServer socketIOServer;
+    @Mock private BroadcastOperations roomOperations;
+    @Mock private EphemeralSignalRelay relay;
+    @Mock private SocketIOClient sender;
+    @Mock private SocketIOClient other;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EphemeralSignalHub hub;
+
+    @BeforeEach
+    void setUp() {
+        hub = new EphemeralSignalHub(socketIOServer, relay, meterRegistry, 60_000, 2);
+        lenient().when(socketIOServer.getRoomOperations(ROOM_ID)).thenReturn(roomOperations);
+        lenient().when(roomOperations.getClients()).thenReturn(List.of(sender, other));
+        lenient().when(sender.get("user")).thenReturn(new SocketUser("u1", "kim", "s1", "sock1"));
+        lenient().when(other.get("user")).thenReturn(new SocketUser("u2", "lee", "s2", "sock2"));
+    }
+
+    @Test
+    void flush_sendsLatestStateToOtherParticipantsAndPublishesOnce() {
+        hub.submit(signal("u1", true));
+        hub.submit(signal("u1", false));
+
+        hub.flush();
+
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(other).sendEvent(eq(USER_TYPING), payload.capture());
+        verify(sender, never()).sendEvent(anyString(), any());
+        assertThat(((PreEncodedPayload) payload.getValue()).value()).isEqualTo(signal("u1", false));
+        verify(relay).publish(List.of(signal("u1", false)));
+        assertThat(count("coalesced")).isEqualTo(1);
+    }
+
+    @Test
+    void submit_sameStateWithinIntervalIsRateLimited() {
+        hub.submit(signal("u1", true));
+        hub.flush();
+        hub.submit(signal("u1", true));
+        hub.flush();
+
+        verify(relay).publish(List.of(signal("u1", true)));
+        assertThat(count("accepted")).isEqualTo(1);
+        assertThat(count("rate_limited")).isEqualTo(1);
+    }
+
+    @Test
+    void submit_newKeysBeyondMaxPendingAreDropped() {
+        hub.submit(signal("u1", true));
+        hub.submit(signal("u2", true));
+        hub.submit(signal("u3", true));
+
+        assertThat(count("dropped")).isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void remoteBatch_isDeliveredLocallyWithoutRepublishing() {
+        hub.subscribe();
+        ArgumentCaptor<Consumer<List<TypingSignal>>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(relay).subscribe(listener.capture());
+
+        listener.getValue().accept(List.of(signal("u9", true)));
+
+        verify(sender).sendEvent(eq(USER_TYPING), any(PreEncodedPayload.class));
+        verify(other).sendEvent(eq(USER_TYPING), any(PreEncodedPayload.class));
+        verify(relay, never()).publish(any());
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("socketio.ephemeral.signals", "result", result).count();
+    }
+
+    private static TypingSignal signal(String userId, boolean typing) {
+        return new TypingSignal(ROOM_ID, userId, userId, typing);
+    }
+}
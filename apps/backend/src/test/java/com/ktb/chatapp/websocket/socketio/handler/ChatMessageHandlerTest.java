@@ -13,6 +13,7 @@ import com.ktb.chatapp.repository.FileRepository;
 import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.RoomRepository;
 import com.ktb.chatapp.util.BannedWordChecker;
+import com.ktb.chatapp.websocket.socketio.LocalRoomMessageLog;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import com.ktb.chatapp.websocket.socketio.ai.AiService;
 import com.ktb.chatapp.service.CacheService;
@@ -20,20 +21,20 @@ import com.ktb.chatapp.service.SessionService;
 import com.ktb.chatapp.service.SessionValidationResult;
 import com.ktb.chatapp.service.RateLimitService;
 import com.ktb.chatapp.service.RateLimitCheckResult;
-import com.ktb.chatapp.pubsub.RedisPubSubService;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
 import java.util.*;
 
-import static com.ktb.chatapp.pubsub.RedisBroadcastMessage.EVENT_MESSAGE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -51,7 +52,6 @@ class ChatMessageHandlerTest {
     @Mock private RateLimitService rateLimitService;
     @Mock private MessageRepository messageRepository;
     @Mock private RoomRepository roomRepository;
-    @Mock private RedisPubSubService redisPubSubService;
 
     @Mock private SocketIOClient client;
     @Mock private BroadcastOperations broadcastOperations;
@@ -67,7 +67,8 @@ class ChatMessageHandlerTest {
         chatMessageHandler = new ChatMessageHandler(
                 socketIOServer, cacheService, fileRepository,
                 aiService, sessionService, bannedWordChecker, rateLimitService,
-                meterRegistry, messageRepository, roomRepository, redisPubSubService
+                meterRegistry, messageRepository, roomRepository, new LocalRoomMessageLog(200),
+                new MessageResponseMapper(fileRepository)
         );
     }
 
@@ -111,8 +112,9 @@ class ChatMessageHandlerTest {
         chatMessageHandler.handleChatMessage(client, request);
 
         // then
-        verify(broadcastOperations).sendEvent(eq("message"), any(MessageResponse.class));
-        verify(redisPubSubService).publish(eq(EVENT_MESSAGE), eq(roomId), any(MessageResponse.class));
+        ArgumentCaptor<MessageResponse> broadcast = ArgumentCaptor.forClass(MessageResponse.class);
+        verify(broadcastOperations).sendEvent(eq("message"), broadcast.capture());
+        assertEquals(1L, broadcast.getValue().seq());
         verify(messageRepository).save(any());
     }
 
@@ -124,7 +126,7 @@ class ChatMessageHandlerTest {
 
         // then
         verify(client).sendEvent(eq("error"), any(Map.class));
-        verifyNoInteractions(redisPubSubService);
+        verifyNoInteractions(broadcastOperations);
     }
 
     @Test
@@ -140,7 +142,7 @@ class ChatMessageHandlerTest {
 
         // then
         verify(client).sendEvent(eq("error"), any(Map.class));
-        verifyNoInteractions(redisPubSubService);
+        verifyNoInteractions(broadcastOperations);
     }
 
     @Test
@@ -180,6 +182,6 @@ class ChatMessageHandlerTest {
 
         // then
         verify(client).sendEvent(eq("error"), any(Map.class));
-        verifyNoInteractions(redisPubSubService);
+        verifyNoInteractions(broadcastOperations);
     }
 }
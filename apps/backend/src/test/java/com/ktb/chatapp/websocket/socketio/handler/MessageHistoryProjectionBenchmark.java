@@ -0,0 +1,157 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.ktb.chatapp.config.MongoTestContainer;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.repository.MessageRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대형 방 채팅 기록 조회: 전체 엔티티 vs projection 비교 벤치마크
+ * 기본 테스트 실행에서는 제외되며 다음과 같이 실행한다.
+ * mvn test -Dtest=MessageHistoryProjectionBenchmark -Dbenchmark=true
+ */
+@SpringBootTest
+@Import(MongoTestContainer.class)
+@TestPropertySource(properties = {
+        "spring.data.mongodb.auto-index-creation=true",
+        "socketio.enabled=false"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class MessageHistoryProjectionBenchmark {
+
+    private static final String ROOM_ID = "benchmark-room";
+    private static final int MESSAGES = 3_000;
+    private static final int READERS_PER_MESSAGE = 500;
+    private static final int PAGE_SIZE = 30;
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 300;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime base = LocalDateTime.now().minusDays(1);
+        List<Message> messages = IntStream.range(0, MESSAGES)
+                .mapToObj(i -> largeRoomMessage(base.plusSeconds(i)))
+                .toList();
+        mongoTemplate.insertAll(messages);
+    }
+
+    @AfterEach
+    void tearDown() {
+        messageRepository.deleteAll();
+    }
+
+    @Test
+    void compareFullEntityAndProjectionReads() {
+        LocalDateTime before = LocalDateTime.now();
+        Query fullQuery = historyQuery(before);
+        PageRequest page = PageRequest.of(0, PAGE_SIZE, Sort.by("timestamp").descending());
+
+        long fullBytes = wireBytes(fullQuery, null);
+        long projectedBytes = wireBytes(historyQuery(before), Document.parse(MessageRepository.HISTORY_FIELDS));
+
+        double fullMicros = measure(() -> mongoTemplate.find(fullQuery, Message.class));
+        double projectedMicros = measure(() -> messageRepository.findHistoryPage(ROOM_ID, before, page).getContent());
+
+        System.out.printf("[history-benchmark] messages/page=%d readers/message=%d%n", PAGE_SIZE, READERS_PER_MESSAGE);
+        System.out.printf("[history-benchmark] full entity : %,d bytes/page, %.1f us/page%n", fullBytes, fullMicros);
+        System.out.printf("[history-benchmark] projection  : %,d bytes/page, %.1f us/page%n", projectedBytes, projectedMicros);
+
+        assertThat(projectedBytes).isLessThan(fullBytes);
+    }
+
+    private Query historyQuery(LocalDateTime before) {
+        return new Query(Criteria.where("room").is(ROOM_ID)
+                .and("isDeleted").is(false)
+                .and("timestamp").lt(before))
+                .with(Sort.by("timestamp").descending())
+                .limit(PAGE_SIZE);
+    }
+
+    /**
+     * 서버가 내려주는 BSON 문서 크기 합 (디코딩 없이 원본 바이트로 측정)
+     */
+    private long wireBytes(Query query, Document fields) {
+        var find = mongoTemplate.getCollection("messages")
+                .withDocumentClass(RawBsonDocument.class)
+                .find(query.getQueryObject())
+                .sort(query.getSortObject())
+                .limit(PAGE_SIZE);
+        if (fields != null) {
+            find = find.projection(BsonDocument.parse(fields.toJson()));
+        }
+        long total = 0;
+        for (RawBsonDocument document : find) {
+            total += document.getByteBuffer().remaining();
+        }
+        return total;
+    }
+
+    private double measure(Supplier<List<Message>> read) {
+        for (int i = 0; i < WARMUP; i++) {
+            read.get();
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertThat(read.get()).hasSize(PAGE_SIZE);
+        }
+        return (System.nanoTime() - started) / 1_000.0 / ITERATIONS;
+    }
+
+    private Message largeRoomMessage(LocalDateTime timestamp) {
+        List<Message.MessageReader> readers = new ArrayList<>(READERS_PER_MESSAGE);
+        for (int i = 0; i < READERS_PER_MESSAGE; i++) {
+            readers.add(new Message.MessageReader("user-" + i, timestamp.plusSeconds(i)));
+        }
+        Map<String, Set<String>> reactions = new HashMap<>();
+        reactions.put("👍", new HashSet<>(List.of("user-1", "user-2", "user-3")));
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("client", "web");
+        metadata.put("locale", "ko-KR");
+
+        return Message.builder()
+                .roomId(ROOM_ID)
+                .senderId("user-0")
+                .content("벤치마크 메시지 " + timestamp)
+                .type(MessageType.text)
+                .mentions(List.of("user-1", "user-2"))
+                .timestamp(timestamp)
+                .reactions(reactions)
+                .readers(readers)
+                .metadata(metadata)
+                .isDeleted(false)
+                .build();
+    }
+}
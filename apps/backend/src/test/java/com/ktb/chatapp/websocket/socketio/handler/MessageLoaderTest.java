@@ -105,8 +105,8 @@ class MessageLoaderTest {
         // [21시간 전, 22시간 전, ..., 50시간 전]
         var messagePage = getMessagePage(first30Messages);
         
-        when(messageRepository.findByRoomIdAndIsDeletedAndTimestampBefore(
-                eq(roomId), eq(false), any(LocalDateTime.class), any(Pageable.class)))
+        when(messageRepository.findHistoryPage(
+                eq(roomId), any(LocalDateTime.class), any(Pageable.class)))
                 .thenReturn(messagePage);
         
         // When: 메시지 로드
@@ -139,8 +139,8 @@ class MessageLoaderTest {
         // [1시간 전, 2시간 전, ..., 30시간 전]
         Page<Message> messagePage = getMessagePage(last30Messages);
         
-        when(messageRepository.findByRoomIdAndIsDeletedAndTimestampBefore(
-                eq(roomId), eq(false), any(LocalDateTime.class), any(Pageable.class)))
+        when(messageRepository.findHistoryPage(
+                eq(roomId), any(LocalDateTime.class), any(Pageable.class)))
                 .thenReturn(messagePage);
         
         // When: 초기 메시지 로드
@@ -163,11 +163,28 @@ class MessageLoaderTest {
         }
     }
     
+    @Test
+    @DisplayName("loadMessages: 발신자는 페이지당 한 번에 조회")
+    void loadMessages_shouldFetchSendersInOneBatch() {
+        Page<Message> messagePage = getMessagePage(testMessages.subList(20, 50));
+        when(messageRepository.findHistoryPage(
+                eq(roomId), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(messagePage);
+
+        FetchMessagesRequest req = new FetchMessagesRequest(roomId, 30, null);
+        FetchMessagesResponse result = messageLoader.loadMessages(req, userId);
+
+        assertThat(result.messages()).allSatisfy(message ->
+                assertThat(message.sender().id()).isEqualTo(userId));
+        verify(userRepository, times(1)).findAllById(anySet());
+        verify(userRepository, never()).findById(anyString());
+    }
+    
     @Test
     @DisplayName("loadInitialMessages: 에러 시 빈 응답")
     void loadInitialMessages_shouldReturnEmptyOnError() {
-        when(messageRepository.findByRoomIdAndIsDeletedAndTimestampBefore(
-                any(), anyBoolean(), any(LocalDateTime.class), any(Pageable.class)))
+        when(messageRepository.findHistoryPage(
+                any(), any(LocalDateTime.class), any(Pageable.class)))
                 .thenThrow(new RuntimeException("DB error"));
         
         FetchMessagesRequest req = new FetchMessagesRequest(roomId, 30, null);
@@ -0,0 +1,102 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.ktb.chatapp.dto.FileResponse;
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.model.FileSnapshot;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.repository.FileRepository;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MessageResponseMapperTest {
+
+    @Mock
+    private FileRepository fileRepository;
+
+    private MessageResponseMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new MessageResponseMapper(fileRepository);
+    }
+
+    @Test
+    void fileMessage_usesEmbeddedSnapshotWithoutFileLookup() {
+        Message message = fileMessage();
+        message.attachFileMetadata(File.builder()
+                .id("file-1")
+                .filename("a.png")
+                .originalname("사진.png")
+                .mimetype("image/png")
+                .size(2048)
+                .build());
+
+        FileResponse response = mapper.mapToMessageResponse(message, null).file();
+
+        assertThat(response).isEqualTo(new FileResponse("a.png", "사진.png", "image/png", 2048));
+        assertThat(message.getMetadata()).containsEntry("fileName", "a.png");
+        verify(fileRepository, never()).findById(any());
+    }
+
+    @Test
+    void legacyMessage_usesCompleteMetadataWithoutFileLookup() {
+        Message message = fileMessage();
+        message.setMetadata(new HashMap<>(Map.of(
+                "fileName", "a.png",
+                "originalName", "a.png",
+                "fileType", "image/png",
+                "fileSize", 10)));
+
+        FileResponse response = mapper.toFileResponse(message);
+
+        assertThat(response.size()).isEqualTo(10);
+        verify(fileRepository, never()).findById(any());
+    }
+
+    @Test
+    void legacyMessage_withoutMetadata_fallsBackToFilesCollection() {
+        Message message = fileMessage();
+        message.setMetadata(null);
+        when(fileRepository.findById("file-1")).thenReturn(Optional.of(File.builder()
+                .id("file-1")
+                .filename("a.png")
+                .originalname("a.png")
+                .mimetype("image/png")
+                .size(10)
+                .build()));
+
+        assertThat(mapper.toFileResponse(message).filename()).isEqualTo("a.png");
+    }
+
+    @Test
+    void snapshotOnly_isEnough() {
+        Message message = fileMessage();
+        message.setFileSnapshot(new FileSnapshot("b.pdf", "b.pdf", "application/pdf", 5));
+
+        assertThat(mapper.toFileResponse(message).mimetype()).isEqualTo("application/pdf");
+    }
+
+    private Message fileMessage() {
+        Message message = new Message();
+        message.setId("message-1");
+        message.setType(MessageType.file);
+        message.setFileId("file-1");
+        message.setTimestamp(LocalDateTime.now());
+        return message;
+    }
+}
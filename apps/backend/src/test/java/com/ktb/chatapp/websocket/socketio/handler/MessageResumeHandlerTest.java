@@ -0,0 +1,80 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.dto.ResumeMessagesRequest;
+import com.ktb.chatapp.dto.ResumeMessagesResponse;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.websocket.socketio.LocalRoomMessageLog;
+import com.ktb.chatapp.websocket.socketio.SocketUser;
+import com.ktb.chatapp.websocket.socketio.UserRooms;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.MESSAGES_RESUMED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MessageResumeHandlerTest {
+
+    @Mock private UserRooms userRooms;
+    @Mock private SocketIOClient client;
+
+    private LocalRoomMessageLog roomMessageLog;
+    private MessageResumeHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        roomMessageLog = new LocalRoomMessageLog(10);
+        handler = new MessageResumeHandler(roomMessageLog, userRooms, new SimpleMeterRegistry());
+        when(client.get("user")).thenReturn(new SocketUser("user1", "Tester", "session", "socket"));
+        for (int i = 0; i < 4; i++) {
+            long seq = roomMessageLog.nextSeq("room1");
+            roomMessageLog.append("room1", new MessageResponse("m" + seq, "hi", null, MessageType.text,
+                    null, seq, Map.of(), List.of(), seq));
+        }
+    }
+
+    @Test
+    void handleResume_sendsOnlyMissedMessages() {
+        when(userRooms.isInRoom("user1", "room1")).thenReturn(true);
+
+        handler.handleResume(client, new ResumeMessagesRequest("room1", 2L));
+
+        verify(client).joinRoom("room1");
+        ResumeMessagesResponse response = resumed();
+        assertThat(response.complete()).isTrue();
+        assertThat(response.lastSeq()).isEqualTo(4);
+        assertThat(response.messages()).extracting(MessageResponse::seq).containsExactly(3L, 4L);
+    }
+
+    @Test
+    void handleResume_asksForReloadWhenNoLongerInRoom() {
+        when(userRooms.isInRoom("user1", "room1")).thenReturn(false);
+
+        handler.handleResume(client, new ResumeMessagesRequest("room1", 2L));
+
+        verify(client, never()).joinRoom(anyString());
+        ResumeMessagesResponse response = resumed();
+        assertThat(response.complete()).isFalse();
+        assertThat(response.messages()).isEmpty();
+    }
+
+    private ResumeMessagesResponse resumed() {
+        ArgumentCaptor<ResumeMessagesResponse> response = ArgumentCaptor.forClass(ResumeMessagesResponse.class);
+        verify(client).sendEvent(eq(MESSAGES_RESUMED), response.capture());
+        return response.getValue();
+    }
+}
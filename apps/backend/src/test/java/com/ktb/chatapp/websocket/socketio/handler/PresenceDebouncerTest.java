@@ -0,0 +1,163 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.ktb.chatapp.websocket.socketio.ConnectedUsers;
+import com.ktb.chatapp.websocket.socketio.SocketUser;
+import com.ktb.chatapp.websocket.socketio.UserRooms;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PresenceDebouncerTest {
+
+    private static final long GRACE_MS = 10_000;
+
+    @Mock private TaskScheduler taskScheduler;
+    @Mock private ConnectedUsers connectedUsers;
+    @Mock private UserRooms userRooms;
+    @Mock private RoomLeaveHandler roomLeaveHandler;
+
+    private final List<ManualTask> scheduled = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private PresenceDebouncer debouncer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        debouncer = new PresenceDebouncer(taskScheduler, connectedUsers, userRooms, roomLeaveHandler,
+                meterRegistry, GRACE_MS);
+        when(taskScheduler.schedule(any(Runnable.class), any(Instant.class))).thenAnswer(invocation -> {
+            ManualTask task = new ManualTask(invocation.getArgument(0), invocation.getArgument(1));
+            scheduled.add(task);
+            return task;
+        });
+    }
+
+    @Test
+    void rejoinWithinGraceWindow_cancelsPendingLeave() {
+        debouncer.scheduleLeave("user1", "Tester");
+
+        assertThat(debouncer.cancelLeave("user1")).isTrue();
+        elapseGraceWindow();
+
+        verify(roomLeaveHandler, never()).leaveRoom(anyString(), anyString(), anyString());
+        assertThat(leaveCount("cancelled")).isEqualTo(1.0);
+        assertThat(leaveCount("expired")).isZero();
+    }
+
+    @Test
+    void graceWindowExpiry_emitsExactlyOneLeavePerRoom() {
+        when(userRooms.get("user1")).thenReturn(Set.of("room1"));
+
+        // 유예 중 연결이 한 번 더 끊겨도 마지막 예약만 남음
+        debouncer.scheduleLeave("user1", "Tester");
+        debouncer.scheduleLeave("user1", "Tester");
+        elapseGraceWindow();
+
+        verify(roomLeaveHandler, times(1)).leaveRoom("user1", "Tester", "room1");
+        assertThat(scheduled.get(0).isCancelled()).isTrue();
+        assertThat(scheduled.get(1).runAt).isAfterOrEqualTo(Instant.now().plusMillis(GRACE_MS - 1_000));
+        assertThat(leaveCount("expired")).isEqualTo(1.0);
+        assertThat(debouncer.cancelLeave("user1")).isFalse();
+    }
+
+    @Test
+    void graceWindowExpiry_skipsLeaveWhenUserReconnectedOnAnotherNode() {
+        when(connectedUsers.get("user1")).thenReturn(new SocketUser("user1", "Tester", "session", "socket"));
+
+        debouncer.scheduleLeave("user1", "Tester");
+        elapseGraceWindow();
+
+        verify(roomLeaveHandler, never()).leaveRoom(anyString(), anyString(), anyString());
+        assertThat(leaveCount("expired")).isZero();
+    }
+
+    private void elapseGraceWindow() {
+        List.copyOf(scheduled).forEach(ManualTask::runIfPending);
+    }
+
+    private double leaveCount(String result) {
+        return meterRegistry.get("socketio.presence.leave").tag("result", result).counter().count();
+    }
+
+    /**
+     * 테스트가 직접 실행 시점을 정하는 예약 작업
+     */
+    private static final class ManualTask implements ScheduledFuture<Object> {
+
+        private final Runnable runnable;
+        private final Instant runAt;
+        private boolean cancelled;
+        private boolean done;
+
+        private ManualTask(Runnable runnable, Instant runAt) {
+            this.runnable = runnable;
+            this.runAt = runAt;
+        }
+
+        void runIfPending() {
+            if (!cancelled && !done) {
+                done = true;
+                runnable.run();
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (done || cancelled) {
+                return false;
+            }
+            cancelled = true;
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public boolean isDone() {
+            return done || cancelled;
+        }
+
+        @Override
+        public Object get() {
+            return null;
+        }
+
+        @Override
+        public Object get(long timeout, TimeUnit unit) {
+            return null;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(runAt.toEpochMilli() - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+        }
+    }
+}
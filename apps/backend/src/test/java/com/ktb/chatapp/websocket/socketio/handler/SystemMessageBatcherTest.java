@@ -0,0 +1,176 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.BroadcastOperations;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.repository.FileRepository;
+import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.websocket.socketio.LocalRoomMessageLog;
+import com.ktb.chatapp.websocket.socketio.RoomMessageLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.MESSAGE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SystemMessageBatcherTest {
+
+    @Mock private SocketIOServer socketIOServer;
+    @Mock private BroadcastOperations roomOperations;
+    @Mock private MessageRepository messageRepository;
+    @Mock private FileRepository fileRepository;
+
+    private LocalRoomMessageLog roomMessageLog;
+    private SystemMessageBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        roomMessageLog = new LocalRoomMessageLog(10);
+        batcher = new SystemMessageBatcher(socketIOServer, messageRepository,
+                new MessageResponseMapper(fileRepository), roomMessageLog, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void flush_mergesConsecutiveJoinsAndLeavesInArrivalOrder() {
+        stubSaveAndBroadcast();
+        batcher.joined("room1", "Alice");
+        batcher.joined("room1", "Bob");
+        batcher.joined("room1", "Carol");
+        batcher.left("room1", "Dave");
+        batcher.left("room1", "Erin");
+
+        batcher.flush();
+
+        assertThat(savedBatch())
+                .allSatisfy(message -> {
+                    assertThat(message.getRoomId()).isEqualTo("room1");
+                    assertThat(message.getType()).isEqualTo(MessageType.system);
+                })
+                .extracting(Message::getContent)
+                .containsExactly(
+                        "Alice님, Bob님, Carol님이 입장하였습니다.",
+                        "Dave님, Erin님이 퇴장하였습니다.");
+        verify(roomOperations, times(2)).sendEvent(eq(MESSAGE), any(MessageResponse.class));
+    }
+
+    @Test
+    void flush_splitsWhereKindChangesSoLeaveNeverPrecedesJoin() {
+        stubSaveAndBroadcast();
+        batcher.joined("room1", "Alice");
+        batcher.left("room1", "Alice");
+        batcher.joined("room1", "Alice");
+        batcher.joined("room1", "Bob");
+
+        batcher.flush();
+
+        List<Message> saved = savedBatch();
+        assertThat(saved).extracting(Message::getContent)
+                .containsExactly(
+                        "Alice님이 입장하였습니다.",
+                        "Alice님이 퇴장하였습니다.",
+                        "Alice님, Bob님이 입장하였습니다.");
+        assertThat(saved).extracting(Message::getSeq).containsExactly(1L, 2L, 3L);
+        ArgumentCaptor<MessageResponse> sent = ArgumentCaptor.forClass(MessageResponse.class);
+        verify(roomOperations, times(3)).sendEvent(eq(MESSAGE), sent.capture());
+        assertThat(sent.getAllValues()).extracting(MessageResponse::content)
+                .containsExactly(
+                        "Alice님이 입장하였습니다.",
+                        "Alice님이 퇴장하였습니다.",
+                        "Alice님, Bob님이 입장하였습니다.");
+    }
+
+    @Test
+    void flush_dedupesNamesAndSummarizesOverflow() {
+        stubSaveAndBroadcast();
+        for (String name : List.of("A", "B", "A", "C", "D", "E", "F", "G")) {
+            batcher.joined("room1", name);
+        }
+
+        batcher.flush();
+
+        assertThat(savedBatch()).extracting(Message::getContent)
+                .containsExactly("A님, B님, C님, D님, E님 외 2명이 입장하였습니다.");
+    }
+
+    @Test
+    void flush_singleJoinUsesSingularContent() {
+        stubSaveAndBroadcast();
+        batcher.joined("room1", "Alice");
+
+        batcher.flush();
+
+        assertThat(savedBatch()).extracting(Message::getContent)
+                .containsExactly("Alice님이 입장하였습니다.");
+    }
+
+    @Test
+    void flush_withNothingPendingDoesNotTouchRepository() {
+        batcher.flush();
+
+        verify(messageRepository, never()).saveAll(anyList());
+        verifyNoInteractions(socketIOServer);
+    }
+
+    @Test
+    void flush_drainsPendingSoNextFlushDoesNotRepeat() {
+        stubSaveAndBroadcast();
+        batcher.joined("room1", "Alice");
+
+        batcher.flush();
+        batcher.flush();
+
+        verify(messageRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void flush_systemMessageBetweenChatMessagesIsPartOfResumeGap() {
+        stubSaveAndBroadcast();
+        appendChatMessage(); // 클라이언트가 마지막으로 받은 메시지 (seq 1)
+        batcher.joined("room1", "Alice");
+
+        batcher.flush();
+        appendChatMessage();
+
+        assertThat(savedBatch()).extracting(Message::getSeq).containsExactly(2L);
+        List<MessageResponse> missed = roomMessageLog.since("room1", 1L).orElseThrow();
+        assertThat(missed).extracting(MessageResponse::type)
+                .containsExactly(MessageType.system, MessageType.text);
+        assertThat(RoomMessageLog.coversGap(1L, 3L, missed)).isTrue();
+    }
+
+    private void appendChatMessage() {
+        long seq = roomMessageLog.nextSeq("room1");
+        roomMessageLog.append("room1", new MessageResponse("m" + seq, "hi", null, MessageType.text,
+                null, seq, Map.of(), List.of(), seq));
+    }
+
+    private void stubSaveAndBroadcast() {
+        when(messageRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(socketIOServer.getRoomOperations("room1")).thenReturn(roomOperations);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Message> savedBatch() {
+        ArgumentCaptor<List<Message>> captor = ArgumentCaptor.forClass(List.class);
+        verify(messageRepository).saveAll(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -181,15 +181,14 @@ const FileMessage = ({
         );
       }
 
-      // S3 public URL 사용 (인증 불필요)
+      // 인증 정보가 있으면 축소된 미리보기(최대 800px) 사용, 없으면 S3 public URL 원본 사용
       let imageUrl;
-      if (msg.file.url) {
+      if (user?.token && user?.sessionId) {
+        imageUrl = fileService.getPreviewUrl(msg.file, user.token, user.sessionId, true, "preview");
+      } else if (msg.file.url) {
         imageUrl = msg.file.url;
       } else {
-        if (!user?.token || !user?.sessionId) {
-          throw new Error("인증 정보가 없습니다.");
-        }
-        imageUrl = fileService.getPreviewUrl(msg.file, user?.token, user?.sessionId, true);
+        throw new Error("인증 정보가 없습니다.");
       }
 
       return (
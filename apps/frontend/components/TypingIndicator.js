@@ -0,0 +1,21 @@
+import React from 'react';
+import { HStack, Text } from '@vapor-ui/core';
+
+const TypingIndicator = ({ typingUsers = [] }) => {
+  if (typingUsers.length === 0) return null;
+
+  const names = typingUsers.map(user => user.name || '알 수 없음');
+  const label = names.length <= 2
+    ? `${names.join(', ')}님이 입력 중...`
+    : `${names.slice(0, 2).join(', ')}님 외 ${names.length - 2}명이 입력 중...`;
+
+  return (
+    <HStack paddingX="$400" paddingY="$050" aria-live="polite">
+      <Text typography="subtitle2" className="text-v-gray-500">
+        {label}
+      </Text>
+    </HStack>
+  );
+};
+
+export default React.memo(TypingIndicator);
@@ -7,4 +7,5 @@ export { default as useRoomHandling } from './useRoomHandling';
 export { default as useSocketHandling } from './useSocketHandling';
 export { default as useInfiniteScroll } from './useInfiniteScroll';
 export { default as useScrollRestoration } from './useScrollRestoration';
-export { default as useAutoScroll } from './useAutoScroll';
\ No newline at end of file
+export { default as useAutoScroll } from './useAutoScroll';
+export { default as useTypingIndicator } from './useTypingIndicator';
\ No newline at end of file
@@ -7,6 +7,7 @@ import { useMessageHandling } from './useMessageHandling';
 import { useReactionHandling } from './useReactionHandling';
 import { useSocketHandling } from './useSocketHandling';
 import { useRoomHandling } from './useRoomHandling';
+import { useTypingIndicator } from './useTypingIndicator';
 import { Toast } from '../components/Toast';
 
 const CLEANUP_REASONS = {
@@ -41,11 +42,15 @@ export const useChatRoom = () => {
   const cleanupInProgressRef = useRef(false);
   const cleanupCountRef = useRef(0);
   const userRooms = useRef(new Map());
+  const participantsVersionRef = useRef(-1);
   const previousMessagesRef = useRef(new Set());
   const messageProcessingRef = useRef(false);
   const initialLoadCompletedRef = useRef(false);
   const processedMessageIds = useRef(new Set());
   const loadMoreTimeoutRef = useRef(null);
+  // 방별로 수신한 최대 seq (재연결 시 resumeMessages 기준)
+  const lastSeqRef = useRef(new Map());
+  const resumeOnConnectRef = useRef(false);
 
   // Socket handling setup
   const {
@@ -82,6 +87,27 @@ export const useChatRoom = () => {
     removeFilePreview
   } = useMessageHandling(socketRef, currentUser, router, undefined, messages, loadingMessages, setLoadingMessages);
 
+  // 입력 중 표시 (입력 시 typing 전송, 다른 참여자의 userTyping 수신)
+  const {
+    typingUsers,
+    notifyTyping,
+    stopTyping
+  } = useTypingIndicator(socketRef, router.query.room, currentUser, connected);
+
+  const handleTypingMessageChange = useCallback((e) => {
+    handleMessageChange(e);
+    if (e.target.value) {
+      notifyTyping();
+    } else {
+      stopTyping();
+    }
+  }, [handleMessageChange, notifyTyping, stopTyping]);
+
+  const handleTypingMessageSubmit = useCallback((messageData) => {
+    stopTyping();
+    return handleMessageSubmit(messageData);
+  }, [handleMessageSubmit, stopTyping]);
+
   // Cleanup 함수 수정
   const cleanup = useCallback((reason = 'MANUAL') => {
     if (!mountedRef.current || !router.query.room) return;
@@ -103,7 +129,11 @@ export const useChatRoom = () => {
         socketRef.current.off('message');
         socketRef.current.off('previousMessages');
         socketRef.current.off('previousMessagesLoaded');
+        socketRef.current.off('messagesResumed');
         socketRef.current.off('participantsUpdate');
+        socketRef.current.off('participantsSnapshot');
+        socketRef.current.off('participantAdded');
+        socketRef.current.off('participantRemoved');
         socketRef.current.off('messagesRead');
         socketRef.current.off('messageReactionUpdate');
         socketRef.current.off('session_ended');
@@ -118,6 +148,7 @@ export const useChatRoom = () => {
 
       // Reset refs
       processedMessageIds.current.clear();
+      participantsVersionRef.current = -1;
       previousMessagesRef.current.clear();
       messageProcessingRef.current = false;
 
@@ -127,6 +158,8 @@ export const useChatRoom = () => {
         setLoading(false);
         setLoadingMessages(false);
         setMessages([]);
+        lastSeqRef.current.clear();
+        resumeOnConnectRef.current = false;
         
         if (userRooms.current.size > 0) {
           userRooms.current.clear();
@@ -166,6 +199,28 @@ export const useChatRoom = () => {
     handleReactionUpdate
   } = useReactionHandling(socketRef, currentUser, messages, setMessages);
 
+  // 수신한 메시지 중 가장 큰 seq 기록 (seq가 없는 시스템 메시지 등은 무시)
+  const trackLastSeq = useCallback((roomId, receivedMessages) => {
+    if (!roomId) return;
+    let lastSeq = lastSeqRef.current.get(roomId) || 0;
+    for (const msg of receivedMessages) {
+      if (typeof msg?.seq === 'number' && msg.seq > lastSeq) {
+        lastSeq = msg.seq;
+      }
+    }
+    lastSeqRef.current.set(roomId, lastSeq);
+  }, []);
+
+  // 재연결 후 놓친 메시지만 요청 (전체 재로딩 대신)
+  const resumeMessages = useCallback(() => {
+    const roomId = router.query.room;
+    if (!roomId || !socketRef.current?.connected) return;
+    socketRef.current.emit('resumeMessages', {
+      roomId,
+      lastSeq: lastSeqRef.current.get(roomId) || 0
+    });
+  }, [router.query.room, socketRef]);
+
   // 메시지 처리 유틸리티 함수 (최적화: 단일 순회로 필터링+중복제거+정렬)
   const processMessages = useCallback((loadedMessages, hasMore, isInitialLoad = false) => {
     try {
@@ -173,6 +228,8 @@ export const useChatRoom = () => {
         throw new Error('Invalid messages format');
       }
 
+      trackLastSeq(router.query.room, loadedMessages);
+
       setMessages(prev => {
         // 단일 Map으로 기존 메시지 + 새 메시지 병합 (중복 제거 포함)
         const messageMap = new Map();
@@ -232,7 +289,7 @@ export const useChatRoom = () => {
     } catch (error) {
       throw error;
     }
-  }, [setMessages, setHasMoreMessages]);
+  }, [setMessages, setHasMoreMessages, trackLastSeq, router.query.room]);
 
   // Cleanup 함수 수정
   const setupEventListeners = useCallback(() => {
@@ -247,6 +304,45 @@ export const useChatRoom = () => {
       }));
     });
 
+    // 참가자 전체 스냅샷 (입장 시, 버전 누락 후 재요청 시)
+    socketRef.current.on('participantsSnapshot', ({ roomId, version, participants }) => {
+      if (!mountedRef.current || roomId !== router.query.room) return;
+      participantsVersionRef.current = version;
+      setRoom(prev => ({
+        ...prev,
+        participants: participants || []
+      }));
+    });
+
+    // 참가자 diff 적용: 다음 버전이면 반영, 이미 반영된 버전이면 멱등 처리, 누락 시 스냅샷 재요청
+    const applyParticipantDiff = (roomId, version, update) => {
+      if (!mountedRef.current || roomId !== router.query.room) return;
+      const known = participantsVersionRef.current;
+      if (known >= 0 && version > known + 1) {
+        socketRef.current?.emit('fetchParticipants', roomId);
+        return;
+      }
+      participantsVersionRef.current = Math.max(known, version);
+      setRoom(prev => prev ? ({
+        ...prev,
+        participants: update(prev.participants || [])
+      }) : prev);
+    };
+
+    socketRef.current.on('participantAdded', ({ roomId, version, participant }) => {
+      applyParticipantDiff(roomId, version, (participants) => {
+        const participantId = participant.id;
+        const others = participants.filter(p => (p._id || p.id) !== participantId);
+        return [...others, participant];
+      });
+    });
+
+    socketRef.current.on('participantRemoved', ({ roomId, version, userId }) => {
+      applyParticipantDiff(roomId, version, (participants) =>
+        participants.filter(p => (p._id || p.id) !== userId)
+      );
+    });
+
     // 읽음 상태 업데이트 이벤트 (메시지 목록의 readers 배열 업데이트)
     socketRef.current.on('messagesRead', ({ userId, messageIds, timestamp }) => {
       if (!mountedRef.current) return;
@@ -282,6 +378,7 @@ export const useChatRoom = () => {
       }
 
       processedMessageIds.current.add(message._id);
+      trackLastSeq(router.query.room, [message]);
 
       setMessages(prev => {
         const isDuplicate = prev.some(msg => msg._id === message._id);
@@ -322,6 +419,28 @@ export const useChatRoom = () => {
     socketRef.current.on('previousMessages', handlePreviousMessages);
     socketRef.current.on('previousMessagesLoaded', handlePreviousMessages);
 
+    // 재연결 후 놓친 메시지 재전송: 연속 구간이면 그대로 병합, 아니면 최근 메시지 다시 조회
+    socketRef.current.on('messagesResumed', ({ roomId, messages: resumed = [], complete }) => {
+      if (!mountedRef.current || roomId !== router.query.room) return;
+
+      if (!complete) {
+        setLoadingMessages(true);
+        socketRef.current?.emit('fetchPreviousMessages', { roomId, limit: 30 });
+        return;
+      }
+
+      const missed = resumed.filter(msg => msg?._id && !processedMessageIds.current.has(msg._id));
+      if (missed.length === 0) return;
+
+      missed.forEach(msg => processedMessageIds.current.add(msg._id));
+      trackLastSeq(roomId, missed);
+      setMessages(prev => {
+        const known = new Set(prev.map(msg => msg._id));
+        const added = missed.filter(msg => !known.has(msg._id));
+        return added.length > 0 ? [...prev, ...added] : prev;
+      });
+    });
+
     // 리액션 이벤트
     socketRef.current.on('messageReactionUpdate', (data) => {
       if (!mountedRef.current) return;
@@ -349,7 +468,7 @@ export const useChatRoom = () => {
       setError(error.message || '채팅 연결에 문제가 발생했습니다.');
     });
 
-  }, [processMessages, setHasMoreMessages, cleanup, handleReactionUpdate, setLoadingMessages, setError, logout]);
+  }, [processMessages, trackLastSeq, setHasMoreMessages, cleanup, handleReactionUpdate, setLoadingMessages, setError, logout]);
 
   // Room handling hook initialization
   const {
@@ -383,11 +502,24 @@ export const useChatRoom = () => {
   useEffect(() => {
     if (!socketRef.current || !currentUser) return;
 
+    // 이미 입장했던 방에 재연결된 경우 놓친 메시지만 이어받음
+    // (방 재참여는 서버가 핸드셰이크 후 처리)
+    const resumeAfterReconnect = () => {
+      if (!resumeOnConnectRef.current || !router.query.room) return false;
+      resumeOnConnectRef.current = false;
+      socketInitializedRef.current = true;
+      setupCompleteRef.current = true;
+      resumeMessages();
+      return true;
+    };
+
     const handleConnect = () => {
       if (!mountedRef.current) return;
       setConnectionStatus('connected');
       setConnected(true);
 
+      if (resumeAfterReconnect()) return;
+
       if (router.query.room && !setupCompleteRef.current &&
           !initializingRef.current && !isInitialized) {
         socketInitializedRef.current = true;
@@ -400,6 +532,9 @@ export const useChatRoom = () => {
     const handleDisconnect = (reason) => {
       if (!mountedRef.current) return;
       setConnectionStatus('disconnected');
+      if (setupCompleteRef.current) {
+        resumeOnConnectRef.current = true;
+      }
       socketInitializedRef.current = false;
       setupCompleteRef.current = false;
     };
@@ -421,12 +556,8 @@ export const useChatRoom = () => {
       setConnected(true);
       setError('');
 
-      // 재연결 시 채팅방 재접속
-      if (router.query.room) {
-        setupRoom().catch(() => {
-          setError('채팅방 재연결에 실패했습니다.');
-        });
-      }
+      // 재연결 시 놓친 메시지 이어받기 (connect에서 이미 처리했으면 생략)
+      resumeAfterReconnect();
     };
 
     socketRef.current.on('connect', handleConnect);
@@ -446,7 +577,7 @@ export const useChatRoom = () => {
         socketRef.current.off('reconnect', handleReconnectSuccess);
       }
     };
-  }, [router.query.room, setupRoom, setConnected, currentUser, isInitialized, setError]);
+  }, [router.query.room, setupRoom, resumeMessages, setConnected, currentUser, isInitialized, setError]);
 
   // Component initialization and cleanup
   useEffect(() => {
@@ -536,9 +667,9 @@ export const useChatRoom = () => {
   const handleKeyDown = useCallback((e) => {
     if (e.key === 'Enter' && !e.shiftKey) {
       e.preventDefault();
-      handleMessageSubmit(e);
+      handleTypingMessageSubmit(e);
     }
-  }, [handleMessageSubmit]);
+  }, [handleTypingMessageSubmit]);
 
   return {
     // State
@@ -559,6 +690,7 @@ export const useChatRoom = () => {
     uploadError,
     hasMoreMessages,
     loadingMessages,
+    typingUsers,
 
     // Refs
     fileInputRef,
@@ -566,8 +698,8 @@ export const useChatRoom = () => {
     socketRef,
 
     // Handlers
-    handleMessageChange,
-    handleMessageSubmit,
+    handleMessageChange: handleTypingMessageChange,
+    handleMessageSubmit: handleTypingMessageSubmit,
     handleEmojiToggle,
     handleKeyDown,
     handleConnectionError,
@@ -0,0 +1,100 @@
+import { useState, useEffect, useRef, useCallback } from 'react';
+
+// 입력 중 상태 재전송 간격 (서버는 같은 상태를 1초 안에 반복하면 버림)
+const TYPING_REFRESH_MS = 3000;
+// 마지막 입력 후 이 시간이 지나면 입력 중단 신호 전송
+const TYPING_IDLE_MS = 3000;
+// 신호가 유실될 수 있으므로 갱신이 없으면 표시를 자동으로 지움
+const TYPING_EXPIRE_MS = 6000;
+
+export const useTypingIndicator = (socketRef, roomId, currentUser, connected) => {
+  const [typingUsers, setTypingUsers] = useState([]);
+  const typingRef = useRef(false);
+  const lastSentRef = useRef(0);
+  const idleTimerRef = useRef(null);
+  const expireTimersRef = useRef(new Map());
+
+  const emitTyping = useCallback((isTyping) => {
+    if (!roomId || !socketRef.current?.connected) return;
+    socketRef.current.emit('typing', { roomId, isTyping });
+    typingRef.current = isTyping;
+    lastSentRef.current = isTyping ? Date.now() : 0;
+  }, [socketRef, roomId]);
+
+  const stopTyping = useCallback(() => {
+    if (idleTimerRef.current) {
+      clearTimeout(idleTimerRef.current);
+      idleTimerRef.current = null;
+    }
+    if (typingRef.current) {
+      emitTyping(false);
+    }
+  }, [emitTyping]);
+
+  // 입력할 때마다 호출 (입력 중 신호는 TYPING_REFRESH_MS마다 한 번만 전송)
+  const notifyTyping = useCallback(() => {
+    if (!typingRef.current || Date.now() - lastSentRef.current >= TYPING_REFRESH_MS) {
+      emitTyping(true);
+    }
+    if (idleTimerRef.current) {
+      clearTimeout(idleTimerRef.current);
+    }
+    idleTimerRef.current = setTimeout(stopTyping, TYPING_IDLE_MS);
+  }, [emitTyping, stopTyping]);
+
+  useEffect(() => {
+    const socket = socketRef.current;
+    if (!socket || !connected || !roomId) return;
+
+    const expireTimers = expireTimersRef.current;
+
+    const removeUser = (userId) => {
+      const timer = expireTimers.get(userId);
+      if (timer) {
+        clearTimeout(timer);
+        expireTimers.delete(userId);
+      }
+      setTypingUsers(prev => prev.some(user => user.userId === userId)
+        ? prev.filter(user => user.userId !== userId)
+        : prev);
+    };
+
+    const handleUserTyping = ({ roomId: signalRoomId, userId, name, isTyping }) => {
+      if (signalRoomId !== roomId || !userId || userId === currentUser?.id) return;
+
+      if (!isTyping) {
+        removeUser(userId);
+        return;
+      }
+
+      const timer = expireTimers.get(userId);
+      if (timer) {
+        clearTimeout(timer);
+      }
+      expireTimers.set(userId, setTimeout(() => removeUser(userId), TYPING_EXPIRE_MS));
+      setTypingUsers(prev => prev.some(user => user.userId === userId)
+        ? prev
+        : [...prev, { userId, name }]);
+    };
+
+    socket.on('userTyping', handleUserTyping);
+
+    return () => {
+      socket.off('userTyping', handleUserTyping);
+      expireTimers.forEach(timer => clearTimeout(timer));
+      expireTimers.clear();
+      setTypingUsers([]);
+    };
+  }, [socketRef, connected, roomId, currentUser?.id]);
+
+  // 방을 떠나거나 언마운트될 때 입력 중단 신호 전송
+  useEffect(() => stopTyping, [stopTyping]);
+
+  return {
+    typingUsers,
+    notifyTyping,
+    stopTyping
+  };
+};
+
+export default useTypingIndicator;
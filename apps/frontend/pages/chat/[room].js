@@ -6,6 +6,7 @@ import { useChatRoom } from "../../hooks/useChatRoom";
 import ChatMessages from "@/components/ChatMessages";
 import ChatInput from "@/components/ChatInput";
 import ChatRoomInfo from "@/components/ChatRoomInfo";
+import TypingIndicator from "@/components/TypingIndicator";
 
 const ChatPage = () => {
   const {
@@ -45,6 +46,7 @@ const ChatPage = () => {
     loadingMessages,
     hasMoreMessages,
     handleLoadMore, // 페이징 핸들러 추가
+    typingUsers,
   } = useChatRoom();
 
   const renderLoadingState = () => (
@@ -169,6 +171,9 @@ const ChatPage = () => {
         {renderContent()}
       </VStack>
 
+      {/* 입력 중 표시 */}
+      <TypingIndicator typingUsers={typingUsers} />
+
       {/* 입력 영역 */}
       <ChatInput
         message={message}
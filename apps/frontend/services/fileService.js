@@ -81,32 +81,52 @@ class FileService {
     }
 
     try {
-      const formData = new FormData();
-      formData.append('file', file);
-
       const source = CancelToken.source();
       this.activeUploads.set(file.name, source);
 
-      const uploadUrl = this.baseUrl ?
-        `${this.baseUrl}/api/files/upload` :
-        '/api/files/upload';
+      const apiUrl = (path) => this.baseUrl ? `${this.baseUrl}${path}` : path;
+      const reportProgress = (progressEvent) => {
+        if (onProgress && progressEvent.total) {
+          const percentCompleted = Math.round(
+            (progressEvent.loaded * 100) / progressEvent.total
+          );
+          onProgress(percentCompleted);
+        }
+      };
 
-      // token과 sessionId는 axios 인터셉터에서 자동으로 추가되므로
-      // 여기서는 명시적으로 전달하지 않아도 됩니다
-      const response = await axiosInstance.post(uploadUrl, formData, {
-        headers: {
-          'Content-Type': 'multipart/form-data'
-        },
+      // 1. 서명된 업로드 URL 발급 (token과 sessionId는 axios 인터셉터에서 자동 추가)
+      const presignResponse = await axiosInstance.post(apiUrl('/api/files/presign'), {
+        filename: file.name,
+        contentType: file.type,
+        size: file.size
+      }, {
         cancelToken: source.token,
-        withCredentials: true,
-        onUploadProgress: (progressEvent) => {
-          if (onProgress) {
-            const percentCompleted = Math.round(
-              (progressEvent.loaded * 100) / progressEvent.total
-            );
-            onProgress(percentCompleted);
-          }
-        }
+        withCredentials: true
+      });
+
+      if (!presignResponse.data?.success) {
+        this.activeUploads.delete(file.name);
+        return {
+          success: false,
+          message: presignResponse.data?.message || '파일 업로드에 실패했습니다.'
+        };
+      }
+
+      // 2. 저장소에 직접 업로드 (인증 헤더가 붙지 않도록 기본 axios 사용, 서명 헤더는 그대로 전달)
+      const { key, uploadUrl, method, headers } = presignResponse.data.upload;
+      await axios.request({
+        url: uploadUrl,
+        method: method || 'PUT',
+        data: file,
+        headers,
+        cancelToken: source.token,
+        onUploadProgress: reportProgress
+      });
+
+      // 3. 업로드 완료 확인 후 파일 정보 등록
+      const response = await axiosInstance.post(apiUrl('/api/files/confirm'), { key }, {
+        cancelToken: source.token,
+        withCredentials: true
       });
 
       this.activeUploads.delete(file.name);
@@ -238,17 +258,18 @@ class FileService {
     return `${baseUrl}/api/files/${endpoint}/${filename}`;
   }
 
-  getPreviewUrl(file, token, sessionId, withAuth = true) {
+  getPreviewUrl(file, token, sessionId, withAuth = true, size = null) {
     if (!file?.filename) return '';
 
     const baseUrl = `${process.env.NEXT_PUBLIC_API_URL}/api/files/view/${file.filename}`;
+    const sizedUrl = size ? `${baseUrl}?size=${encodeURIComponent(size)}` : baseUrl;
 
-    if (!withAuth) return baseUrl;
+    if (!withAuth) return sizedUrl;
 
-    if (!token || !sessionId) return baseUrl;
+    if (!token || !sessionId) return sizedUrl;
 
     // URL 객체 생성 전 프로토콜 확인
-    const url = new URL(baseUrl);
+    const url = new URL(sizedUrl);
     url.searchParams.append('token', encodeURIComponent(token));
     url.searchParams.append('sessionId', encodeURIComponent(sessionId));
 
@@ -0,0 +1,102 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter, Rate, Trend } from 'k6/metrics';
+
+// 파일 다운로드 처리량 벤치마크
+// 같은 파일에 대해 전체 다운로드와 Range(구간) 다운로드를 동시에 실행하여
+// 변경 전/후 서버 빌드의 처리량(bytes/s)과 지연 시간을 비교한다.
+//
+// 사용법:
+//   k6 run -e API_URL=http://localhost:5001 -e EMAIL=... -e PASSWORD=... \
+//          -e FILE_NAME=<업로드된 파일명> -e VIEW=true k6-file-download.js
+
+const errorRate = new Rate('errors');
+const fullDuration = new Trend('download_full_duration');
+const rangeDuration = new Trend('download_range_duration');
+const firstByte = new Trend('download_ttfb');
+const bytesReceived = new Counter('download_bytes');
+
+const BASE_URL = __ENV.API_URL || 'http://localhost:5001';
+const FILE_NAME = __ENV.FILE_NAME;
+const ENDPOINT = __ENV.VIEW === 'true' ? 'view' : 'download';
+const RANGE_SIZE = parseInt(__ENV.RANGE_SIZE || `${1024 * 1024}`, 10); // 기본 1MB 구간
+const VUS = parseInt(__ENV.VUS || '20', 10);
+const DURATION = __ENV.DURATION || '60s';
+
+export const options = {
+  scenarios: {
+    full: {
+      executor: 'constant-vus',
+      vus: VUS,
+      duration: DURATION,
+      exec: 'fullDownload',
+    },
+    range: {
+      executor: 'constant-vus',
+      vus: VUS,
+      duration: DURATION,
+      exec: 'rangeDownload',
+    },
+  },
+  thresholds: {
+    errors: ['rate<0.01'],
+  },
+  discardResponseBodies: true,
+};
+
+export function setup() {
+  if (!FILE_NAME) {
+    throw new Error('FILE_NAME 환경 변수가 필요합니다 (채팅방에 업로드된 파일명)');
+  }
+
+  const loginRes = http.post(
+    `${BASE_URL}/api/auth/login`,
+    JSON.stringify({ email: __ENV.EMAIL, password: __ENV.PASSWORD }),
+    { headers: { 'Content-Type': 'application/json' } }
+  );
+  const body = JSON.parse(loginRes.body);
+
+  const headers = {
+    'Authorization': `Bearer ${body.token}`,
+    'x-session-id': body.sessionId,
+  };
+
+  // HEAD로 전체 크기 확인 (Range 요청 구간 계산용)
+  const headRes = http.head(`${BASE_URL}/api/files/${ENDPOINT}/${FILE_NAME}`, { headers });
+  const size = parseInt(headRes.headers['Content-Length'] || '0', 10);
+
+  return { headers, size };
+}
+
+export function fullDownload(data) {
+  const res = http.get(`${BASE_URL}/api/files/${ENDPOINT}/${FILE_NAME}`, {
+    headers: data.headers,
+    timeout: '60s',
+  });
+
+  const ok = check(res, { 'full status 200': (r) => r.status === 200 });
+  errorRate.add(!ok);
+  fullDuration.add(res.timings.duration);
+  firstByte.add(res.timings.waiting);
+  bytesReceived.add(parseInt(res.headers['Content-Length'] || '0', 10));
+}
+
+export function rangeDownload(data) {
+  // 동영상 탐색처럼 임의 위치의 구간 요청
+  const maxStart = Math.max(0, data.size - RANGE_SIZE);
+  const start = Math.floor(Math.random() * (maxStart + 1));
+  const end = Math.min(data.size - 1, start + RANGE_SIZE - 1);
+
+  const res = http.get(`${BASE_URL}/api/files/${ENDPOINT}/${FILE_NAME}`, {
+    headers: Object.assign({ 'Range': `bytes=${start}-${end}` }, data.headers),
+    timeout: '60s',
+  });
+
+  // 변경 전 서버는 Range를 무시하고 200 전체를 반환하므로 두 경우 모두 성공으로 집계
+  const ok = check(res, { 'range status 206/200': (r) => r.status === 206 || r.status === 200 });
+  check(res, { 'range honored (206)': (r) => r.status === 206 });
+  errorRate.add(!ok);
+  rangeDuration.add(res.timings.duration);
+  firstByte.add(res.timings.waiting);
+  bytesReceived.add(parseInt(res.headers['Content-Length'] || '0', 10));
+}